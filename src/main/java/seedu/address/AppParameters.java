@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.RunCommand;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private boolean isKeepGoing;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +29,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run on start up, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the script run on start up should skip failed commands, rather than undo all of its changes.
+     */
+    public boolean isKeepGoing() {
+        return isKeepGoing;
+    }
+
+    public void setKeepGoing(boolean isKeepGoing) {
+        this.isKeepGoing = isKeepGoing;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +65,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setKeepGoing(parameters.getUnnamed().contains(RunCommand.FLAG_KEEP_GOING));
+
         return appParameters;
     }
 
@@ -54,11 +87,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && isKeepGoing() == otherAppParameters.isKeepGoing();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isKeepGoing);
     }
 }
@@ -15,6 +15,10 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -56,7 +60,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                new FindCommandParser()::parsePredicates);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -64,10 +69,28 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        runScript(appParameters);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Runs the script of commands given on the command line, if any, before the UI starts, and logs its report.
+     * The address book is saved once after the script, as it is after any other command.
+     */
+    private void runScript(AppParameters appParameters) {
+        if (appParameters.getScriptPath() == null) {
+            return;
+        }
+        String flags = appParameters.isKeepGoing() ? " " + RunCommand.FLAG_KEEP_GOING : "";
+        String runCommand = RunCommand.COMMAND_WORD + flags + " " + appParameters.getScriptPath();
+        try {
+            logger.info(logic.execute(runCommand).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Could not run the script " + appParameters.getScriptPath() + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
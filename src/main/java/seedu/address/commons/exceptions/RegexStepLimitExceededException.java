@@ -0,0 +1,17 @@
+package seedu.address.commons.exceptions;
+
+/**
+ * Signals that matching a regular expression took more steps than it is allowed, and was aborted.
+ */
+public class RegexStepLimitExceededException extends RuntimeException {
+    private final String regex;
+
+    public RegexStepLimitExceededException(String regex) {
+        super("Matching the regular expression " + regex + " took too many steps");
+        this.regex = regex;
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+}
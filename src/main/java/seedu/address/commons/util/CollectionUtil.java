@@ -1,22 +1,22 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
-import seedu.address.logic.parser.exceptions.ParseException;
-
 /**
  * Utility methods related to Collections
  */
 public class CollectionUtil {
-    private static final String MESSAGE_NOT_VALID_CAP = "The cap value to search for that you inputted is invalid! "
-            + "Please input numeric values only!";
 
     /** @see #requireAllNonNull(Collection) */
     public static void requireAllNonNull(Object... items) {
@@ -40,21 +40,37 @@ public class CollectionUtil {
     }
 
     /**
-     * Rounds all cap values to be searched for to 2 decimal places.
-     * @param keywords
-     * @return List of keywords rounded to 2 decimal places
-     * @throws ParseException
+     * Returns the first {@code limit} of {@code elements} in the order of {@code comparator}, in that order, or all
+     * of them if there are fewer. Equal elements keep their order in {@code elements}.
+     * Only the first {@code limit} elements seen so far are kept in a bounded heap, so selecting them takes
+     * {@code O(n log limit)} time for {@code n} elements, without sorting all of them.
      */
-    public static List<String> roundCapKeywords(List<String> keywords) throws ParseException {
-        List<String> roundedKeywords = new ArrayList<>(keywords.size());
-        for (String keyword : keywords) {
-            try {
-                Double keywordValue = Double.valueOf(keyword);
-                roundedKeywords.add(String.format("%.2f", keywordValue));
-            } catch (NumberFormatException | NullPointerException e) {
-                throw new ParseException(MESSAGE_NOT_VALID_CAP);
+    public static <T> List<T> getFirstElements(List<? extends T> elements, Comparator<? super T> comparator,
+            int limit) {
+        requireAllNonNull(elements, comparator);
+        checkArgument(limit > 0, "The number of elements to select must be positive");
+
+        // the root of the heap is the position of the last element kept, which the next earlier element replaces
+        Comparator<Integer> byOrder = (first, second) -> {
+            int comparison = comparator.compare(elements.get(first), elements.get(second));
+            return comparison != 0 ? comparison : Integer.compare(first, second);
+        };
+        PriorityQueue<Integer> firstPositions = new PriorityQueue<>(Math.min(limit, elements.size()) + 1,
+                byOrder.reversed());
+        for (int position = 0; position < elements.size(); position++) {
+            if (firstPositions.size() < limit) {
+                firstPositions.add(position);
+            } else if (comparator.compare(elements.get(position), elements.get(firstPositions.peek())) < 0) {
+                firstPositions.poll();
+                firstPositions.add(position);
             }
         }
-        return roundedKeywords;
+
+        List<T> firstElements = new ArrayList<>(firstPositions.size());
+        while (!firstPositions.isEmpty()) {
+            firstElements.add(elements.get(firstPositions.poll()));
+        }
+        Collections.reverse(firstElements);
+        return firstElements;
     }
 }
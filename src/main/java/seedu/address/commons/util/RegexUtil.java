@@ -0,0 +1,263 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+
+/**
+ * Helper functions for matching regular expressions typed by users, ignoring case.
+ * Patterns are compiled once and cached across calls, and every match is given a budget of steps, so that a pattern
+ * that backtracks catastrophically is aborted instead of hanging the caller.
+ */
+public class RegexUtil {
+
+    /** Number of compiled patterns kept, beyond which the least recently used pattern is evicted. */
+    static final int CACHE_CAPACITY = 64;
+
+    /** Number of characters of the input a single match may read, counting every time a character is read again. */
+    public static final int MAX_STEPS_PER_MATCH = 100_000;
+
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final String QUANTIFIERS = "*?+{";
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final Pattern COMMENTS_FLAG = Pattern.compile("\\(\\?[a-zA-Z-]*x");
+
+    private static final Map<String, Pattern> CACHE = new LinkedHashMap<>(CACHE_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    private RegexUtil() {}
+
+    /**
+     * Returns {@code regex} compiled to match ignoring case, from the cache if it was compiled before.
+     * @throws PatternSyntaxException if {@code regex} is not a valid regular expression
+     */
+    public static Pattern compile(String regex) {
+        requireNonNull(regex);
+        synchronized (CACHE) {
+            Pattern pattern = CACHE.get(regex);
+            if (pattern == null) {
+                pattern = Pattern.compile(regex, FLAGS);
+                CACHE.put(regex, pattern);
+            }
+            return pattern;
+        }
+    }
+
+    /**
+     * Returns true if {@code pattern} matches any part of {@code text}.
+     * @throws RegexStepLimitExceededException if matching reads more than {@code maxSteps} characters of
+     *     {@code text}
+     */
+    public static boolean find(Pattern pattern, String text, int maxSteps) {
+        requireNonNull(pattern);
+        requireNonNull(text);
+        checkArgument(maxSteps > 0, "The number of steps must be positive");
+        return pattern.matcher(new StepLimitedCharSequence(text, maxSteps, pattern.pattern())).find();
+    }
+
+    /**
+     * Returns the literal substrings of {@code regex} that every text it matches must contain, ignoring case.
+     * Only literals outside groups, character classes and alternations are found, and only ASCII characters are
+     * kept, so the literals found may be fewer than those actually required, but never more.
+     * {@code regex} must be a valid regular expression.
+     */
+    public static List<String> getRequiredLiterals(String regex) {
+        requireNonNull(regex);
+        List<String> literals = new ArrayList<>();
+        if (COMMENTS_FLAG.matcher(regex).find()) {
+            // whitespace in the pattern is ignored, so the literals cannot be read off it
+            return literals;
+        }
+        StringBuilder literal = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '|' && depth == 0) {
+                // a top-level alternative need not contain anything the other alternatives do
+                return new ArrayList<>();
+            }
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(i + 1);
+                if (depth == 0 && isLiteral(escaped) && !Character.isLetterOrDigit(escaped)) {
+                    i = appendLiteral(regex, i + 2, escaped, literal, literals);
+                } else {
+                    // a character class, a back reference, a character given by its code, or a quoted sequence
+                    endLiteral(literal, literals);
+                    i = skipEscape(regex, i + 1);
+                }
+                continue;
+            }
+            if (depth == 0 && isLiteral(c) && !METACHARACTERS.contains(String.valueOf(c))) {
+                i = appendLiteral(regex, i + 1, c, literal, literals);
+                continue;
+            }
+            endLiteral(literal, literals);
+            if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                continue;
+            }
+            if (c == '{') {
+                i = skipPast(regex, i, '}');
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+            i++;
+        }
+        endLiteral(literal, literals);
+        return literals;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII character that matches itself ignoring case when it is not special.
+     */
+    private static boolean isLiteral(char c) {
+        return c < 128 && !Character.isISOControl(c);
+    }
+
+    /**
+     * Appends {@code c}, which is followed by position {@code next} of {@code regex}, to {@code literal} unless it
+     * is made optional by a quantifier, and ends the literal if a quantifier follows.
+     * Returns the position after {@code c} and any quantifier following it.
+     */
+    private static int appendLiteral(String regex, int next, char c, StringBuilder literal, List<String> literals) {
+        if (next >= regex.length() || QUANTIFIERS.indexOf(regex.charAt(next)) < 0) {
+            literal.append(c);
+            return next;
+        }
+        if (regex.charAt(next) == '+') {
+            // the character is required at least once, but may be followed by copies of itself
+            literal.append(c);
+        }
+        endLiteral(literal, literals);
+        return regex.charAt(next) == '{' ? skipPast(regex, next, '}') : next + 1;
+    }
+
+    private static void endLiteral(StringBuilder literal, List<String> literals) {
+        String trimmed = literal.toString().trim();
+        if (!trimmed.isEmpty()) {
+            literals.add(trimmed);
+        }
+        literal.setLength(0);
+    }
+
+    /**
+     * Returns the position after the escape sequence whose letter or digit, following the backslash, is at position
+     * {@code start} of {@code regex}.
+     */
+    private static int skipEscape(String regex, int start) {
+        char c = regex.charAt(start);
+        int next = start + 1;
+        boolean isBraced = next < regex.length() && regex.charAt(next) == '{';
+        switch (c) {
+        case 'x':
+            return isBraced ? skipPast(regex, next, '}') : Math.min(next + 2, regex.length());
+        case 'u':
+            return Math.min(next + 4, regex.length());
+        case 'c':
+            return Math.min(next + 1, regex.length());
+        case 'k':
+            return skipPast(regex, next, '>');
+        case 'Q':
+            int end = regex.indexOf("\\E", next);
+            return end < 0 ? regex.length() : end + 2;
+        case 'p':
+        case 'P':
+        case 'N':
+            return isBraced ? skipPast(regex, next, '}') : Math.min(next + 1, regex.length());
+        default:
+            if (Character.isDigit(c)) {
+                // an octal code or a back reference
+                while (next < regex.length() && Character.isDigit(regex.charAt(next))) {
+                    next++;
+                }
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Returns the position after the first {@code end} from position {@code start} of {@code regex}.
+     */
+    private static int skipPast(String regex, int start, char end) {
+        int position = regex.indexOf(end, start);
+        return position < 0 ? regex.length() : position + 1;
+    }
+
+    /**
+     * Returns the position after the character class starting at position {@code start} of {@code regex}.
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && i > start + 1 && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A view of a string that counts the characters read from it, and aborts the match reading them once too many
+     * have been read.
+     */
+    private static class StepLimitedCharSequence implements CharSequence {
+        private final String text;
+        private final String regex;
+        private int stepsLeft;
+
+        StepLimitedCharSequence(String text, int maxSteps, String regex) {
+            this.text = text;
+            this.regex = regex;
+            this.stepsLeft = maxSteps;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--stepsLeft < 0) {
+                throw new RegexStepLimitExceededException(regex);
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
@@ -5,13 +5,27 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    /** Soundex digit of each letter from 'a' to 'z'. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final char NOT_A_LETTER = '-';
+
+    /** Orders text alphabetically, ignoring case but not accents. */
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
+    static {
+        COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -63,6 +77,123 @@ public class StringUtil {
         return preppedSentence.contains(preppedWord);
     }
 
+    /**
+     * Returns {@code s} with every character mapped to the same case, such that two strings are equal after folding
+     * if and only if they are equal according to {@link String#equalsIgnoreCase(String)}.
+     * Returns {@code s} itself if it is already folded.
+     *   <br>examples:<pre>
+     *       foldCase("ABc dEF") == "abc def"
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] folded = null;
+        for (int i = 0; i < s.length(); i++) {
+            // mirrors the per-character comparison done by String#equalsIgnoreCase
+            char foldedChar = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+            if (folded == null && foldedChar != s.charAt(i)) {
+                folded = s.toCharArray();
+            }
+            if (folded != null) {
+                folded[i] = foldedChar;
+            }
+        }
+        return folded == null ? s : new String(folded);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of single
+     * character insertions, deletions and substitutions that turn one into the other, if it is at most
+     * {@code maxDistance}, or else {@code maxDistance + 1}.
+     *   <br>examples:<pre>
+     *       editDistance("kitten", "sitting", 5) == 3
+     *       editDistance("kitten", "sitting", 2) == 3 // more than 2 edits apart
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // the distances between the first i characters of first and every prefix of second, one row at a time
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                // distances never decrease from one row to the next
+                return maxDistance + 1;
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return Math.min(previousRow[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns the Soundex code of {@code word}, so that words which sound alike in English, such as different
+     * romanizations of a name, have the same code. Case is ignored.
+     * Returns {@code word} itself if it does not start with an ASCII letter.
+     *   <br>examples:<pre>
+     *       toPhoneticKey("Robert") == "R163"
+     *       toPhoneticKey("rupert") == "R163"
+     *       toPhoneticKey("Lee") == "L000"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String toPhoneticKey(String word) {
+        requireNonNull(word);
+        if (word.isEmpty() || getSoundexDigit(word.charAt(0)) == NOT_A_LETTER) {
+            return word;
+        }
+
+        char[] key = {Character.toUpperCase(word.charAt(0)), '0', '0', '0'};
+        int keyLength = 1;
+        char previousDigit = getSoundexDigit(word.charAt(0));
+        for (int i = 1; i < word.length() && keyLength < key.length; i++) {
+            char c = Character.toLowerCase(word.charAt(i));
+            char digit = getSoundexDigit(c);
+            if (digit != '0' && digit != NOT_A_LETTER && digit != previousDigit) {
+                key[keyLength++] = digit;
+            }
+            if (c != 'h' && c != 'w') {
+                // letters with the same digit separated by 'h' or 'w' are coded once
+                previousDigit = digit;
+            }
+        }
+        return new String(key);
+    }
+
+    /**
+     * Returns the Soundex digit of {@code c}, which is '0' for vowels and letters that are not coded.
+     */
+    private static char getSoundexDigit(char c) {
+        char lowerCase = Character.toLowerCase(c);
+        if (lowerCase < 'a' || lowerCase > 'z') {
+            return NOT_A_LETTER;
+        }
+        return SOUNDEX_DIGITS.charAt(lowerCase - 'a');
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -91,6 +222,27 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regular expression.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code [^\W_]} in a regular expression.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII whitespace, as matched by {@code \s} in a regular expression.
+     */
+    public static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Trims value and replaces multiple spaces with a single space
      * Will return null if value is null
@@ -118,29 +270,11 @@ public class StringUtil {
     }
 
     /**
-     * Splits a string by its slashes
-     *
-     * @param value a String to be processed
-     * @Return String[]
-     */
-    public static String[] splitBySlash(String value) {
-        return value.split("/");
-    }
-
-    /**
-     * Converts a string array {@code String[]} to a double array {@code double[]}.
-     *
-     * @param strArr String array to be converted
-     * @Return double[]
+     * Returns the collation key of {@code text}, so that texts can be ordered alphabetically, ignoring case, by
+     * comparing their keys bit by bit instead of collating them again on every comparison.
      */
-    public static double[] convertToDoubleArray(String[] strArr) {
-        double[] splitedDouble = new double[strArr.length];
-        int idx = 0;
-        for (String s : strArr) {
-            double convertedToDouble = Double.parseDouble(s);
-            splitedDouble[idx] = convertedToDouble;
-            ++idx;
-        }
-        return splitedDouble;
+    public static CollationKey toCollationKey(String text) {
+        requireNonNull(text);
+        return COLLATOR.getCollationKey(text);
     }
 }
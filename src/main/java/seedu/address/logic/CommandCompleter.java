@@ -0,0 +1,74 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADUATION_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_TITLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIMILAR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNIVERSITY;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
+import seedu.address.model.person.index.IndexedField;
+
+/**
+ * Completes the value being typed after the last prefix of a command into the values that persons have.
+ */
+class CommandCompleter {
+
+    /** Maximum number of completions suggested for a command. */
+    static final int MAX_COMPLETIONS = 8;
+
+    private static final Map<Prefix, IndexedField> COMPLETED_PREFIXES = Map.of(
+            PREFIX_UNIVERSITY, IndexedField.UNIVERSITY,
+            PREFIX_MAJOR, IndexedField.MAJOR,
+            PREFIX_JOB_TITLE, IndexedField.JOB_TITLE,
+            PREFIX_TAG, IndexedField.TAG);
+
+    private static final List<Prefix> ALL_PREFIXES = Arrays.asList(PREFIX_NAME, PREFIX_SIMILAR_NAME, PREFIX_PHONE,
+            PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_GENDER, PREFIX_UNIVERSITY, PREFIX_MAJOR, PREFIX_JOB_ID,
+            PREFIX_JOB_TITLE, PREFIX_TAG, PREFIX_GRADUATION_DATE, PREFIX_CAP, PREFIX_RANK);
+
+    private CommandCompleter() {}
+
+    /**
+     * Returns {@code commandText} with the value after its last prefix completed into each of the values of that
+     * field that persons in {@code model} have, or an empty list if the last prefix is not of a completed field.
+     */
+    static List<String> getCompletions(String commandText, Model model) {
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : ALL_PREFIXES) {
+            int position = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+        if (lastPrefix == null || !COMPLETED_PREFIXES.containsKey(lastPrefix)) {
+            return Collections.emptyList();
+        }
+
+        int valuePosition = lastPrefixPosition + 1 + lastPrefix.getPrefix().length();
+        String textBeforeValue = commandText.substring(0, valuePosition);
+        String partialValue = commandText.substring(valuePosition).stripLeading();
+        return model.getFieldValueCompletions(COMPLETED_PREFIXES.get(lastPrefix), partialValue, MAX_COMPLETIONS)
+                .stream()
+                .map(value -> textBeforeValue + value)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns {@code commandText} with the value being typed after its last prefix completed into each of the
+     * values of that field that persons have, or an empty list if there is nothing to complete.
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -54,6 +57,12 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        return CommandCompleter.getCompletions(commandText, model);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -68,7 +69,8 @@ public class CheckoutCommand extends Command {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(storage.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         userPrefs.setAddressBookFilePath(addressBookFilePath);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                new FindCommandParser()::parsePredicates);
         Storage newStorage = new StorageManager(addressBookStorage, userPrefsStorage);
         Model newModel = initModelManager(newStorage, userPrefs);
 
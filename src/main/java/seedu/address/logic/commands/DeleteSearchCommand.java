@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Deletes a saved search identified by its name.
+ */
+public class DeleteSearchCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted saved search %1$s";
+
+    private final String name;
+
+    /**
+     * Creates a DeleteSearchCommand that deletes the saved search named {@code name}.
+     */
+    public DeleteSearchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        if (model.getSavedSearch(name).isEmpty()) {
+            throw new CommandException(String.format(SearchCommand.MESSAGE_SEARCH_NOT_FOUND, name));
+        }
+
+        model.deleteSavedSearch(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DeleteSearchCommand // instanceof handles nulls
+                && name.equals(((DeleteSearchCommand) other).name)); // state check
+    }
+}
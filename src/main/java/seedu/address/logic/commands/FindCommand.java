@@ -11,10 +11,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_TITLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIMILAR_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNIVERSITY;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.storage.Storage;
@@ -22,6 +28,8 @@ import seedu.address.storage.Storage;
 /**
  * Finds and lists all persons in address book whose field(s) contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * Specifiers may also be combined into a boolean query with and, or, not and parentheses.
+ * If a number of persons to rank is given, only that many of the persons found are listed, from the most relevant.
  */
 public class FindCommand extends Command {
 
@@ -32,6 +40,7 @@ public class FindCommand extends Command {
             + "Parameters: specifier/SPECIFIER_KEYWORDS [more_specifier/MORE_KEYWORDS]...\n"
             + "Possible specifier/SPECIFIER_KEYWORDS:\n"
             + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
+            + "[" + PREFIX_SIMILAR_NAME + "SIMILAR_NAME_KEYWORDS] "
             + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
             + "[" + PREFIX_EMAIL + "EMAIL_KEYWORDS] "
             + "[" + PREFIX_ADDRESS + "ADDRESS_KEYWORDS] "
@@ -42,23 +51,57 @@ public class FindCommand extends Command {
             + "[" + PREFIX_MAJOR + "MAJOR_KEYWORDS] "
             + "[" + PREFIX_JOB_ID + "JOB_ID_KEYWORDS] "
             + "[" + PREFIX_JOB_TITLE + "JOB_TITLE_KEYWORDS] "
-            + "[" + PREFIX_TAG + "TAG_KEYWORDS]...\n"
+            + "[" + PREFIX_TAG + "TAG_KEYWORDS]... "
+            + "[" + PREFIX_RANK + "NUMBER_OF_MOST_RELEVANT_PERSONS]\n"
+            + "Specifiers can also be combined with and, or, not and parentheses, "
+            + "e.g. (" + PREFIX_UNIVERSITY + "NUS or " + PREFIX_UNIVERSITY + "NTU) and not " + PREFIX_TAG + "rejected\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_GENDER + "Male "
             + PREFIX_CAP + "3.5 5 "
-            + PREFIX_TAG + "offered KIV ";
+            + PREFIX_TAG + "offered KIV "
+            + PREFIX_RANK + "10";
     public static final String MESSAGE_NO_FIELD_GIVEN = "At least one field specifier to search into must be provided.";
+    public static final String MESSAGE_PERSONS_RANKED_OVERVIEW = "%1$d most relevant of %2$d persons found listed!";
+    public static final String MESSAGE_REGEX_ABORTED = "The search was aborted, as the regular expression /%1$s/ "
+            + "took too long to match. Try a simpler one.";
 
     private final ListOfContainsKeywordsPredicates predicates;
+    private final Optional<Integer> rankLimit;
 
     public FindCommand(ListOfContainsKeywordsPredicates predicates) {
+        this(predicates, Optional.empty());
+    }
+
+    /**
+     * Creates a FindCommand that lists only the {@code rankLimit} most relevant persons found, if it is present.
+     */
+    public FindCommand(ListOfContainsKeywordsPredicates predicates, Optional<Integer> rankLimit) {
+        requireNonNull(rankLimit);
         this.predicates = predicates;
+        this.rankLimit = rankLimit;
+    }
+
+    public ListOfContainsKeywordsPredicates getPredicates() {
+        return predicates;
+    }
+
+    public Optional<Integer> getRankLimit() {
+        return rankLimit;
     }
 
     @Override
-    public CommandResult execute(Model model, Storage storage) {
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicates.getChainedPredicate());
+        try {
+            if (rankLimit.isPresent()) {
+                int matchCount = model.rankFilteredPersonList(predicates, rankLimit.get());
+                return new CommandResult(String.format(MESSAGE_PERSONS_RANKED_OVERVIEW,
+                        model.getFilteredPersonList().size(), matchCount));
+            }
+            model.updateFilteredPersonList(predicates);
+        } catch (RegexStepLimitExceededException e) {
+            throw new CommandException(String.format(MESSAGE_REGEX_ABORTED, e.getRegex()), e);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -67,6 +110,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicates.equals(((FindCommand) other).predicates)); // state check
+                && predicates.equals(((FindCommand) other).predicates) // state check
+                && rankLimit.equals(((FindCommand) other).rankLimit));
     }
 }
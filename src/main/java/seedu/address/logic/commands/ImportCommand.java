@@ -10,9 +10,11 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.Storage;
 
@@ -78,11 +80,12 @@ public class ImportCommand extends Command {
         requireNonNull(model);
         checkValidFilePath();
         AddressBook toAppend = createAppendableAddressBook();
-        if (model.hasPersons(toAppend)) {
+        try {
+            // validated and appended in one pass, so the displayed list is only refreshed once
+            model.appendAddressBook(toAppend);
+        } catch (DuplicatePersonException dpe) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
-
-        model.appendAddressBook(toAppend);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -123,7 +126,8 @@ public class ImportCommand extends Command {
      * @throws CommandException if the data content or structure does not conform to the constraints.
      */
     private AddressBook createAppendableAddressBook() throws CommandException {
-        JsonAddressBookStorage appendableJsonStorage = new JsonAddressBookStorage(filePath);
+        JsonAddressBookStorage appendableJsonStorage = new JsonAddressBookStorage(filePath,
+                new FindCommandParser()::parsePredicates);
         Optional<ReadOnlyAddressBook> importedJsonNewPersons;
         try {
             importedJsonNewPersons = appendableJsonStorage.readAddressBook();
@@ -0,0 +1,181 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ * The script is streamed through the parser a line at a time, and none of its commands saves the address book, so
+ * the address book is saved once, after the whole script has run, rather than once per command.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String FLAG_KEEP_GOING = "--keep-going";
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, and saves the address book once at the end.\n"
+            + "If a command fails, none of the changes of the script are kept, unless " + FLAG_KEEP_GOING
+            + " is given, in which case the failed commands are reported and skipped.\n"
+            + "Blank lines, and lines starting with " + COMMENT_START + ", are ignored.\n"
+            + "Parameters: [" + FLAG_KEEP_GOING + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + FLAG_KEEP_GOING + " new_interns.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s in %3$d ms (%4$.0f commands per second)";
+    public static final String MESSAGE_FAILED_LINES = "%1$d commands failed and were skipped:";
+    public static final String MESSAGE_MORE_FAILED_LINES = "...and %1$d more";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_ROLLED_BACK =
+            "A command of the script failed, so none of the changes of the script were kept.\n%1$s";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "%1$s cannot be used in a script";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+
+    /**
+     * Commands with effects outside the address book, such as switching or writing files, which restoring the
+     * address book cannot undo, so that a script may not use them.
+     */
+    private static final List<String> COMMANDS_NOT_IN_SCRIPT = List.of(COMMAND_WORD, CheckoutCommand.COMMAND_WORD,
+            ExportCommand.COMMAND_WORD);
+    /** The most failed lines listed in the report of a script that keeps going. */
+    private static final int MAX_FAILED_LINES_REPORTED = 20;
+
+    private final Path filePath;
+    private final boolean isKeepGoing;
+
+    /**
+     * Creates a RunCommand to run the script at {@code filePath}.
+     *
+     * @param isKeepGoing whether a failed command is skipped, rather than undoing the changes of the whole script.
+     */
+    public RunCommand(Path filePath, boolean isKeepGoing) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isKeepGoing = isKeepGoing;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        checkValidFilePath();
+
+        // a copy is only needed to undo the script, which a script that keeps going never does
+        AddressBook initialAddressBook = isKeepGoing ? null : new AddressBook(model.getAddressBook());
+        AddressBookParser parser = new AddressBookParser();
+        List<String> failedLines = new ArrayList<>();
+        int failedLineCount = 0;
+        int commandCount = 0;
+        int lineNumber = 0;
+        long start = System.nanoTime();
+        // set only once the whole script has run, so that the address book is restored whatever stops the script,
+        // even an error thrown by a command that is not an exception
+        boolean isScriptEnded = false;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    lineNumber++;
+                    String trimmedLine = line.trim();
+                    if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_START)) {
+                        continue;
+                    }
+                    commandCount++;
+                    try {
+                        run(trimmedLine, parser, model, storage);
+                    } catch (CommandException | ParseException | RuntimeException e) {
+                        String failedLine = String.format(MESSAGE_FAILED_LINE, lineNumber, describe(e));
+                        if (!isKeepGoing) {
+                            throw new CommandException(String.format(MESSAGE_ROLLED_BACK, failedLine), e);
+                        }
+                        if (++failedLineCount <= MAX_FAILED_LINES_REPORTED) {
+                            failedLines.add(failedLine);
+                        }
+                    }
+                }
+            }
+            isScriptEnded = true;
+        } catch (IOException ioe) {
+            throw new CommandException(ImportCommand.MESSAGE_FILE_UNREADABLE, ioe);
+        } finally {
+            if (!isScriptEnded && !isKeepGoing) {
+                model.setAddressBook(initialAddressBook);
+            }
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount, filePath,
+                elapsedNanos / 1_000_000, commandCount * 1e9 / elapsedNanos));
+        if (failedLineCount > 0) {
+            report.append('\n').append(String.format(MESSAGE_FAILED_LINES, failedLineCount));
+            failedLines.forEach(failedLine -> report.append('\n').append(failedLine));
+            if (failedLineCount > failedLines.size()) {
+                report.append('\n').append(String.format(MESSAGE_MORE_FAILED_LINES,
+                        failedLineCount - failedLines.size()));
+            }
+        }
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Returns the message of {@code e}, or, for an unchecked exception, which no command throws on purpose, a
+     * description that also names the type of the exception.
+     */
+    private static String describe(Exception e) {
+        return e instanceof RuntimeException ? String.format(MESSAGE_UNEXPECTED_ERROR, e) : e.getMessage();
+    }
+
+    /**
+     * Parses and executes the command on one line of the script.
+     */
+    private static void run(String line, AddressBookParser parser, Model model, Storage storage)
+            throws CommandException, ParseException {
+        int commandWordEnd = 0;
+        while (commandWordEnd < line.length() && !Character.isWhitespace(line.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        String commandWord = line.substring(0, commandWordEnd);
+        if (COMMANDS_NOT_IN_SCRIPT.contains(commandWord)) {
+            throw new CommandException(String.format(MESSAGE_NOT_IN_SCRIPT, commandWord));
+        }
+        parser.parseCommand(line).execute(model, storage);
+    }
+
+    /**
+     * Checks that the script exists and is readable.
+     *
+     * @throws CommandException if the file path is a directory, does not exist or is unreadable.
+     */
+    private void checkValidFilePath() throws CommandException {
+        if (FileUtil.isDirectory(filePath)) {
+            throw new CommandException(ImportCommand.MESSAGE_PATH_IS_DIRECTORY);
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            throw new CommandException(ImportCommand.MESSAGE_FILE_DOES_NOT_EXIST);
+        }
+        if (!FileUtil.isReadable(filePath)) {
+            throw new CommandException(ImportCommand.MESSAGE_FILE_UNREADABLE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath)
+                && isKeepGoing == ((RunCommand) other).isKeepGoing);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.SavedSearch;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves a find under a name, and lists the persons it finds.
+ */
+public class SaveSearchCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Saved search %1$s, which finds %2$d persons";
+    public static final String MESSAGE_DUPLICATE_SEARCH = "A saved search named %1$s already exists";
+
+    private final String name;
+    private final String query;
+    private final ListOfContainsKeywordsPredicates predicates;
+
+    /**
+     * Creates a SaveSearchCommand that saves the find with arguments {@code query}, parsed into {@code predicates},
+     * under {@code name}.
+     */
+    public SaveSearchCommand(String name, String query, ListOfContainsKeywordsPredicates predicates) {
+        requireAllNonNull(name, query, predicates);
+        this.name = name;
+        this.query = query;
+        this.predicates = predicates;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        if (model.getSavedSearch(name).isPresent()) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_SEARCH, name));
+        }
+
+        SavedSearch search = new SavedSearch(name, query, predicates);
+        model.addSavedSearch(search);
+        model.updateFilteredPersonList(search);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, search.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveSearchCommand // instanceof handles nulls
+                && name.equals(((SaveSearchCommand) other).name)
+                && query.equals(((SaveSearchCommand) other).query)
+                && predicates.equals(((SaveSearchCommand) other).predicates)); // state check
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.search.SavedSearch;
+import seedu.address.storage.Storage;
+
+/**
+ * Lists the persons found by a saved search, or lists the saved searches if no name is given.
+ * The persons found by a saved search are kept up to date as the address book changes, so listing them does not
+ * search again.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+    public static final String SAVE = "save";
+    public static final String DELETE = "delete";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Saves a find under a name, lists the persons found "
+            + "by a saved search, or deletes a saved search. Lists the saved searches if no parameters are given.\n"
+            + "Parameters: [NAME] or " + SAVE + " NAME FIND_PARAMETERS or " + DELETE + " NAME\n"
+            + "Example: " + COMMAND_WORD + " " + SAVE + " offered-2024 t/offered gd/01-2024..12-2024";
+
+    public static final String MESSAGE_SUCCESS = "Listed the %1$d persons found by saved search %2$s";
+    public static final String MESSAGE_SAVED_SEARCHES = "Saved searches:\n%1$s";
+    public static final String MESSAGE_SAVED_SEARCH = "%1$s (%2$d persons): %3$s";
+    public static final String MESSAGE_NO_SAVED_SEARCHES = "There are no saved searches";
+    public static final String MESSAGE_SEARCH_NOT_FOUND = "There is no saved search named %1$s";
+
+    private final Optional<String> name;
+
+    /**
+     * Creates a SearchCommand that lists the persons found by the saved search named {@code name} if it is present,
+     * or else lists the saved searches.
+     */
+    public SearchCommand(Optional<String> name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        if (name.isEmpty()) {
+            List<SavedSearch> savedSearches = model.getAddressBook().getSavedSearchList();
+            if (savedSearches.isEmpty()) {
+                return new CommandResult(MESSAGE_NO_SAVED_SEARCHES);
+            }
+            return new CommandResult(String.format(MESSAGE_SAVED_SEARCHES, savedSearches.stream()
+                    .map(search -> String.format(MESSAGE_SAVED_SEARCH, search.getName(), search.size(),
+                            search.getQuery()))
+                    .collect(Collectors.joining("\n"))));
+        }
+
+        SavedSearch search = model.getSavedSearch(name.get())
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_SEARCH_NOT_FOUND, name.get())));
+        model.updateFilteredPersonList(search);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(),
+                search.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && name.equals(((SearchCommand) other).name)); // state check
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+import seedu.address.storage.Storage;
+
+/**
+ * Sorts the persons displayed by a field, and optionally lists only the first few of them.
+ * Persons with equal values of the field are ordered by name.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String ASCENDING = "asc";
+    public static final String DESCENDING = "desc";
+    public static final String LIMIT = "limit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed persons by a field, in "
+            + "ascending order unless " + DESCENDING + " is given, and lists only the first NUMBER of them if "
+            + LIMIT + " is given.\n"
+            + "Parameters: FIELD [" + ASCENDING + "|" + DESCENDING + "] [" + LIMIT + " NUMBER]\n"
+            + "FIELD: " + SortField.NAME.getKeyword() + ", " + SortField.CAP.getKeyword() + ", "
+            + SortField.GRADUATION_DATE.getKeyword() + " or " + SortField.UNIVERSITY.getKeyword() + "\n"
+            + "Example: " + COMMAND_WORD + " " + SortField.CAP.getKeyword() + " " + DESCENDING + " " + LIMIT + " 50";
+
+    public static final String MESSAGE_SUCCESS = "Sorted %1$d persons by %2$s";
+    public static final String MESSAGE_SUCCESS_LIMITED = "Listed the first %1$d of %2$d persons sorted by %3$s";
+
+    private final SortField field;
+    private final boolean isDescending;
+    private final Optional<Integer> limit;
+
+    /**
+     * Creates a SortCommand that sorts by {@code field}, in descending order if {@code isDescending}, and keeps
+     * only the first {@code limit} persons if it is present.
+     */
+    public SortCommand(SortField field, boolean isDescending, Optional<Integer> limit) {
+        requireNonNull(field);
+        requireNonNull(limit);
+        this.field = field;
+        this.isDescending = isDescending;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) {
+        requireNonNull(model);
+        Comparator<Person> comparator = isDescending ? field.getComparator().reversed() : field.getComparator();
+        if (field != SortField.NAME) {
+            comparator = comparator.thenComparing(SortField.NAME.getComparator());
+        }
+
+        int personCount = model.getFilteredPersonList().size();
+        if (limit.isEmpty()) {
+            model.sortFilteredPersonList(comparator);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, personCount, field.getKeyword()));
+        }
+        model.sortFilteredPersonList(comparator, limit.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS_LIMITED, model.getFilteredPersonList().size(),
+                personCount, field.getKeyword()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && field == ((SortCommand) other).field
+                && isDescending == ((SortCommand) other).isDescending
+                && limit.equals(((SortCommand) other).limit)); // state check
+    }
+}
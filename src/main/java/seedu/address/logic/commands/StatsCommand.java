@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonAggregate;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.StatisticsField;
+import seedu.address.storage.Storage;
+
+/**
+ * Shows statistics of the persons in the address book, or of the persons displayed, optionally grouped by a field.
+ * The statistics of the whole address book are kept up to date as it changes, so showing them does not go through
+ * the persons again.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String LISTED = "listed";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of persons and their CAPs in the "
+            + "address book, or among the displayed persons if " + LISTED + " is given, grouped by FIELD if it is "
+            + "given.\n"
+            + "Parameters: [FIELD] [" + LISTED + "]\n"
+            + "FIELD: " + StatisticsField.UNIVERSITY.getKeyword() + ", " + StatisticsField.MAJOR.getKeyword() + ", "
+            + StatisticsField.JOB.getKeyword() + " or " + StatisticsField.GRADUATION_YEAR.getKeyword() + "\n"
+            + "Example: " + COMMAND_WORD + " " + StatisticsField.JOB.getKeyword() + " " + LISTED;
+
+    public static final String SCOPE_ADDRESS_BOOK = "the address book";
+    public static final String SCOPE_LISTED = "the listed persons";
+    public static final String MESSAGE_NO_PERSONS = "There are no persons in %1$s";
+    public static final String MESSAGE_SUMMARY = "%1$d persons in %2$s\n"
+            + "CAP: %3$s\n"
+            + "Universities: %4$d, majors: %5$d, jobs: %6$d\n"
+            + "Graduation years: %7$s";
+    public static final String MESSAGE_GROUPED = "Persons in %1$s by %2$s:\n%3$s";
+    public static final String MESSAGE_GROUP = "%1$s: %2$d persons, CAP %3$s";
+    public static final String MESSAGE_CAPS = "average %1$.2f%%, lowest %2$.2f%%, highest %3$.2f%% of the maximum";
+
+    private final Optional<StatisticsField> field;
+    private final boolean isListedOnly;
+
+    /**
+     * Creates a StatsCommand that groups the persons by {@code field} if it is present, and only covers the persons
+     * displayed if {@code isListedOnly}.
+     */
+    public StatsCommand(Optional<StatisticsField> field, boolean isListedOnly) {
+        requireNonNull(field);
+        this.field = field;
+        this.isListedOnly = isListedOnly;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) {
+        requireNonNull(model);
+        PersonStatistics statistics = isListedOnly
+                ? PersonStatistics.of(model.getFilteredPersonList())
+                : model.getAddressBook().getPersonStatistics();
+        String scope = isListedOnly ? SCOPE_LISTED : SCOPE_ADDRESS_BOOK;
+
+        PersonAggregate overall = statistics.getOverall();
+        if (overall.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_PERSONS, scope));
+        }
+        if (field.isPresent()) {
+            String groups = getSortedGroups(statistics, field.get()).stream()
+                    .map(group -> String.format(MESSAGE_GROUP, group.getKey(), group.getValue().getCount(),
+                            formatCaps(group.getValue())))
+                    .collect(Collectors.joining("\n"));
+            return new CommandResult(String.format(MESSAGE_GROUPED, scope, field.get().getKeyword(), groups));
+        }
+
+        String graduationYears = getSortedGroups(statistics, StatisticsField.GRADUATION_YEAR).stream()
+                .map(group -> group.getKey() + ": " + group.getValue().getCount())
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUMMARY, overall.getCount(), scope, formatCaps(overall),
+                statistics.getGroups(StatisticsField.UNIVERSITY).size(),
+                statistics.getGroups(StatisticsField.MAJOR).size(),
+                statistics.getGroups(StatisticsField.JOB).size(), graduationYears));
+    }
+
+    /**
+     * Returns the groups of {@code field} in order of their values if they are listed in order, or else from the
+     * largest group, with groups of the same size in order of their values.
+     */
+    private static List<Map.Entry<String, PersonAggregate>> getSortedGroups(PersonStatistics statistics,
+            StatisticsField field) {
+        List<Map.Entry<String, PersonAggregate>> groups = new ArrayList<>(statistics.getGroups(field).entrySet());
+        Comparator<Map.Entry<String, PersonAggregate>> byValue = Map.Entry.comparingByKey();
+        if (field.isListedInOrder()) {
+            groups.sort(byValue);
+        } else {
+            groups.sort(Comparator.comparingInt((Map.Entry<String, PersonAggregate> group) ->
+                    group.getValue().getCount()).reversed().thenComparing(byValue));
+        }
+        return groups;
+    }
+
+    private static String formatCaps(PersonAggregate aggregate) {
+        return String.format(MESSAGE_CAPS, aggregate.getAverageCapPercentage(), aggregate.getMinimumCapPercentage(),
+                aggregate.getMaximumCapPercentage());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && field.equals(((StatsCommand) other).field)
+                && isListedOnly == ((StatsCommand) other).isListedOnly); // state check
+    }
+}
@@ -38,22 +38,18 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    /** Matcher of the prefixes of the arguments, built once and shared by every input. */
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(
+            PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_CAP, PREFIX_GENDER, PREFIX_GRADUATION_DATE,
+            PREFIX_UNIVERSITY, PREFIX_MAJOR, PREFIX_JOB_ID, PREFIX_JOB_TITLE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                PREFIX_ADDRESS,
-                PREFIX_CAP,
-                PREFIX_GENDER,
-                PREFIX_GRADUATION_DATE,
-                PREFIX_UNIVERSITY,
-                PREFIX_MAJOR,
-                PREFIX_JOB_ID,
-                PREFIX_JOB_TITLE,
-                PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_ADDRESS,
                 PREFIX_GENDER,
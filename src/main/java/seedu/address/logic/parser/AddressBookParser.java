@@ -3,8 +3,9 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CheckoutCommand;
@@ -18,18 +19,44 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Every command word is registered with a single parser that is shared by all inputs, so parsing an input looks up
+ * its parser in a map and allocates nothing else up front. The parsers hold no state between inputs, so one
+ * {@code AddressBookParser} may be used from several threads at once.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /** Parsers of the arguments of each command, by command word. */
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
+
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(CheckoutCommand.COMMAND_WORD, new CheckoutCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        parsers.put(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(StatsCommand.COMMAND_WORD, new StatsCommandParser());
+        parsers.put(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(ExportCommand.COMMAND_WORD, arguments -> new ExportCommand());
+        return Collections.unmodifiableMap(parsers);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -39,54 +66,25 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case CheckoutCommand.COMMAND_WORD:
-            return new CheckoutCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ExportCommand.COMMAND_WORD:
-            return new ExportCommand();
+        // the command word is separated from the arguments by the first whitespace, which the arguments keep
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
-        default:
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
 }
@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,31 +11,67 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values are kept as ranges of offsets into the arguments string, and are only copied out of it when asked for.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** Number of ints stored for each argument value: the id of its prefix, and its start and end offsets. */
+    private static final int VALUE_WIDTH = 3;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String argsString;
+    private final PrefixMatcher prefixes;
+    /** Argument values in insertion order, each stored as {@link #VALUE_WIDTH} consecutive ints. */
+    private int[] values = new int[INITIAL_CAPACITY * VALUE_WIDTH];
+    private int valueCount;
+    private int preambleStart;
+    private int preambleEnd;
+
+    /**
+     * Creates a map of the arguments in {@code argsString} of the prefixes of {@code prefixes}, with no values.
+     */
+    ArgumentMultimap(String argsString, PrefixMatcher prefixes) {
+        this.argsString = argsString;
+        this.prefixes = prefixes;
+    }
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
-     * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
+     * Associates the value in {@code argsString} from offset {@code start} to offset {@code end} with the prefix
+     * identified by {@code prefixId} in this map, after the values already associated with it.
+     * Leading and trailing whitespaces of the value are discarded.
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    void put(int prefixId, int start, int end) {
+        if ((valueCount + 1) * VALUE_WIDTH > values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        int offset = valueCount * VALUE_WIDTH;
+        values[offset] = prefixId;
+        int trimmedStart = trimStart(start, end);
+        values[offset + 1] = trimmedStart;
+        values[offset + 2] = trimEnd(trimmedStart, end);
+        valueCount++;
+    }
+
+    /**
+     * Sets the preamble to the value in {@code argsString} from offset {@code start} to offset {@code end}, without
+     * its leading and trailing whitespaces.
+     */
+    void setPreamble(int start, int end) {
+        preambleStart = trimStart(start, end);
+        preambleEnd = trimEnd(preambleStart, end);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        int prefixId = prefixes.getId(prefix);
+        for (int offset = (valueCount - 1) * VALUE_WIDTH; offset >= 0; offset -= VALUE_WIDTH) {
+            if (values[offset] == prefixId) {
+                return Optional.of(argsString.substring(values[offset + 1], values[offset + 2]));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -45,16 +80,44 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        int prefixId = prefixes.getId(prefix);
+        List<String> prefixValues = new ArrayList<>();
+        for (int offset = 0; offset < valueCount * VALUE_WIDTH; offset += VALUE_WIDTH) {
+            if (values[offset] == prefixId) {
+                prefixValues.add(argsString.substring(values[offset + 1], values[offset + 2]));
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return prefixValues;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return argsString.substring(preambleStart, preambleEnd);
+    }
+
+    /**
+     * Returns the offset of the first character from {@code start} that is not whitespace, as by
+     * {@link String#trim()}, or {@code end} if there is none before it.
+     */
+    private int trimStart(int start, int end) {
+        int trimmedStart = start;
+        while (trimmedStart < end && argsString.charAt(trimmedStart) <= ' ') {
+            trimmedStart++;
+        }
+        return trimmedStart;
+    }
+
+    /**
+     * Returns the offset after the last character before {@code end} that is not whitespace, as by
+     * {@link String#trim()}, or {@code start} if there is none from it.
+     */
+    private int trimEnd(int start, int end) {
+        int trimmedEnd = end;
+        while (trimmedEnd > start && argsString.charAt(trimmedEnd - 1) <= ' ') {
+            trimmedEnd--;
+        }
+        return trimmedEnd;
     }
 }
@@ -0,0 +1,265 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicates.BooleanQueryPredicate;
+import seedu.address.model.person.predicates.CanonicalPredicate;
+
+/**
+ * Parses the arguments of a find that combine field specifiers with {@code and}, {@code or}, {@code not} and
+ * parentheses, such as {@code (u/NUS or u/NTU) and not t/rejected}, into a {@code BooleanQueryPredicate}.
+ * {@code not} binds tightest and {@code or} loosest, and field specifiers next to each other are joined by
+ * {@code and}, as they are in a find without operators. Operators are matched ignoring case.
+ * An {@code and}, {@code or} or {@code not} is only an operator when a field specifier, an opening parenthesis or
+ * another operator {@code not} follows it, and is otherwise a keyword, so that finds such as
+ * {@code jt/Research and Development} still search for the words of a field.
+ * A regular expression between {@code /}s is kept whole, even if it contains spaces, parentheses or operators.
+ */
+class BooleanQueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid boolean query: %1$s\n"
+            + "Field specifiers can be combined with and, or, not and parentheses, "
+            + "e.g. (u/NUS or u/NTU) and not t/rejected";
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private static final char ESCAPE = '\\';
+
+    private final String[] tokens;
+    /** Whether each of the tokens is an operator, rather than a keyword. */
+    private final boolean[] isOperator;
+    private final List<Prefix> prefixes;
+    private int position;
+
+    private BooleanQueryParser(String[] tokens, List<Prefix> prefixes) {
+        this.tokens = tokens;
+        this.prefixes = prefixes;
+        isOperator = findOperators(tokens, prefixes);
+    }
+
+    /**
+     * Returns true if {@code args} combine field specifiers of {@code prefixes} with operators or parentheses,
+     * rather than list them.
+     */
+    static boolean isBooleanQuery(String args, List<Prefix> prefixes) {
+        if (args.trim().startsWith(OPEN)) {
+            return true;
+        }
+        List<Prefix> longestFirst = sortLongestFirst(prefixes);
+        for (boolean isOperator : findOperators(tokenize(args, longestFirst), longestFirst)) {
+            if (isOperator) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a predicate over the fields of {@code prefixes}.
+     * @throws ParseException if {@code args} is not a valid boolean query
+     */
+    static CanonicalPredicate parse(String args, List<Prefix> prefixes) throws ParseException {
+        List<Prefix> longestFirst = sortLongestFirst(prefixes);
+        String[] tokens = tokenize(args, longestFirst);
+
+        BooleanQueryParser parser = new BooleanQueryParser(tokens, longestFirst);
+        CanonicalPredicate query = parser.parseOr();
+        if (parser.hasNext()) {
+            throw parser.invalidQuery("unexpected '" + parser.tokens[parser.position] + "'");
+        }
+        return query;
+    }
+
+    private static List<Prefix> sortLongestFirst(List<Prefix> prefixes) {
+        List<Prefix> longestFirst = new ArrayList<>(prefixes);
+        longestFirst.sort(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed());
+        return longestFirst;
+    }
+
+    /**
+     * Splits {@code args} into tokens at whitespace and around parentheses, keeping every regular expression that
+     * starts a token, or follows the prefix starting a token, whole up to its closing {@code /}.
+     */
+    private static String[] tokenize(String args, List<Prefix> prefixes) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+                continue;
+            }
+            int start = i;
+            int valueStart = start + getPrefixLength(args, start, prefixes);
+            int regexEnd = valueStart < args.length() && args.startsWith(FindCommandParser.REGEX_DELIMITER, valueStart)
+                    ? findRegexEnd(args, valueStart)
+                    : -1;
+            if (regexEnd >= 0) {
+                i = regexEnd;
+            } else {
+                while (i < args.length() && !Character.isWhitespace(args.charAt(i))
+                        && args.charAt(i) != '(' && args.charAt(i) != ')') {
+                    i++;
+                }
+            }
+            tokens.add(args.substring(start, i));
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the length of the prefix that {@code args} has at position {@code start}, or zero if it has none.
+     */
+    private static int getPrefixLength(String args, int start, List<Prefix> prefixes) {
+        for (Prefix prefix : prefixes) {
+            if (args.startsWith(prefix.getPrefix(), start)) {
+                return prefix.getPrefix().length();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the position after the regular expression whose opening {@code /} is at position {@code start} of
+     * {@code args}, which ends at the first unescaped {@code /} followed by whitespace, a parenthesis or the end, or
+     * -1 if there is no such {@code /}.
+     */
+    private static int findRegexEnd(String args, int start) {
+        for (int i = start + 1; i < args.length(); i++) {
+            char c = args.charAt(i);
+            if (c == ESCAPE) {
+                i++;
+            } else if (args.startsWith(FindCommandParser.REGEX_DELIMITER, i) && i > start + 1
+                    && (i + 1 == args.length() || Character.isWhitespace(args.charAt(i + 1))
+                    || args.charAt(i + 1) == ')')) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether each of {@code tokens} is an operator, that is, an {@code and}, {@code or} or {@code not}
+     * followed by a field specifier of {@code prefixes}, an opening parenthesis or another operator {@code not}.
+     */
+    private static boolean[] findOperators(String[] tokens, List<Prefix> prefixes) {
+        boolean[] isOperator = new boolean[tokens.length];
+        for (int i = tokens.length - 2; i >= 0; i--) {
+            String next = tokens[i + 1];
+            isOperator[i] = isOperatorWord(tokens[i]) && (next.equals(OPEN) || getPrefix(next, prefixes) != null
+                    || (isOperator[i + 1] && next.equalsIgnoreCase(NOT)));
+        }
+        return isOperator;
+    }
+
+    /** Parses operands joined by {@code or}. */
+    private CanonicalPredicate parseOr() throws ParseException {
+        List<CanonicalPredicate> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNextOperator(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : BooleanQueryPredicate.or(operands);
+    }
+
+    /** Parses operands joined by {@code and}, or by nothing. */
+    private CanonicalPredicate parseAnd() throws ParseException {
+        List<CanonicalPredicate> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (hasNext() && !isNextOperator(OR) && !isNext(CLOSE)) {
+            if (isNextOperator(AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : BooleanQueryPredicate.and(operands);
+    }
+
+    /** Parses a negated operand, a parenthesised query, or a field specifier with its keywords. */
+    private CanonicalPredicate parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw invalidQuery("a field specifier is missing at the end");
+        }
+        boolean isTokenOperator = isOperator[position];
+        String token = tokens[position++];
+        if (isTokenOperator && token.equalsIgnoreCase(NOT)) {
+            return BooleanQueryPredicate.not(parseUnary());
+        }
+        if (token.equals(OPEN)) {
+            CanonicalPredicate query = parseOr();
+            if (!isNext(CLOSE)) {
+                throw invalidQuery("'" + OPEN + "' is not closed");
+            }
+            position++;
+            return query;
+        }
+        if (isTokenOperator || token.equals(CLOSE)) {
+            throw invalidQuery("unexpected '" + token + "'");
+        }
+        return parseField(token);
+    }
+
+    /** Parses a field specifier starting at {@code token}, and the keywords following it. */
+    private CanonicalPredicate parseField(String token) throws ParseException {
+        Prefix prefix = getPrefix(token, prefixes);
+        if (prefix == null) {
+            throw invalidQuery("'" + token + "' does not follow a field specifier");
+        }
+        List<String> keywords = new ArrayList<>();
+        String firstKeyword = token.substring(prefix.getPrefix().length());
+        if (!firstKeyword.isEmpty()) {
+            keywords.add(firstKeyword);
+        }
+        while (hasNext() && !isOperator[position] && !isNext(OPEN) && !isNext(CLOSE)
+                && getPrefix(tokens[position], prefixes) == null) {
+            keywords.add(tokens[position++]);
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(FindCommandParser.MESSAGE_EMPTY_FIELD);
+        }
+        return FindCommandParser.createPredicate(prefix, keywords);
+    }
+
+    private static Prefix getPrefix(String token, List<Prefix> prefixes) {
+        for (Prefix prefix : prefixes) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasNext() {
+        return position < tokens.length;
+    }
+
+    private boolean isNext(String token) {
+        return hasNext() && tokens[position].equalsIgnoreCase(token);
+    }
+
+    private boolean isNextOperator(String operator) {
+        return isNext(operator) && isOperator[position];
+    }
+
+    private static boolean isOperatorWord(String token) {
+        return Arrays.asList(AND, OR, NOT).contains(token.toLowerCase());
+    }
+
+    private ParseException invalidQuery(String reason) {
+        return new ParseException(String.format(MESSAGE_INVALID_QUERY, reason));
+    }
+}
@@ -7,6 +7,7 @@ public class CliSyntax {
 
     /* Prefix definitions */
     public static final Prefix PREFIX_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_SIMILAR_NAME = new Prefix("n~/");
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
@@ -18,5 +19,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_GRADUATION_DATE = new Prefix("gd/");
     public static final Prefix PREFIX_CAP = new Prefix("c/");
+    public static final Prefix PREFIX_RANK = new Prefix("r/");
 
 }
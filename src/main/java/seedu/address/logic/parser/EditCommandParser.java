@@ -31,6 +31,11 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    /** Matcher of the prefixes of the arguments, built once and shared by every input. */
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(
+            PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_GENDER, PREFIX_GRADUATION_DATE, PREFIX_CAP,
+            PREFIX_UNIVERSITY, PREFIX_MAJOR, PREFIX_JOB_ID, PREFIX_JOB_TITLE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -38,17 +43,7 @@ public class EditCommandParser implements Parser<EditCommand> {
      */
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS,
-                        PREFIX_GENDER,
-                        PREFIX_GRADUATION_DATE,
-                        PREFIX_CAP,
-                        PREFIX_UNIVERSITY,
-                        PREFIX_MAJOR,
-                        PREFIX_JOB_ID,
-                        PREFIX_JOB_TITLE,
-                        PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
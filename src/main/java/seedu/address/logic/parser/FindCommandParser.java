@@ -12,26 +12,43 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_TITLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIMILAR_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNIVERSITY;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
-import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.RegexUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.CapRange;
+import seedu.address.model.person.GraduationDateRange;
+import seedu.address.model.person.index.IndexedField;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.CanonicalPredicate;
 import seedu.address.model.person.predicates.CapContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.CapInRangePredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FieldMatchesRegexPredicate;
 import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.GraduationDateContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.GraduationDateInRangePredicate;
 import seedu.address.model.person.predicates.JobIdContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.JobTitleContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.model.person.predicates.MajorContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.UniversityContainsKeywordsPredicate;
@@ -41,6 +58,44 @@ import seedu.address.model.person.predicates.UniversityContainsKeywordsPredicate
  */
 public class FindCommandParser implements Parser<FindCommand> {
     public static final String MESSAGE_EMPTY_FIELD = "Specifier keyword to search with must be provided.";
+    public static final String MESSAGE_RANK_NOT_SAVED = "A saved search finds every matching person, so it cannot "
+            + "rank them with " + PREFIX_RANK;
+
+    public static final String REGEX_DELIMITER = "/";
+    public static final String MESSAGE_REGEX_NOT_SUPPORTED = "%1$s cannot be searched with a regular expression.";
+    public static final String MESSAGE_INVALID_REGEX = "Invalid regular expression: %1$s";
+
+    /** Prefixes of the fields to search, in the order their predicates are added to the list. */
+    static final List<Prefix> SEARCHED_PREFIXES = Arrays.asList(PREFIX_ADDRESS, PREFIX_CAP, PREFIX_EMAIL,
+            PREFIX_GENDER, PREFIX_GRADUATION_DATE, PREFIX_JOB_ID, PREFIX_JOB_TITLE, PREFIX_MAJOR, PREFIX_NAME,
+            PREFIX_SIMILAR_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_UNIVERSITY);
+
+    /** Matcher of every prefix of a find, built once for all finds. */
+    private static final PrefixMatcher PREFIXES = new PrefixMatcher(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_GENDER, PREFIX_GRADUATION_DATE, PREFIX_CAP, PREFIX_UNIVERSITY, PREFIX_MAJOR,
+            PREFIX_JOB_ID, PREFIX_JOB_TITLE, PREFIX_TAG, PREFIX_SIMILAR_NAME, PREFIX_RANK);
+    /** Matches a boolean query followed by a number of persons to rank. */
+    private static final Pattern TRAILING_RANK = Pattern.compile(
+            "(.*?)\\s+" + Pattern.quote(PREFIX_RANK.getPrefix()) + "(\\S*)\\s*", Pattern.DOTALL);
+    /** Matches a keyword that is a range, rather than a word to match. */
+    private static final Pattern DATE_RANGE_MARKER = Pattern.compile("^[<>]|\\.\\.");
+    private static final Pattern CAP_VALUE_FORMAT = Pattern.compile("\\d*\\.?\\d+|\\d+\\.");
+    /** Fields that can be searched with a regular expression, by the prefix of the field. */
+    private static final Map<Prefix, IndexedField> REGEX_FIELDS = new HashMap<>();
+
+    static {
+        REGEX_FIELDS.put(PREFIX_ADDRESS, IndexedField.ADDRESS);
+        REGEX_FIELDS.put(PREFIX_EMAIL, IndexedField.EMAIL);
+        REGEX_FIELDS.put(PREFIX_GENDER, IndexedField.GENDER);
+        REGEX_FIELDS.put(PREFIX_GRADUATION_DATE, IndexedField.GRADUATION_DATE);
+        REGEX_FIELDS.put(PREFIX_JOB_ID, IndexedField.JOB_ID);
+        REGEX_FIELDS.put(PREFIX_JOB_TITLE, IndexedField.JOB_TITLE);
+        REGEX_FIELDS.put(PREFIX_MAJOR, IndexedField.MAJOR);
+        REGEX_FIELDS.put(PREFIX_NAME, IndexedField.NAME);
+        REGEX_FIELDS.put(PREFIX_PHONE, IndexedField.PHONE);
+        REGEX_FIELDS.put(PREFIX_TAG, IndexedField.TAG);
+        REGEX_FIELDS.put(PREFIX_UNIVERSITY, IndexedField.UNIVERSITY);
+    }
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -49,88 +104,175 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        String argToTokenize = "1 " + args; // dummy preamble for tokenizer
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(argToTokenize, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS,
-                        PREFIX_GENDER,
-                        PREFIX_GRADUATION_DATE,
-                        PREFIX_CAP,
-                        PREFIX_UNIVERSITY,
-                        PREFIX_MAJOR,
-                        PREFIX_JOB_ID,
-                        PREFIX_JOB_TITLE,
-                        PREFIX_TAG);
+        if (BooleanQueryParser.isBooleanQuery(args, SEARCHED_PREFIXES)) {
+            return parseBooleanQuery(args);
+        }
 
-        try {
-            ParserUtil.parseIndex(argMultimap.getPreamble()); // catches invalid values entered before prefix
-        } catch (ParseException pe) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), pe);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+        if (!argMultimap.getPreamble().isEmpty()) { // catches invalid values entered before prefix
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
         ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
                 .newListOfContainsKeywordsPredicates();
-
-        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            List<String> addressKeywords = generateKeywords(argMultimap, PREFIX_ADDRESS);
-            predicateList.addPredicate(new AddressContainsKeywordsPredicate(addressKeywords));
+        for (Prefix prefix : SEARCHED_PREFIXES) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                predicateList.addPredicate(createPredicate(prefix, argMultimap.getValue(prefix).get()));
+            }
         }
-        if (argMultimap.getValue(PREFIX_CAP).isPresent()) {
-            List<String> capKeywords = CollectionUtil.roundCapKeywords(generateKeywords(argMultimap, PREFIX_CAP));
-            predicateList.addPredicate(new CapContainsKeywordsPredicate(capKeywords));
+        if (!predicateList.hasPredicate()) {
+            throw new ParseException(FindCommand.MESSAGE_NO_FIELD_GIVEN);
         }
-        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
-            List<String> emailKeywords = generateKeywords(argMultimap, PREFIX_EMAIL);
-            predicateList.addPredicate(new EmailContainsKeywordsPredicate(emailKeywords));
+
+        Optional<Integer> rankLimit = Optional.empty();
+        if (argMultimap.getValue(PREFIX_RANK).isPresent()) {
+            rankLimit = Optional.of(ParserUtil.parseLimit(argMultimap.getValue(PREFIX_RANK).get()));
         }
-        if (argMultimap.getValue(PREFIX_GENDER).isPresent()) {
-            List<String> genderKeywords = generateKeywords(argMultimap, PREFIX_GENDER);
-            predicateList.addPredicate(new GenderContainsKeywordsPredicate(genderKeywords));
+        return new FindCommand(predicateList, rankLimit);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of a find that does not rank the persons found, such as a saved
+     * search, into the predicates that the persons found satisfy.
+     * @throws ParseException if the user input does not conform the expected format, or ranks the persons found
+     */
+    public ListOfContainsKeywordsPredicates parsePredicates(String args) throws ParseException {
+        FindCommand find = parse(args);
+        if (find.getRankLimit().isPresent()) {
+            throw new ParseException(MESSAGE_RANK_NOT_SAVED);
         }
-        if (argMultimap.getValue(PREFIX_GRADUATION_DATE).isPresent()) {
-            List<String> graduationDateKeywords = generateKeywords(argMultimap, PREFIX_GRADUATION_DATE);
-            predicateList.addPredicate(new GraduationDateContainsKeywordsPredicate(graduationDateKeywords));
+        return find.getPredicates();
+    }
+
+    /**
+     * Parses arguments that combine field specifiers with {@code and}, {@code or}, {@code not} and parentheses into
+     * a FindCommand for a single {@code BooleanQueryPredicate}, with a number of persons to rank given last.
+     */
+    private static FindCommand parseBooleanQuery(String args) throws ParseException {
+        Optional<Integer> rankLimit = Optional.empty();
+        String query = args;
+        Matcher rank = TRAILING_RANK.matcher(args);
+        if (rank.matches()) {
+            query = rank.group(1);
+            rankLimit = Optional.of(ParserUtil.parseLimit(rank.group(2)));
         }
-        if (argMultimap.getValue(PREFIX_JOB_ID).isPresent()) {
-            List<String> jobIdKeywords = generateKeywords(argMultimap, PREFIX_JOB_ID);
-            predicateList.addPredicate(new JobIdContainsKeywordsPredicate(jobIdKeywords));
+
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(BooleanQueryParser.parse(query, SEARCHED_PREFIXES));
+        return new FindCommand(predicateList, rankLimit);
+    }
+
+    /**
+     * Returns the predicate that tests the field of {@code prefix} against {@code value}, which is either a regular
+     * expression, kept exactly as given, or keywords separated by whitespace.
+     * @throws ParseException if {@code value} is empty, or not valid for the field
+     */
+    private static CanonicalPredicate createPredicate(Prefix prefix, String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_FIELD);
         }
-        if (argMultimap.getValue(PREFIX_JOB_TITLE).isPresent()) {
-            List<String> jobTitleKeywords = generateKeywords(argMultimap, PREFIX_JOB_TITLE);
-            predicateList.addPredicate(new JobTitleContainsKeywordsPredicate(jobTitleKeywords));
+        if (isRegex(value)) {
+            // taken from the arguments as given, as joining its keywords would collapse runs of whitespace
+            return parseRegexPredicate(prefix, value.substring(1, value.length() - 1));
         }
-        if (argMultimap.getValue(PREFIX_MAJOR).isPresent()) {
-            List<String> majorKeywords = generateKeywords(argMultimap, PREFIX_MAJOR);
-            predicateList.addPredicate(new MajorContainsKeywordsPredicate(majorKeywords));
+        return createPredicate(prefix, Arrays.asList(StringUtil.splitByWhitespace(value)));
+    }
+
+    /**
+     * Returns the predicate that tests the field of {@code prefix} against {@code keywords}, which must not be empty.
+     * @throws ParseException if the keywords are not valid for the field
+     */
+    static CanonicalPredicate createPredicate(Prefix prefix, List<String> keywords) throws ParseException {
+        assert !keywords.isEmpty();
+        String value = String.join(" ", keywords);
+        if (isRegex(value)) {
+            return parseRegexPredicate(prefix, value.substring(1, value.length() - 1));
         }
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            List<String> nameKeywords = generateKeywords(argMultimap, PREFIX_NAME);
-            predicateList.addPredicate(new NameContainsKeywordsPredicate(nameKeywords));
+        if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_CAP)) {
+            return parseCapPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_GENDER)) {
+            return new GenderContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_GRADUATION_DATE)) {
+            return parseGraduationDatePredicate(keywords);
+        } else if (prefix.equals(PREFIX_JOB_ID)) {
+            return new JobIdContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_JOB_TITLE)) {
+            return new JobTitleContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_MAJOR)) {
+            return new MajorContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_SIMILAR_NAME)) {
+            return new NameSimilarToKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_UNIVERSITY)) {
+            return new UniversityContainsKeywordsPredicate(keywords);
         }
-        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            List<String> phoneKeywords = generateKeywords(argMultimap, PREFIX_PHONE);
-            predicateList.addPredicate(new PhoneContainsKeywordsPredicate(phoneKeywords));
+        throw new IllegalArgumentException(prefix + " is not a field to search");
+    }
+
+    /**
+     * Returns true if {@code value} is a regular expression between {@link #REGEX_DELIMITER}s, such as
+     * {@code /^9\d{7}$/}, rather than keywords.
+     */
+    static boolean isRegex(String value) {
+        return value.length() > 2 * REGEX_DELIMITER.length()
+                && value.startsWith(REGEX_DELIMITER) && value.endsWith(REGEX_DELIMITER);
+    }
+
+    /**
+     * Returns a predicate that tests the field of {@code prefix} against the regular expression {@code regex}.
+     * @throws ParseException if the field cannot be searched with a regular expression, or {@code regex} is invalid
+     */
+    private static CanonicalPredicate parseRegexPredicate(Prefix prefix, String regex) throws ParseException {
+        IndexedField field = REGEX_FIELDS.get(prefix);
+        if (field == null) {
+            throw new ParseException(String.format(MESSAGE_REGEX_NOT_SUPPORTED, prefix));
         }
-        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            List<String> tagKeywords = generateKeywords(argMultimap, PREFIX_TAG);
-            predicateList.addPredicate(new TagContainsKeywordsPredicate(tagKeywords));
+        try {
+            RegexUtil.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_REGEX, e.getDescription()), e);
         }
-        if (argMultimap.getValue(PREFIX_UNIVERSITY).isPresent()) {
-            List<String> universityKeywords = generateKeywords(argMultimap, PREFIX_UNIVERSITY);
-            predicateList.addPredicate(new UniversityContainsKeywordsPredicate(universityKeywords));
+        return new FieldMatchesRegexPredicate(field, regex);
+    }
+
+    /**
+     * Returns a predicate for exact CAP values if every keyword is a number, or else for the CAP ranges given.
+     */
+    private static CanonicalPredicate parseCapPredicate(List<String> capKeywords) throws ParseException {
+        if (capKeywords.stream().allMatch(keyword -> CAP_VALUE_FORMAT.matcher(keyword).matches())) {
+            return new CapContainsKeywordsPredicate(capKeywords);
         }
-        if (!predicateList.hasPredicate()) {
-            throw new ParseException(FindCommand.MESSAGE_NO_FIELD_GIVEN);
+        List<CapRange> capRanges = new ArrayList<>();
+        for (String keyword : capKeywords) {
+            capRanges.add(ParserUtil.parseCapRange(keyword));
         }
-
-        return new FindCommand(predicateList);
+        return new CapInRangePredicate(capRanges);
     }
-    private static List<String> generateKeywords(ArgumentMultimap argMultimap, Prefix prefix) throws ParseException {
-        String keywordsString = argMultimap.getValue(prefix).get();
-        if (keywordsString.isEmpty()) {
-            throw new ParseException(MESSAGE_EMPTY_FIELD);
+
+    /**
+     * Returns a predicate for exact graduation dates if every keyword is a plain word, or else for the graduation
+     * date ranges given.
+     */
+    private static CanonicalPredicate parseGraduationDatePredicate(List<String> graduationDateKeywords)
+            throws ParseException {
+        if (graduationDateKeywords.stream().noneMatch(keyword -> DATE_RANGE_MARKER.matcher(keyword).find())) {
+            return new GraduationDateContainsKeywordsPredicate(graduationDateKeywords);
+        }
+        List<GraduationDateRange> graduationDateRanges = new ArrayList<>();
+        for (String keyword : graduationDateKeywords) {
+            graduationDateRanges.add(ParserUtil.parseGraduationDateRange(keyword));
         }
-        return Arrays.asList(StringUtil.splitByWhitespace(keywordsString));
+        return new GraduationDateInRangePredicate(graduationDateRanges);
     }
 
 }
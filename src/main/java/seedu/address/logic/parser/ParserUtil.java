@@ -1,7 +1,6 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.person.Cap.CAP_SEPARATOR;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,9 +17,11 @@ import seedu.address.model.job.Id;
 import seedu.address.model.job.Title;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Cap;
+import seedu.address.model.person.CapRange;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GraduationDate;
+import seedu.address.model.person.GraduationDateRange;
 import seedu.address.model.person.Major;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -34,6 +35,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Number of persons to show is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_FILE_PATH = "File path is invalid.";
     public static final String CAP_PARSING_REGEX = "^[0-9]\\.?\\d{0,2}\\/[0-9]\\.?\\d{0,2}$";
 
@@ -52,6 +54,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code limit} into the number of persons to show and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified limit is invalid (not non-zero
+     *                        unsigned integer).
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
     /**
      * Parses {@code filePath} into a {@code File} and returns it.
      * Leading and trailing whitespaces will be trimmed.
@@ -188,6 +205,21 @@ public class ParserUtil {
         return new GraduationDate(trimmedGraduationDate);
     }
 
+    /**
+     * Parses a {@code String graduationDateRange} into a {@code GraduationDateRange}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code graduationDateRange} is invalid.
+     */
+    public static GraduationDateRange parseGraduationDateRange(String graduationDateRange) throws ParseException {
+        requireNonNull(graduationDateRange);
+        String trimmedGraduationDateRange = graduationDateRange.trim();
+        if (!GraduationDateRange.isValidGraduationDateRange(trimmedGraduationDateRange)) {
+            throw new ParseException(GraduationDateRange.MESSAGE_CONSTRAINTS);
+        }
+        return new GraduationDateRange(trimmedGraduationDateRange);
+    }
+
     /**
      * Parses a {@code String cap} into a {@code Cap}.
      * Leading and trailing whitespaces will be trimmed.
@@ -196,17 +228,22 @@ public class ParserUtil {
      */
     public static Cap parseCap(String cap) throws ParseException {
         requireNonNull(cap);
-        String trimmedCap = cap.trim();
-        String[] capValues = trimmedCap.split(CAP_SEPARATOR);
-        if (!Cap.isValidCapInput(capValues)) {
-            throw new ParseException(Cap.MESSAGE_CONSTRAINTS);
-        }
-        double capValue = Double.parseDouble(capValues[0]);
-        double maximumCapValue = Double.parseDouble(capValues[1]);
-        if (!Cap.isValidCapValues(capValue, maximumCapValue)) {
-            throw new ParseException(Cap.MESSAGE_CONSTRAINTS);
+        return Cap.parse(cap).orElseThrow(() -> new ParseException(Cap.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses a {@code String capRange} into a {@code CapRange}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code capRange} is invalid.
+     */
+    public static CapRange parseCapRange(String capRange) throws ParseException {
+        requireNonNull(capRange);
+        String trimmedCapRange = capRange.trim();
+        if (!CapRange.isValidCapRange(trimmedCapRange)) {
+            throw new ParseException(CapRange.MESSAGE_CONSTRAINTS);
         }
-        return new Cap(capValue, maximumCapValue);
+        return new CapRange(trimmedCapRange);
     }
 
     /**
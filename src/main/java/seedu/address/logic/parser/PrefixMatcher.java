@@ -0,0 +1,111 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Recognises any of a set of prefixes at a position of a string in one pass, by walking a trie of the prefixes
+ * character by character, rather than searching for each prefix in turn.
+ * A matcher is immutable, so one built for the prefixes of a command can be reused for every arguments string.
+ */
+public class PrefixMatcher {
+    /** Returned by {@link #match(String, int)} when no prefix starts at the position. */
+    public static final int NO_MATCH = -1;
+
+    private final List<Prefix> prefixes;
+    private final Node root = new Node();
+
+    /**
+     * Creates a matcher for {@code prefixes}. An empty prefix is never matched, and a repeated prefix is matched as
+     * its first occurrence.
+     */
+    public PrefixMatcher(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = new ArrayList<>(Arrays.asList(prefixes));
+        for (int id = 0; id < prefixes.length; id++) {
+            String prefix = prefixes[id].getPrefix();
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.getOrAddChild(prefix.charAt(i));
+            }
+            if (node != root && node.prefixId == NO_MATCH) {
+                node.prefixId = id;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of prefixes of this matcher, which are identified by the ids {@code 0} to one less.
+     */
+    public int size() {
+        return prefixes.size();
+    }
+
+    /**
+     * Returns the prefix identified by {@code id}.
+     */
+    public Prefix getPrefix(int id) {
+        return prefixes.get(id);
+    }
+
+    /**
+     * Returns the id of {@code prefix}, or {@link #NO_MATCH} if it is not one of the prefixes of this matcher.
+     */
+    public int getId(Prefix prefix) {
+        int id = prefixes.indexOf(prefix);
+        return id < 0 ? NO_MATCH : id;
+    }
+
+    /**
+     * Returns the id of the longest prefix that {@code text} has at {@code position}, or {@link #NO_MATCH} if it has
+     * none. Nothing is allocated while matching.
+     */
+    public int match(String text, int position) {
+        int matchedId = NO_MATCH;
+        Node node = root;
+        for (int i = position; i < text.length(); i++) {
+            node = node.getChild(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefixId != NO_MATCH) {
+                matchedId = node.prefixId;
+            }
+        }
+        return matchedId;
+    }
+
+    /**
+     * A state of the trie, reached by reading the characters on the path to it.
+     * There are only a few prefixes, so the transitions out of a state are kept in small parallel arrays.
+     */
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int prefixId = NO_MATCH;
+
+        Node getChild(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char label) {
+            Node child = getChild(label);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = label;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        boolean isKeepGoing = trimmedArgs.startsWith(RunCommand.FLAG_KEEP_GOING)
+                && (trimmedArgs.length() == RunCommand.FLAG_KEEP_GOING.length()
+                || Character.isWhitespace(trimmedArgs.charAt(RunCommand.FLAG_KEEP_GOING.length())));
+        String filePath = isKeepGoing ? trimmedArgs.substring(RunCommand.FLAG_KEEP_GOING.length()) : trimmedArgs;
+        try {
+            Path path = ParserUtil.parseFilePath(filePath);
+            return new RunCommand(path, isKeepGoing);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteSearchCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.search.SavedSearch;
+
+/**
+ * Parses input arguments and creates a new SearchCommand, SaveSearchCommand or DeleteSearchCommand object
+ */
+public class SearchCommandParser implements Parser<Command> {
+
+    public static final String MESSAGE_RESERVED_NAME = "A saved search cannot be named " + SearchCommand.SAVE + " or "
+            + SearchCommand.DELETE;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand, SaveSearchCommand or DeleteSearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new SearchCommand(Optional.empty());
+        }
+
+        String[] words = trimmedArgs.split("\\s+", 3);
+        if (words[0].equalsIgnoreCase(SearchCommand.SAVE)) {
+            if (words.length < 3) {
+                throw invalidFormat();
+            }
+            String name = parseName(words[1]);
+            return new SaveSearchCommand(name, words[2], new FindCommandParser().parsePredicates(" " + words[2]));
+        }
+        if (words[0].equalsIgnoreCase(SearchCommand.DELETE)) {
+            if (words.length != 2) {
+                throw invalidFormat();
+            }
+            return new DeleteSearchCommand(parseName(words[1]));
+        }
+        if (StringUtil.splitByWhitespace(trimmedArgs).length != 1) {
+            throw invalidFormat();
+        }
+        return new SearchCommand(Optional.of(parseName(trimmedArgs)));
+    }
+
+    private static String parseName(String name) throws ParseException {
+        if (!SavedSearch.isValidName(name)) {
+            throw new ParseException(SavedSearch.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (name.equalsIgnoreCase(SearchCommand.SAVE) || name.equalsIgnoreCase(SearchCommand.DELETE)) {
+            throw new ParseException(MESSAGE_RESERVED_NAME);
+        }
+        return name;
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+}
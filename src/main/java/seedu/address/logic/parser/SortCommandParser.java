@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.SortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String[] words = args.trim().isEmpty() ? new String[0] : StringUtil.splitByWhitespace(args.trim());
+        if (words.length == 0) {
+            throw invalidFormat();
+        }
+
+        SortField field = SortField.fromKeyword(words[0]).orElseThrow(this::invalidFormat);
+        int next = 1;
+        boolean isDescending = false;
+        if (next < words.length && (words[next].equalsIgnoreCase(SortCommand.ASCENDING)
+                || words[next].equalsIgnoreCase(SortCommand.DESCENDING))) {
+            isDescending = words[next].equalsIgnoreCase(SortCommand.DESCENDING);
+            next++;
+        }
+
+        Optional<Integer> limit = Optional.empty();
+        if (next < words.length && words[next].equalsIgnoreCase(SortCommand.LIMIT)) {
+            if (next + 1 >= words.length) {
+                throw new ParseException(ParserUtil.MESSAGE_INVALID_LIMIT);
+            }
+            limit = Optional.of(ParserUtil.parseLimit(words[next + 1]));
+            next += 2;
+        }
+
+        if (next < words.length) {
+            throw invalidFormat();
+        }
+        return new SortCommand(field, isDescending, limit);
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.StatisticsField;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        String[] words = args.trim().isEmpty() ? new String[0] : StringUtil.splitByWhitespace(args.trim());
+        int next = 0;
+
+        Optional<StatisticsField> field = Optional.empty();
+        if (next < words.length && !words[next].equalsIgnoreCase(StatsCommand.LISTED)) {
+            field = Optional.of(StatisticsField.fromKeyword(words[next]).orElseThrow(this::invalidFormat));
+            next++;
+        }
+
+        boolean isListedOnly = false;
+        if (next < words.length && words[next].equalsIgnoreCase(StatsCommand.LISTED)) {
+            isListedOnly = true;
+            next++;
+        }
+
+        if (next < words.length) {
+            throw invalidFormat();
+        }
+        return new StatsCommand(field, isListedOnly);
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,10 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.person.predicates.QueryPlanner;
+import seedu.address.model.search.SavedSearch;
+import seedu.address.model.search.SavedSearchList;
 
 /**
  * Wraps all data at the address-book level
@@ -15,6 +21,11 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final SavedSearchList savedSearches;
+    /** Plans the searches of the persons, from the hit rates observed in earlier searches of the same persons. */
+    private final QueryPlanner queryPlanner = new QueryPlanner();
+    /** Number of modifications made to the persons, so that results computed from them can tell they are stale. */
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,6 +36,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        savedSearches = new SavedSearchList();
     }
 
     public AddressBook() {}
@@ -45,15 +57,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        queryPlanner.clear();
+        savedSearches.setPersons(persons, getPersonIndex(), queryPlanner);
+        version++;
+    }
+
+    /**
+     * Replaces the saved searches with {@code savedSearches}, which keep the persons they found in this address book
+     * rather than searching for them again.
+     * {@code savedSearches} must not contain saved searches with the same name.
+     */
+    public void setSavedSearches(List<SavedSearch> savedSearches) {
+        this.savedSearches.setSavedSearches(savedSearches);
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The saved searches of {@code newData} keep the persons they found, rather than searching for them again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        persons.setPersons(newData.getPersonList());
+        queryPlanner.clear();
+        setSavedSearches(newData.getSavedSearchList());
+        version++;
     }
 
     //// person-level operations
@@ -80,6 +108,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        savedSearches.personAdded(p);
+        version++;
     }
 
     /**
@@ -91,6 +121,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        savedSearches.personSet(target, editedPerson);
+        version++;
     }
 
     /**
@@ -99,17 +131,71 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        savedSearches.personRemoved(key);
+        version++;
     }
 
     /**
      * Appends {@code other} to this {@code AddressBook}.
+     * The persons in {@code other} must not already exist in the address book.
      */
     public void appendAddressBook(AddressBook other) {
         persons.appendList(other.getPersonList());
+        other.getPersonList().forEach(savedSearches::personAdded);
+        version++;
+    }
+
+    //// saved search operations
+
+    /**
+     * Returns true if a saved search named {@code name}, ignoring case, exists in the address book.
+     */
+    public boolean hasSavedSearch(String name) {
+        requireNonNull(name);
+        return savedSearches.contains(name);
+    }
+
+    /**
+     * Returns the saved search named {@code name}, ignoring case, if it exists in the address book.
+     */
+    public Optional<SavedSearch> getSavedSearch(String name) {
+        requireNonNull(name);
+        return savedSearches.get(name);
+    }
+
+    /**
+     * Adds a saved search to the address book, after finding the persons it finds.
+     * A saved search with the same name must not already exist in the address book.
+     */
+    public void addSavedSearch(SavedSearch search) {
+        savedSearches.add(search, getPersonList(), getPersonIndex(), queryPlanner);
+    }
+
+    /**
+     * Removes the saved search named {@code name}, ignoring case, from this {@code AddressBook}.
+     * The saved search must exist in the address book.
+     */
+    public void removeSavedSearch(String name) {
+        savedSearches.remove(name);
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to the persons in this {@code AddressBook}, which changes whenever
+     * the persons do.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the planner of the searches of the persons in this {@code AddressBook}.
+     */
+    public QueryPlanner getQueryPlanner() {
+        return queryPlanner;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
@@ -121,11 +207,27 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ReadOnlyPersonIndex getPersonIndex() {
+        return persons.getPersonIndex();
+    }
+
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return persons.getStatistics();
+    }
+
+    @Override
+    public List<SavedSearch> getSavedSearchList() {
+        return savedSearches.asUnmodifiableList();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
-                && persons.equals(((AddressBook) other).persons));
+                && persons.equals(((AddressBook) other).persons)
+                && savedSearches.equals(((AddressBook) other).savedSearches));
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an AddressBookFile in the file system.
  * Guarantees: is valid as declared in {@link #isValidAddressBookFile(String)}
@@ -17,6 +19,7 @@ public class AddressBookFile {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^[\\w\\-.]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class AddressBookFile {
      * Returns true if a given string is a valid file.
      */
     public static boolean isValidAddressBookFile(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.predicates.MatchedPersons;
+
+/**
+ * Caches the results of the most recently used finds, keyed by the canonical form of their predicates.
+ * Each result is only valid for the version of the {@code AddressBook} it was computed from.
+ */
+class FindResultCache {
+
+    /** Number of find results kept, beyond which the least recently used result is evicted. */
+    static final int CAPACITY = 32;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    /**
+     * Returns the result cached for the find with canonical form {@code canonicalForm}, if it was computed from
+     * version {@code version} of the address book.
+     * A result computed from any other version is evicted.
+     */
+    Optional<MatchedPersons> get(String canonicalForm, long version) {
+        requireNonNull(canonicalForm);
+        Entry entry = entries.get(canonicalForm);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.version != version) {
+            entries.remove(canonicalForm);
+            return Optional.empty();
+        }
+        return Optional.of(entry.result);
+    }
+
+    /**
+     * Caches {@code result} as the result of the find with canonical form {@code canonicalForm}, computed from
+     * version {@code version} of the address book.
+     */
+    void put(String canonicalForm, long version, MatchedPersons result) {
+        requireAllNonNull(canonicalForm, result);
+        entries.put(canonicalForm, new Entry(version, result));
+    }
+
+    /**
+     * Returns the number of results cached.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * A cached find result, and the version of the address book it was computed from.
+     */
+    private static class Entry {
+        private final long version;
+        private final MatchedPersons result;
+
+        Entry(long version, MatchedPersons result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
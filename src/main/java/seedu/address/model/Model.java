@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.SavedSearch;
 
 /**
  * The API of the Model component.
@@ -90,9 +96,29 @@ public interface Model {
      * Appends {@code addressBook} to the current address book.
      * The person identity of everyone in {@code addressBook} must not be the same as another
      * existing person in the current address book.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if the above is violated,
+     *     in which case the current address book is left unchanged.
      */
     void appendAddressBook(AddressBook addressBook);
 
+    /**
+     * Returns the saved search named {@code name}, ignoring case, if it exists in the address book.
+     */
+    Optional<SavedSearch> getSavedSearch(String name);
+
+    /**
+     * Adds the given saved search, after finding the persons it finds.
+     * A saved search with the same name must not already exist in the address book.
+     */
+    void addSavedSearch(SavedSearch search);
+
+    /**
+     * Deletes the saved search named {@code name}, ignoring case.
+     * The saved search must exist in the address book.
+     */
+    void deleteSavedSearch(String name);
+
     /**
      * Returns an unmodifiable view of the filtered list of persons.
      */
@@ -111,6 +137,55 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons that satisfy all of {@code predicates}.
+     * If {@code predicates} includes every predicate of the find currently applied, only the persons in the
+     * filtered person list are tested.
+     *
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    void updateFilteredPersonList(ListOfContainsKeywordsPredicates predicates);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons found by {@code search}, as they are when
+     * this method is called.
+     *
+     * @throws NullPointerException if {@code search} is null.
+     */
+    void updateFilteredPersonList(SavedSearch search);
+
+    /**
+     * Updates the filter of the filtered person list to show only the {@code limit} persons most relevant to the
+     * keywords of {@code predicates} among the persons that satisfy all of them, from the most relevant.
+     * Returns the number of persons that satisfy all of {@code predicates}.
+     *
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    int rankFilteredPersonList(ListOfContainsKeywordsPredicates predicates, int limit);
+
+    /**
+     * Sorts the filtered person list by {@code comparator}, which keeps the persons it shows in that order until its
+     * filter is next updated.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Updates the filter of the filtered person list to show only the first {@code limit} of the persons it shows
+     * in the order of {@code comparator}, and sorts it by {@code comparator}.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator, int limit);
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} among the persons in the address book that start
+     * with {@code prefix}, ignoring case.
+     * {@code field} must be one of {@code FieldValueCompleter.COMPLETED_FIELDS}.
+     */
+    List<String> getFieldValueCompletions(IndexedField field, String prefix, int limit);
+
     /**
      * Updates the filter of the viewed person list by the given {@code predicate}.
      *
@@ -4,15 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.FieldValueCompleter;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.person.predicates.MatchedPersons;
+import seedu.address.model.person.predicates.QueryPlanner;
 import seedu.address.model.person.predicates.SamePersonPredicate;
+import seedu.address.model.search.SavedSearch;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,7 +40,13 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** The filtered persons in the order shown, which is the order of the address book unless ranked or sorted. */
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Person> viewedPerson;
+    private final FindResultCache findResultCache = new FindResultCache();
+    private final FieldValueCompleter fieldValueCompleter;
+    /** The predicates of the find that the filtered person list shows the matches of, or null if it shows none. */
+    private ListOfContainsKeywordsPredicates appliedFind;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,7 +59,9 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         viewedPerson = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_NO_PERSONS);
+        fieldValueCompleter = new FieldValueCompleter(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -83,6 +108,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        appliedFind = null;
     }
 
     @Override
@@ -120,28 +146,221 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        // the filtered person list no longer shows the edited person, even if it matches the applied find
+        appliedFind = null;
     }
 
     @Override
     public void appendAddressBook(AddressBook other) {
         addressBook.appendAddressBook(other);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public Optional<SavedSearch> getSavedSearch(String name) {
+        requireNonNull(name);
+        return addressBook.getSavedSearch(name);
+    }
+
+    @Override
+    public void addSavedSearch(SavedSearch search) {
+        requireNonNull(search);
+        addressBook.addSavedSearch(search);
+    }
+
+    @Override
+    public void deleteSavedSearch(String name) {
+        requireNonNull(name);
+        addressBook.removeSavedSearch(name);
+    }
+
+    @Override
+    public List<String> getFieldValueCompletions(IndexedField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        return fieldValueCompleter.getCompletions(field, prefix, limit);
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order of the address book, or in order of relevance after
+     * {@link #rankFilteredPersonList(ListOfContainsKeywordsPredicates, int)}, or sorted after
+     * {@link #sortFilteredPersonList(Comparator)}.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * In an address book of at least {@code ParallelFilter.PARALLEL_THRESHOLD} persons, the persons are tested
+     * against {@code predicate} in parallel first, so that the list is updated with the matches in a single change.
+     * The calling thread waits for the parallel test to finish, so the filtered person list is updated by the time
+     * this method returns.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        showInAddressBookOrder();
+        filteredPersons.setPredicate(evaluate(predicate));
+        appliedFind = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The result of the find is looked up from, and otherwise added to, the results cached for the current version
+     * of the address book.
+     */
+    @Override
+    public void updateFilteredPersonList(ListOfContainsKeywordsPredicates predicates) {
+        requireNonNull(predicates);
+        MatchedPersons result = find(predicates);
+        showInAddressBookOrder();
+        filteredPersons.setPredicate(result);
+        appliedFind = predicates;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons found are shown from a copy of them, as the result of a find is, without testing the persons in
+     * the address book against the search again.
+     */
+    @Override
+    public void updateFilteredPersonList(SavedSearch search) {
+        requireNonNull(search);
+        Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        members.addAll(search.getMembers());
+        showInAddressBookOrder();
+        filteredPersons.setPredicate(members::contains);
+        // the persons found were stored rather than found again, so a later find cannot refine them
+        appliedFind = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons that satisfy all of {@code predicates} are found as by
+     * {@link #updateFilteredPersonList(ListOfContainsKeywordsPredicates)}, and only those persons are ranked, rather
+     * than every person in the address book being tested again.
+     * Only the most relevant of them are kept while they are ranked, so the filtered person list only receives the
+     * persons shown.
+     */
+    @Override
+    public int rankFilteredPersonList(ListOfContainsKeywordsPredicates predicates, int limit) {
+        requireNonNull(predicates);
+        MatchedPersons matches = find(predicates);
+        List<Person> mostRelevant = predicates.getMostRelevantPersons(matches.asList(), addressBook.getPersonIndex(),
+                limit);
+        Map<Person, Integer> ranks = new IdentityHashMap<>();
+        for (int rank = 0; rank < mostRelevant.size(); rank++) {
+            ranks.put(mostRelevant.get(rank), rank);
+        }
+        showInAddressBookOrder();
+        filteredPersons.setPredicate(ranks::containsKey);
+        sortedPersons.setComparator(Comparator.comparingInt(ranks::get));
+        // the filtered person list no longer shows every match, so a later find cannot refine it
+        appliedFind = null;
+        return matches.size();
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the first {@code limit} persons are kept while the persons are compared, so the filtered person list
+     * only receives the persons shown.
+     */
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator, int limit) {
+        requireNonNull(comparator);
+        Set<Person> firstPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        firstPersons.addAll(CollectionUtil.getFirstElements(sortedPersons, comparator, limit));
+        // the persons kept are among those shown, so the previous comparator can still order them
+        filteredPersons.setPredicate(firstPersons::contains);
+        sortedPersons.setComparator(comparator);
+        // the filtered person list no longer shows every match, so a later find cannot refine it
+        appliedFind = null;
+    }
+
+    /**
+     * Returns exactly the persons in the address book that satisfy all of {@code predicates}, looked up from, and
+     * otherwise added to, the results cached for the current version of the address book.
+     * The persons are tested as soon as the find is made, rather than as the filtered person list shows them, so
+     * that a find aborted by a {@code RegexStepLimitExceededException} leaves the list and the cache unchanged.
+     */
+    private MatchedPersons find(ListOfContainsKeywordsPredicates predicates) {
+        Optional<String> canonicalForm = predicates.getCanonicalForm();
+        long version = addressBook.getVersion();
+        MatchedPersons result = canonicalForm.flatMap(form -> findResultCache.get(form, version)).orElse(null);
+        if (result == null) {
+            result = appliedFind != null && predicates.refines(appliedFind)
+                    ? predicates.getRefinedPredicate(appliedFind, filteredPersons, addressBook.getPersonIndex(),
+                            addressBook.getQueryPlanner())
+                    : lookUpOrEvaluate(predicates);
+            MatchedPersons computedResult = result;
+            canonicalForm.ifPresent(form -> findResultCache.put(form, version, computedResult));
+        }
+        return result;
+    }
+
+    /**
+     * Returns exactly the persons in the address book that satisfy all of {@code predicates}, looked up from the
+     * person index if any of them is indexed, and otherwise found by testing every person in the address book.
+     */
+    private MatchedPersons lookUpOrEvaluate(ListOfContainsKeywordsPredicates predicates) {
+        ReadOnlyPersonIndex index = addressBook.getPersonIndex();
+        QueryPlanner planner = addressBook.getQueryPlanner();
+        Optional<MatchedPersons> matches = predicates.lookUpMatches(index, planner);
+        if (matches.isPresent()) {
+            return matches.get();
+        }
+        return evaluateNow(predicates.getChainedPredicate(index, planner));
+    }
+
+    /**
+     * Shows the filtered persons in the order of the address book, before the filter is changed, so that the
+     * persons newly shown are never compared by a previous ranking or sort.
+     */
+    private void showInAddressBookOrder() {
+        if (sortedPersons.getComparator() != null) {
+            sortedPersons.setComparator(null);
+        }
+    }
+
+    /**
+     * Returns {@code predicate}, or the persons in the address book that satisfy it if there are enough persons to
+     * test them in parallel, waiting for them all to be tested.
+     */
+    private Predicate<Person> evaluate(Predicate<Person> predicate) {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        if (persons.size() >= ParallelFilter.PARALLEL_THRESHOLD
+                && predicate != PREDICATE_SHOW_ALL_PERSONS && predicate != PREDICATE_SHOW_NO_PERSONS) {
+            return ParallelFilter.evaluate(persons, predicate);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns exactly the persons in the address book that satisfy {@code predicate}, in the order of the address
+     * book, tested in parallel if there are enough persons, waiting for them all to be tested.
+     */
+    private MatchedPersons evaluateNow(Predicate<Person> predicate) {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        if (persons.size() >= ParallelFilter.PARALLEL_THRESHOLD) {
+            return ParallelFilter.evaluate(persons, predicate);
+        }
+        List<Person> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return new MatchedPersons(matches);
     }
 
     //=========== Viewed Person List Accessors =============================================================
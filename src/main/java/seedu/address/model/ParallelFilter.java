@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.MatchedPersons;
+
+/**
+ * Tests a predicate against a large list of persons on the threads of a {@code ForkJoinPool}, instead of testing
+ * them one by one on a single thread.
+ * The evaluation is synchronous: the calling thread, which is the JavaFX application thread when a command is run
+ * from the command box, waits until every person has been tested. Only the time it waits is shortened.
+ */
+class ParallelFilter {
+
+    /** Number of persons from which testing them in parallel pays off the cost of splitting up the work. */
+    static final int PARALLEL_THRESHOLD = 100_000;
+
+    /** Number of persons tested by a single task, without splitting them up further. */
+    private static final int SLICE_SIZE = 4_096;
+
+    private ParallelFilter() {}
+
+    /**
+     * Tests {@code predicate} against all of {@code persons} in parallel, and returns exactly the persons that
+     * satisfied it, in their order in {@code persons}, so that a {@code FilteredList} can be updated to show them
+     * in one go.
+     * Blocks until all the persons have been tested.
+     * {@code predicate} must be safe to test from several threads at once, and {@code persons} must not be
+     * modified until this method returns.
+     * The persons matched are fixed when this method is called, so the returned predicate rejects any person
+     * added afterwards.
+     */
+    static MatchedPersons evaluate(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        boolean[] matched = new boolean[persons.size()];
+        ForkJoinPool.commonPool().invoke(new FilterTask(persons, predicate, matched, 0, persons.size()));
+
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                matches.add(persons.get(i));
+            }
+        }
+        return new MatchedPersons(matches);
+    }
+
+    /**
+     * Tests the persons in a range of positions of the list, splitting the range in halves until it fits in a slice.
+     * Every task writes to its own range of {@code matched}, so no synchronisation is needed between tasks.
+     */
+    private static class FilterTask extends RecursiveAction {
+        private final List<Person> persons;
+        private final Predicate<Person> predicate;
+        private final boolean[] matched;
+        private final int from;
+        private final int to;
+
+        FilterTask(List<Person> persons, Predicate<Person> predicate, boolean[] matched, int from, int to) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.matched = matched;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE_SIZE) {
+                for (int i = from; i < to; i++) {
+                    matched[i] = predicate.test(persons.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterTask(persons, predicate, matched, from, middle),
+                    new FilterTask(persons, predicate, matched, middle, to));
+        }
+    }
+}
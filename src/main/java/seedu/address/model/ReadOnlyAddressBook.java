@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.search.SavedSearch;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +19,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable view of the index of the persons in the persons list.
+     */
+    ReadOnlyPersonIndex getPersonIndex();
+
+    /**
+     * Returns the statistics of the persons in the persons list, which are kept up to date with it.
+     */
+    PersonStatistics getPersonStatistics();
+
+    /**
+     * Returns an unmodifiable view of the saved searches, in the order they were saved.
+     * This list will not contain any saved searches with the same name.
+     */
+    List<SavedSearch> getSavedSearchList();
+
 }
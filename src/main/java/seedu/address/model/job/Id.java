@@ -3,6 +3,8 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Job ID the Person applied to in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
@@ -19,6 +21,7 @@ public class Id {
             "Job ID should be upper case letters and/or numeric, and it should not be blank or spaces only";
 
     public static final String VALIDATION_REGEX = "[A-Z0-9]+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -44,7 +47,7 @@ public class Id {
      * Returns true if a given string is a valid job ID.
      */
     public static boolean isValidId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
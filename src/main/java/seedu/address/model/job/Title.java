@@ -3,6 +3,8 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Job title the Person applied to in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -20,6 +22,7 @@ public class Title {
             + "- # , : & ( ) \" ' / [ ] and it should not be blank or spaces only";
 
     public static final String VALIDATION_REGEX = "[A-Za-z0-9\\-#,:&()\"'/\\[\\]][A-Za-z0-9 \\-#,:&()\"'/\\[\\]]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -45,7 +48,7 @@ public class Title {
      * Returns true if a given string is a valid job title.
      */
     public static boolean isValidTitle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
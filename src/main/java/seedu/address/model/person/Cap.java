@@ -2,9 +2,16 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
+import static seedu.address.commons.util.StringUtil.isAsciiWhitespace;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
 
 /**
  * Represents a Person's CAP (Cumulative Average Point) in the address book.
+ * The CAP value and its maximum are kept exactly, in fixed point, as whole numbers of hundredths of a point.
  * Guarantees: immutable, is valid as declared in
  * {@link #isValidCapValues(double, double)}
  */
@@ -17,8 +24,26 @@ public class Cap {
         + "e.g. 4.0" + CAP_SEPARATOR + "5.0";
     public static final double MINIMUM = 0.0;
     public static final String VALIDATION_REGEX = "[\\s]*[0-9][\\s]*[.]?[\\s]*[0-9]*[\\s]*";
-    public final double value;
-    public final double maximum;
+    /** Scale of the fixed-point CAP values, in hundredths. */
+    public static final int SCALE = 100;
+
+    private static final int DECIMAL_PLACES = 2;
+    private static final int MAXIMUM_HUNDREDTHS = 100 * SCALE;
+    /** Returned by {@link #parseHundredths(String, int, int)} for a value that is not in a valid format. */
+    private static final int INVALID_FORMAT = -1;
+    /** Whole points beyond which a parsed value is clamped, as it is invalid anyway, so that it cannot overflow. */
+    private static final int MAXIMUM_PARSED_POINTS = Integer.MAX_VALUE / SCALE - 1;
+
+    private final int hundredths;
+    private final int maximumHundredths;
+    /**
+     * The CAP value as a fraction of the maximum, so that CAPs out of different maximums can be compared.
+     * It is the exact quotient of the hundredths correctly rounded, so equal fractions are equal doubles, and unequal
+     * fractions, which differ by far more than the precision of a double, compare in the right order.
+     */
+    private final double normalizedValue;
+    /** The formatted CAP, computed once on first use, as it is only needed to render or save the CAP. */
+    private String formatted;
 
     /**
      * Constructs a {@code Cap}.
@@ -27,13 +52,44 @@ public class Cap {
      * @param max A maximum value for the CAP.
      */
     public Cap(double cap, double max) {
-        requireNonNull(cap);
-        requireNonNull(max);
+        this(toHundredths(cap), toHundredths(max));
         checkArgument(isValidCapValues(cap, max), MESSAGE_CONSTRAINTS);
-        String roundedCapValue = String.format("%.2f", cap);
-        String roundedMaxValue = String.format("%.2f", max);
-        value = Double.parseDouble(roundedCapValue);
-        maximum = Double.parseDouble(roundedMaxValue);
+    }
+
+    private Cap(int hundredths, int maximumHundredths) {
+        this.hundredths = hundredths;
+        this.maximumHundredths = maximumHundredths;
+        normalizedValue = (double) hundredths / maximumHundredths;
+    }
+
+    /**
+     * Returns {@code value} rounded half up to a whole number of hundredths, as it is when formatted to two decimal
+     * places.
+     */
+    private static int toHundredths(double value) {
+        if (!Double.isFinite(value) || Math.abs(value) > MAXIMUM_PARSED_POINTS) {
+            return 0; // invalid anyway, and rejected once the constructor checks the values
+        }
+        return BigDecimal.valueOf(value).setScale(DECIMAL_PLACES, RoundingMode.HALF_UP).unscaledValue().intValue();
+    }
+
+    /**
+     * Returns the CAP that {@code cap} represents in the format CAP_VALUE/MAXIMUM_CAP_VALUE, with both values
+     * rounded half up to hundredths, or an empty {@code Optional} if it is not a valid CAP.
+     * The CAP is parsed in a single pass, straight into fixed point, without splitting {@code cap} or parsing doubles.
+     */
+    public static Optional<Cap> parse(String cap) {
+        requireNonNull(cap);
+        int separator = cap.indexOf(CAP_SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        int value = parseHundredths(cap, 0, separator);
+        int maximum = parseHundredths(cap, separator + CAP_SEPARATOR.length(), cap.length());
+        if (value == INVALID_FORMAT || maximum == INVALID_FORMAT || !isValidHundredths(value, maximum)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Cap(value, maximum));
     }
 
     /**
@@ -47,50 +103,131 @@ public class Cap {
     }
 
     /**
-     * Returns true if given CAP values are valid, that is containing two valid
-     * numeric values only.
-     *
-     * @param capValues CAP values given.
+     * Returns true if a CAP value and its maximum in hundredths are valid, as declared in
+     * {@link #isValidCapValues(double, double)}.
      */
-    public static boolean isValidCapInput(String[] capValues) {
-        return capValues.length == 2 && isValidCapFormat(capValues[0]) && isValidCapFormat(capValues[1]);
+    private static boolean isValidHundredths(int hundredths, int maximumHundredths) {
+        return hundredths <= maximumHundredths && hundredths > 0 && maximumHundredths <= MAXIMUM_HUNDREDTHS;
     }
 
     /**
      * Returns true if a given CAP value is in a valid format, following the
      * validation regex.
+     * The value is checked in a single pass, which accepts exactly the strings matched by {@link #VALIDATION_REGEX}.
      *
      * @param capFormat CAP format given.
      */
     public static boolean isValidCapFormat(String capFormat) {
-        return capFormat.matches(VALIDATION_REGEX);
+        return parseHundredths(capFormat, 0, capFormat.length()) != INVALID_FORMAT;
+    }
+
+    /**
+     * Returns the value that the characters of {@code text} from {@code start} to {@code end} represent, rounded half
+     * up to a whole number of hundredths, or {@link #INVALID_FORMAT} if they do not match {@link #VALIDATION_REGEX}.
+     * Whitespace is allowed around the decimal point as well as around the value, as the format allows it.
+     */
+    private static int parseHundredths(String text, int start, int end) {
+        int i = skipWhitespace(text, start, end);
+        if (i == end || !isAsciiDigit(text.charAt(i))) {
+            return INVALID_FORMAT;
+        }
+        int points = text.charAt(i) - '0';
+        i = skipWhitespace(text, i + 1, end);
+        boolean hasDecimalPoint = i < end && text.charAt(i) == '.';
+        if (hasDecimalPoint) {
+            i = skipWhitespace(text, i + 1, end);
+        }
+        int fraction = 0;
+        int fractionDigits = 0;
+        boolean isRoundedUp = false;
+        for (; i < end && isAsciiDigit(text.charAt(i)); i++) {
+            int digit = text.charAt(i) - '0';
+            if (!hasDecimalPoint) {
+                points = Math.min(points * 10 + digit, MAXIMUM_PARSED_POINTS);
+            } else if (fractionDigits < DECIMAL_PLACES) {
+                fraction = fraction * 10 + digit;
+                fractionDigits++;
+            } else if (fractionDigits == DECIMAL_PLACES) {
+                isRoundedUp = digit >= 5;
+                fractionDigits++;
+            }
+        }
+        if (skipWhitespace(text, i, end) != end) {
+            return INVALID_FORMAT;
+        }
+        for (; fractionDigits < DECIMAL_PLACES; fractionDigits++) {
+            fraction *= 10;
+        }
+        return points * SCALE + fraction + (isRoundedUp ? 1 : 0);
+    }
+
+    /**
+     * Returns the position of the first character of {@code text} from {@code start} on, and before {@code end},
+     * that is not a whitespace, or {@code end} if there is none.
+     */
+    private static int skipWhitespace(String text, int start, int end) {
+        int i = start;
+        while (i < end && isAsciiWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
     }
 
     public double getValue() {
-        return value;
+        return (double) hundredths / SCALE;
     }
 
     public double getMaximum() {
-        return maximum;
+        return (double) maximumHundredths / SCALE;
+    }
+
+    /**
+     * Returns the CAP value in hundredths of a point.
+     */
+    public int getHundredths() {
+        return hundredths;
+    }
+
+    /**
+     * Returns the maximum CAP value in hundredths of a point.
+     */
+    public int getMaximumHundredths() {
+        return maximumHundredths;
+    }
+
+    /**
+     * Returns the CAP value as a fraction of the maximum CAP value.
+     */
+    public double getNormalizedValue() {
+        return normalizedValue;
     }
 
     @Override
     public String toString() {
-        String capValue = String.format("%.2f", value);
-        String maximumValue = String.format("%.2f", maximum);
-        return capValue + CAP_SEPARATOR + maximumValue;
+        if (formatted == null) {
+            formatted = format(hundredths) + CAP_SEPARATOR + format(maximumHundredths);
+        }
+        return formatted;
+    }
+
+    /**
+     * Returns {@code hundredths} formatted as a number of points to two decimal places.
+     */
+    private static String format(int hundredths) {
+        int fraction = hundredths % SCALE;
+        return (hundredths / SCALE) + (fraction < 10 ? ".0" : ".") + fraction;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof Cap
-                        && value == ((Cap) other).value
-                        && maximum == ((Cap) other).maximum);
+                        && hundredths == ((Cap) other).hundredths
+                        && maximumHundredths == ((Cap) other).maximumHundredths);
     }
 
     @Override
     public int hashCode() {
-        return ((Double) value).hashCode();
+        return hundredths * 31 + maximumHundredths;
     }
 }
@@ -0,0 +1,179 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.index.NumericField;
+
+/**
+ * Represents a range of CAPs to search for, either of CAP values or of percentages of the maximum CAP value.
+ * The bounds are kept in fixed point, in hundredths of a CAP point or of a percent, so that they compare exactly
+ * with the keys of the {@code NumericField} searched.
+ * The value of an exact CAP or of either end of a range is rounded half up to hundredths, as the CAPs themselves
+ * are, while the value of a bound is rounded towards the inside of the bound, so that it keeps every key that
+ * satisfies the bound, and only those.
+ * Guarantees: immutable, is valid as declared in {@link #isValidCapRange(String)}
+ */
+public class CapRange {
+    public static final String PERCENT = "%";
+    public static final String MESSAGE_CONSTRAINTS = "CAP ranges to search for should be in one of the formats "
+            + "X, >=X, >X, <=X, <X or X-Y, where X and Y are CAP values, such as 3.5, "
+            + "or percentages of the maximum CAP value, such as 80%.\n"
+            + "Both ends of an X-Y range should be of the same kind, and X should not exceed Y.";
+
+    /** Scale of the fixed-point bounds, in hundredths. */
+    private static final int SCALE = 100;
+    private static final String NUMBER_REGEX = "(\\d{1,3}(?:\\.\\d*)?|\\.\\d+)";
+    private static final Pattern BOUND_FORMAT = Pattern.compile("(>=|>|<=|<)\\s*" + NUMBER_REGEX + "\\s*(%?)");
+    private static final Pattern EXACT_FORMAT = Pattern.compile(NUMBER_REGEX + "\\s*(%?)");
+    private static final Pattern BETWEEN_FORMAT = Pattern.compile(
+            NUMBER_REGEX + "\\s*(%?)\\s*-\\s*" + NUMBER_REGEX + "\\s*(%?)");
+
+    private final NumericField field;
+    private final int min;
+    private final int max;
+
+    /**
+     * Constructs a {@code CapRange}.
+     *
+     * @param range A valid CAP range.
+     */
+    public CapRange(String range) {
+        requireNonNull(range);
+        checkArgument(isValidCapRange(range), MESSAGE_CONSTRAINTS);
+        String trimmedRange = range.trim();
+        Matcher bound = BOUND_FORMAT.matcher(trimmedRange);
+        Matcher exact = EXACT_FORMAT.matcher(trimmedRange);
+        if (bound.matches()) {
+            String value = bound.group(2);
+            field = toField(bound.group(3));
+            switch (bound.group(1)) {
+            case ">=":
+                min = toFixedPoint(value, RoundingMode.CEILING);
+                max = Integer.MAX_VALUE;
+                break;
+            case ">":
+                min = toFixedPoint(value, RoundingMode.FLOOR) + 1;
+                max = Integer.MAX_VALUE;
+                break;
+            case "<=":
+                min = Integer.MIN_VALUE;
+                max = toFixedPoint(value, RoundingMode.FLOOR);
+                break;
+            default:
+                min = Integer.MIN_VALUE;
+                max = toFixedPoint(value, RoundingMode.CEILING) - 1;
+                break;
+            }
+        } else if (exact.matches()) {
+            field = toField(exact.group(2));
+            min = toFixedPoint(exact.group(1));
+            max = min;
+        } else {
+            Matcher between = BETWEEN_FORMAT.matcher(trimmedRange);
+            between.matches();
+            field = toField(between.group(2));
+            min = toFixedPoint(between.group(1));
+            max = toFixedPoint(between.group(3));
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid CAP range.
+     */
+    public static boolean isValidCapRange(String test) {
+        String trimmedTest = test.trim();
+        if (BOUND_FORMAT.matcher(trimmedTest).matches() || EXACT_FORMAT.matcher(trimmedTest).matches()) {
+            return true;
+        }
+        Matcher between = BETWEEN_FORMAT.matcher(trimmedTest);
+        return between.matches()
+                && between.group(2).equals(between.group(4))
+                && toFixedPoint(between.group(1)) <= toFixedPoint(between.group(3));
+    }
+
+    private static int toFixedPoint(String number) {
+        return toFixedPoint(number, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Returns {@code number} in hundredths, rounded by {@code roundingMode}.
+     * The number is scaled exactly, as a decimal, so that a value with more than two decimal places is rounded from
+     * its exact value rather than from the nearest double.
+     */
+    private static int toFixedPoint(String number, RoundingMode roundingMode) {
+        return new BigDecimal(number).multiply(BigDecimal.valueOf(SCALE)).setScale(0, roundingMode).intValueExact();
+    }
+
+    private static NumericField toField(String unit) {
+        return unit.isEmpty() ? NumericField.CAP_VALUE : NumericField.CAP_FRACTION;
+    }
+
+    /**
+     * Returns the field whose keys this range bounds.
+     */
+    public NumericField getField() {
+        return field;
+    }
+
+    /**
+     * Returns the smallest key in this range, in hundredths of a CAP point or of a percent.
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest key in this range, in hundredths of a CAP point or of a percent.
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns true if the CAP of {@code person} is in this range.
+     */
+    public boolean contains(Person person) {
+        int key = field.getKey(person);
+        return key >= min && key <= max;
+    }
+
+    @Override
+    public String toString() {
+        String unit = field == NumericField.CAP_FRACTION ? PERCENT : "";
+        if (max == Integer.MAX_VALUE) {
+            return ">=" + toDecimal(min) + unit;
+        }
+        if (min == Integer.MIN_VALUE) {
+            return "<=" + toDecimal(max) + unit;
+        }
+        if (min == max) {
+            return toDecimal(min) + unit;
+        }
+        return toDecimal(min) + unit + "-" + toDecimal(max) + unit;
+    }
+
+    private static String toDecimal(int fixedPoint) {
+        int magnitude = Math.abs(fixedPoint);
+        return String.format("%s%d.%02d", fixedPoint < 0 ? "-" : "", magnitude / SCALE, magnitude % SCALE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CapRange // instanceof handles nulls
+                && field == ((CapRange) other).field
+                && min == ((CapRange) other).min
+                && max == ((CapRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return (field.hashCode() * 31 + min) * 31 + max;
+    }
+}
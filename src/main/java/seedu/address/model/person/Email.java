@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -66,9 +67,52 @@ public class Email {
 
     /**
      * Returns if a given string is a valid email.
+     * The string is checked in a single pass, which accepts exactly the strings matched by {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        return at >= 0 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} before {@code end} are a valid local-part.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} on are a valid domain.
+     * A last label matches two or more domain parts only if it has two alphanumeric characters next to each other,
+     * since a domain part can neither start nor end with a hyphen.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        int alphanumericRun = 0;
+        boolean hasLongRun = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                alphanumericRun++;
+                hasLongRun |= alphanumericRun >= 2;
+            } else if (alphanumericRun > 0 && (c == '-' || c == '.')) {
+                alphanumericRun = 0;
+                hasLongRun &= c == '-';
+            } else {
+                return false;
+            }
+        }
+        return alphanumericRun > 0 && hasLongRun;
     }
 
     @Override
@@ -85,7 +129,7 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value.toLowerCase().hashCode(); // consistent with the case-insensitive equals
     }
 
 }
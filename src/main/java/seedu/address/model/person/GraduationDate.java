@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents the Graduation Date of a Person in the address book, as combination of a Month and Year
@@ -16,10 +17,13 @@ public class GraduationDate {
             + "3. MONTH and YEAR values are separated by '-'\n"
             + "examples: 05-2024, 11-2027, 04-1999";
     public static final String VALIDATION_REGEX_MONTH_YEAR = "^((1[0-2]|0[1-9])-(\\d{4}))$";
+    private static final int LENGTH = "MM-yyyy".length();
     //public static final String MONTH_YEAR_PATTERN = "MM-yyyy";
     //public static final String DISPLAY_DATE_FORMAT = "MMM yyyy";
 
     public final String value;
+    /** The year and month of the date as the number of months since the start of year 0. */
+    private final int packedYearMonth;
 
     /**
      * Constructs an {@code GraduationDate}.
@@ -30,6 +34,7 @@ public class GraduationDate {
         requireNonNull(yearMonthString);
         checkArgument(isValidGraduationDate(yearMonthString));
         value = yearMonthString;
+        packedYearMonth = toPackedYearMonth(yearMonthString);
     }
 
     /**
@@ -39,6 +44,30 @@ public class GraduationDate {
         return isPatternMonthYear(test);
     }
 
+    /**
+     * Returns the year and month of this date packed into one int, which orders dates chronologically.
+     */
+    public int getPackedYearMonth() {
+        return packedYearMonth;
+    }
+
+    /**
+     * Returns the year and month of a valid graduation date packed into one int, as by
+     * {@link #getPackedYearMonth()}.
+     */
+    static int toPackedYearMonth(String validMonthYear) {
+        int month = Integer.parseInt(validMonthYear.substring(0, 2));
+        int year = Integer.parseInt(validMonthYear.substring(3));
+        return year * 12 + month - 1;
+    }
+
+    /**
+     * Returns the graduation date in the format MM-yyyy of a year and month packed into one int.
+     */
+    static String fromPackedYearMonth(int packedYearMonth) {
+        return String.format("%02d-%04d", packedYearMonth % 12 + 1, packedYearMonth / 12);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -56,7 +85,19 @@ public class GraduationDate {
         return value.hashCode();
     }
 
+    /**
+     * Returns true if {@code test} is of the format MM-yyyy, checking it in a single pass which accepts exactly the
+     * strings matched by {@link #VALIDATION_REGEX_MONTH_YEAR}.
+     */
     private static boolean isPatternMonthYear(String test) {
-        return test.matches(VALIDATION_REGEX_MONTH_YEAR);
+        if (test.length() != LENGTH || test.charAt(2) != '-') {
+            return false;
+        }
+        char tens = test.charAt(0);
+        char ones = test.charAt(1);
+        boolean isValidMonth = (tens == '0' && ones >= '1' && ones <= '9')
+                || (tens == '1' && ones >= '0' && ones <= '2');
+        return isValidMonth && isAsciiDigit(test.charAt(3)) && isAsciiDigit(test.charAt(4))
+                && isAsciiDigit(test.charAt(5)) && isAsciiDigit(test.charAt(6));
     }
 }
@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.index.NumericField;
+
+/**
+ * Represents a range of graduation dates to search for, which may be open at either end.
+ * The bounds are kept as year and month packed into one int, as by {@link GraduationDate#getPackedYearMonth()}.
+ * Guarantees: immutable, is valid as declared in {@link #isValidGraduationDateRange(String)}
+ */
+public class GraduationDateRange {
+    public static final String RANGE_SEPARATOR = "..";
+    public static final String MESSAGE_CONSTRAINTS = "Graduation date ranges to search for should be in one of the "
+            + "formats X, >=X, >X, <=X, <X, X" + RANGE_SEPARATOR + "Y, X" + RANGE_SEPARATOR + " or "
+            + RANGE_SEPARATOR + "Y, where X and Y are graduation dates of the format MONTH-YEAR (MM-yyyy).\n"
+            + "X should not be later than Y, e.g. 05-2024" + RANGE_SEPARATOR + "12-2025";
+
+    private static final String DATE_REGEX = "((?:1[0-2]|0[1-9])-\\d{4})";
+    private static final Pattern EXACT_FORMAT = Pattern.compile(DATE_REGEX);
+    private static final Pattern BOUND_FORMAT = Pattern.compile("(>=|>|<=|<)\\s*" + DATE_REGEX);
+    private static final Pattern BETWEEN_FORMAT = Pattern.compile(
+            DATE_REGEX + "?\\s*" + Pattern.quote(RANGE_SEPARATOR) + "\\s*" + DATE_REGEX + "?");
+
+    private final int min;
+    private final int max;
+
+    /**
+     * Constructs a {@code GraduationDateRange}.
+     *
+     * @param range A valid graduation date range.
+     */
+    public GraduationDateRange(String range) {
+        requireNonNull(range);
+        checkArgument(isValidGraduationDateRange(range), MESSAGE_CONSTRAINTS);
+        String trimmedRange = range.trim();
+        Matcher exact = EXACT_FORMAT.matcher(trimmedRange);
+        Matcher bound = BOUND_FORMAT.matcher(trimmedRange);
+        if (exact.matches()) {
+            min = GraduationDate.toPackedYearMonth(exact.group(1));
+            max = min;
+        } else if (bound.matches()) {
+            int value = GraduationDate.toPackedYearMonth(bound.group(2));
+            switch (bound.group(1)) {
+            case ">=":
+                min = value;
+                max = Integer.MAX_VALUE;
+                break;
+            case ">":
+                min = value + 1;
+                max = Integer.MAX_VALUE;
+                break;
+            case "<=":
+                min = Integer.MIN_VALUE;
+                max = value;
+                break;
+            default:
+                min = Integer.MIN_VALUE;
+                max = value - 1;
+                break;
+            }
+        } else {
+            Matcher between = BETWEEN_FORMAT.matcher(trimmedRange);
+            between.matches();
+            min = toBound(between.group(1), Integer.MIN_VALUE);
+            max = toBound(between.group(2), Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid graduation date range.
+     */
+    public static boolean isValidGraduationDateRange(String test) {
+        String trimmedTest = test.trim();
+        if (EXACT_FORMAT.matcher(trimmedTest).matches() || BOUND_FORMAT.matcher(trimmedTest).matches()) {
+            return true;
+        }
+        Matcher between = BETWEEN_FORMAT.matcher(trimmedTest);
+        return between.matches()
+                && (between.group(1) != null || between.group(2) != null)
+                && toBound(between.group(1), Integer.MIN_VALUE) <= toBound(between.group(2), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the packed year and month of {@code date}, or {@code openBound} if there is no date.
+     */
+    private static int toBound(String date, int openBound) {
+        return date == null ? openBound : GraduationDate.toPackedYearMonth(date);
+    }
+
+    /**
+     * Returns the earliest packed year and month in this range.
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the latest packed year and month in this range.
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns true if the graduation date of {@code person} is in this range.
+     */
+    public boolean contains(Person person) {
+        int key = NumericField.GRADUATION_DATE.getKey(person);
+        return key >= min && key <= max;
+    }
+
+    @Override
+    public String toString() {
+        if (min == max) {
+            return GraduationDate.fromPackedYearMonth(min);
+        }
+        String from = min == Integer.MIN_VALUE ? "" : GraduationDate.fromPackedYearMonth(min);
+        String to = max == Integer.MAX_VALUE ? "" : GraduationDate.fromPackedYearMonth(max);
+        return from + RANGE_SEPARATOR + to;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GraduationDateRange // instanceof handles nulls
+                && min == ((GraduationDateRange) other).min
+                && max == ((GraduationDateRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return min * 31 + max;
+    }
+}
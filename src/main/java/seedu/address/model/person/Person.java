@@ -6,10 +6,12 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import seedu.address.model.job.Id;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.Title;
+import seedu.address.model.person.index.IndexedField;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -33,6 +35,9 @@ public class Person {
     private final Major major;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Case-folded words of each indexed field, computed when first needed as the fields never change
+    private final AtomicReferenceArray<String[]> foldedWords = new AtomicReferenceArray<>(IndexedField.COUNT);
+
     /**
      * Every field must be present and not null.
      */
@@ -117,6 +122,20 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the case-folded words of the given {@code field} of this person, as described in
+     * {@link IndexedField#foldWords(Person)}.
+     * The words are cached, so the returned array must not be modified.
+     */
+    public String[] getFoldedWords(IndexedField field) {
+        String[] words = foldedWords.get(field.ordinal());
+        if (words == null) {
+            words = field.foldWords(this);
+            foldedWords.set(field.ordinal(), words);
+        }
+        return words;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import java.util.TreeMap;
+
+import seedu.address.model.person.index.NumericField;
+
+/**
+ * The number of persons in a group, and the sum, minimum and maximum of their CAPs, kept up to date as persons are
+ * added to and removed from the group.
+ * CAPs are aggregated as percentages of their maximum CAP values, in the fixed point of
+ * {@link NumericField#CAP_FRACTION}, so that CAPs out of different maximums can be aggregated together exactly.
+ */
+public class PersonAggregate {
+
+    private int count;
+    private long capSum;
+    /** The number of persons with each CAP, so that the minimum and maximum survive removals. */
+    private final TreeMap<Integer, Integer> capCounts = new TreeMap<>();
+
+    /**
+     * Adds {@code person} to the aggregate.
+     */
+    void add(Person person) {
+        int cap = NumericField.CAP_FRACTION.getKey(person);
+        count++;
+        capSum += cap;
+        capCounts.merge(cap, 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added, from the aggregate.
+     */
+    void remove(Person person) {
+        int cap = NumericField.CAP_FRACTION.getKey(person);
+        count--;
+        capSum -= cap;
+        capCounts.compute(cap, (unused, capCount) -> capCount == 1 ? null : capCount - 1);
+    }
+
+    /**
+     * Removes all persons from the aggregate.
+     */
+    void clear() {
+        count = 0;
+        capSum = 0;
+        capCounts.clear();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the average CAP as a percentage of the maximum CAP, or zero if the aggregate is empty.
+     */
+    public double getAverageCapPercentage() {
+        return count == 0 ? 0 : toPercentage(capSum) / count;
+    }
+
+    /**
+     * Returns the lowest CAP as a percentage of the maximum CAP, or zero if the aggregate is empty.
+     */
+    public double getMinimumCapPercentage() {
+        return capCounts.isEmpty() ? 0 : toPercentage(capCounts.firstKey());
+    }
+
+    /**
+     * Returns the highest CAP as a percentage of the maximum CAP, or zero if the aggregate is empty.
+     */
+    public double getMaximumCapPercentage() {
+        return capCounts.isEmpty() ? 0 : toPercentage(capCounts.lastKey());
+    }
+
+    private static double toPercentage(long capKey) {
+        return capKey / 100.0;
+    }
+}
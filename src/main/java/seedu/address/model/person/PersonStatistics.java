@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregates of the persons in a list, over all of them and grouped by each {@code StatisticsField}.
+ * Adding or removing a person updates one aggregate per field and the overall aggregate, so the aggregates of a
+ * {@code UniquePersonList} are kept up to date with it and reading them never scans the list.
+ */
+public class PersonStatistics {
+
+    private final PersonAggregate overall = new PersonAggregate();
+    private final Map<StatisticsField, Map<String, PersonAggregate>> groups = new EnumMap<>(StatisticsField.class);
+
+    /**
+     * Creates statistics of no persons.
+     */
+    public PersonStatistics() {
+        for (StatisticsField field : StatisticsField.values()) {
+            groups.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the statistics of {@code persons}, such as the persons currently displayed.
+     */
+    public static PersonStatistics of(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        PersonStatistics statistics = new PersonStatistics();
+        statistics.addAll(persons);
+        return statistics;
+    }
+
+    /**
+     * Adds all of {@code persons} to the aggregates.
+     */
+    void addAll(Collection<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the aggregates.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        overall.add(person);
+        groups.forEach((field, aggregates) ->
+                aggregates.computeIfAbsent(field.getGroup(person), unused -> new PersonAggregate()).add(person));
+    }
+
+    /**
+     * Removes {@code person}, which must have been added, from the aggregates.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        overall.remove(person);
+        groups.forEach((field, aggregates) -> {
+            String group = field.getGroup(person);
+            PersonAggregate aggregate = aggregates.get(group);
+            aggregate.remove(person);
+            if (aggregate.isEmpty()) {
+                aggregates.remove(group);
+            }
+        });
+    }
+
+    /**
+     * Removes all persons from the aggregates.
+     */
+    void clear() {
+        overall.clear();
+        groups.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the aggregate of all the persons.
+     */
+    public PersonAggregate getOverall() {
+        return overall;
+    }
+
+    /**
+     * Returns the aggregate of the persons in each non-empty group of {@code field}, by group.
+     */
+    public Map<String, PersonAggregate> getGroups(StatisticsField field) {
+        requireNonNull(field);
+        return Collections.unmodifiableMap(groups.get(field));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -19,6 +20,7 @@ public class Phone {
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
 
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MINIMUM_DIGITS = 3;
 
     public final String value;
 
@@ -42,9 +44,18 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * The string is checked in a single pass, which accepts exactly the strings matched by {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() < MINIMUM_DIGITS) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Represents a field that persons can be sorted by.
+ * Each field compares persons by a key precomputed by the field's value: a primitive number, or a collation key for
+ * text, so that comparing two persons never has to parse or collate their values again.
+ */
+public enum SortField {
+    NAME("name", Comparator.comparing(person -> person.getName().getCollationKey())),
+    CAP("cap", Comparator.comparingDouble(person -> person.getCap().getNormalizedValue())),
+    GRADUATION_DATE("graduation", Comparator.comparingInt(person -> person.getGraduationDate().getPackedYearMonth())),
+    UNIVERSITY("university", Comparator.comparing(person -> person.getUniversity().getCollationKey()));
+
+    private final String keyword;
+    private final Comparator<Person> comparator;
+
+    SortField(String keyword, Comparator<Person> comparator) {
+        this.keyword = keyword;
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the keyword that the field is referred to by in commands.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns a comparator that orders persons by this field, in ascending order.
+     */
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the field referred to by {@code keyword}, ignoring case, or an empty {@code Optional} if there is none.
+     */
+    public static Optional<SortField> fromKeyword(String keyword) {
+        for (SortField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents a field that persons can be grouped by for statistics.
+ */
+public enum StatisticsField {
+    UNIVERSITY("university", person -> person.getUniversity().value),
+    MAJOR("major", person -> person.getMajor().value),
+    JOB("job", person -> person.getJob().value),
+    GRADUATION_YEAR("graduation", person -> String.valueOf(person.getGraduationDate().getPackedYearMonth() / 12));
+
+    private final String keyword;
+    private final Function<Person, String> groupGetter;
+
+    StatisticsField(String keyword, Function<Person, String> groupGetter) {
+        this.keyword = keyword;
+        this.groupGetter = groupGetter;
+    }
+
+    /**
+     * Returns the keyword that the field is referred to by in commands.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the group of {@code person} for this field.
+     */
+    public String getGroup(Person person) {
+        return groupGetter.apply(person);
+    }
+
+    /**
+     * Returns true if the groups of this field are best listed in order of their values, as a histogram, rather
+     * than from the largest group.
+     */
+    public boolean isListedInOrder() {
+        return this == GRADUATION_YEAR;
+    }
+
+    /**
+     * Returns the field referred to by {@code keyword}, ignoring case, or an empty {@code Optional} if there is none.
+     */
+    public static Optional<StatisticsField> fromKeyword(String keyword) {
+        for (StatisticsField field : values()) {
+            if (field.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
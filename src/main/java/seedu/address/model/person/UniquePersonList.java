@@ -3,13 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.job.Id;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +23,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * being added or updated is unique in terms of identity in the UniquePersonList. However, the removal of a person uses
  * Person#equals(Object) so as to ensure that the person with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * Lookups by identity are backed by a hash index of each person's position in the list, so that
+ * {@code contains}, {@code add}, {@code setPerson} and {@code remove} do not need to scan the list.
+ * The persons in the list are also kept in a {@code PersonIndex}, so that they can be looked up by field values.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,12 +35,18 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position of every person in {@code internalList}, keyed by the identity of the person. */
+    private final Map<IdentityKey, Integer> positions = new HashMap<>();
+
+    private final PersonIndex personIndex = new PersonIndex();
+    private final PersonStatistics statistics = new PersonStatistics();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -54,9 +68,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        IdentityKey key = new IdentityKey(toAdd);
+        if (positions.containsKey(key)) {
             throw new DuplicatePersonException();
         }
+        positions.put(key, internalList.size());
+        personIndex.add(toAdd);
+        statistics.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -68,16 +86,24 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        IdentityKey targetKey = new IdentityKey(target);
+        int index = indexOf(targetKey, target);
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        IdentityKey editedKey = new IdentityKey(editedPerson);
+        boolean isSameIdentity = targetKey.equals(editedKey);
+        if (!isSameIdentity && positions.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
+        statistics.remove(internalList.get(index));
+        statistics.add(editedPerson);
+        personIndex.remove(internalList.get(index));
+        personIndex.add(editedPerson);
         internalList.set(index, editedPerson);
+        if (!isSameIdentity) {
+            positions.remove(targetKey);
+            positions.put(editedKey, index);
+        }
     }
 
     /**
@@ -86,14 +112,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
+        IdentityKey key = new IdentityKey(toRemove);
+        int index = indexOf(key, toRemove);
+
+        statistics.remove(internalList.get(index));
+        personIndex.remove(internalList.get(index));
+        internalList.remove(index);
+        positions.remove(key);
+        // persons after the removed one have shifted one position to the front
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(new IdentityKey(internalList.get(i)), i);
         }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        personIndex.clear();
+        personIndex.addAll(replacement.internalList);
+        statistics.clear();
+        statistics.addAll(replacement.internalList);
     }
 
     /**
@@ -102,26 +142,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<IdentityKey, Integer> newPositions = indexPositions(persons, 0);
 
         internalList.setAll(persons);
+        positions.clear();
+        positions.putAll(newPositions);
+        personIndex.clear();
+        personIndex.addAll(persons);
+        statistics.clear();
+        statistics.addAll(persons);
     }
 
     /**
      * Appends the contents of {@code persons} to this list
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, nor persons that already exist in this list.
+     * The whole batch is validated before the list is modified, and is then appended as a single change.
      */
     public void appendList(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<IdentityKey, Integer> appendedPositions = indexPositions(persons, internalList.size());
+        for (IdentityKey key : appendedPositions.keySet()) {
+            if (positions.containsKey(key)) {
+                throw new DuplicatePersonException();
+            }
         }
 
-        for (Person person : persons) {
-            add(person);
-        }
+        internalList.addAll(persons);
+        positions.putAll(appendedPositions);
+        personIndex.addAll(persons);
+        statistics.addAll(persons);
     }
 
     /**
@@ -131,6 +180,20 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns a read-only view of the index of the persons in this list.
+     */
+    public ReadOnlyPersonIndex getPersonIndex() {
+        return personIndex;
+    }
+
+    /**
+     * Returns the statistics of the persons in this list, which are kept up to date as the list changes.
+     */
+    public PersonStatistics getStatistics() {
+        return statistics;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -149,16 +212,57 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, looked up through its identity {@code key}.
+     *
+     * @throws PersonNotFoundException if no person in the list is equal to {@code person}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(IdentityKey key, Person person) {
+        Integer index = positions.get(key);
+        if (index == null || !internalList.get(index).equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns the identity of each person in {@code persons} mapped to its position in the list, given that
+     * the first person is placed at {@code offset}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    private static Map<IdentityKey, Integer> indexPositions(List<Person> persons, int offset) {
+        Map<IdentityKey, Integer> personPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (personPositions.put(new IdentityKey(persons.get(i)), offset + i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return personPositions;
+    }
+
+    /**
+     * Hashable form of the identity fields of a person, consistent with {@link Person#isSamePerson(Person)}.
+     */
+    private static class IdentityKey {
+        private final Email email;
+        private final Id jobId;
+
+        IdentityKey(Person person) {
+            email = person.getEmail();
+            jobId = person.getJob().getId();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && email.equals(((IdentityKey) other).email)
+                    && jobId.equals(((IdentityKey) other).jobId));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * email.hashCode() + jobId.hashCode();
+        }
     }
 }
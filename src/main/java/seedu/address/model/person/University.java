@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's university in the address book.
  * Guarantees: immutable; is always valid
@@ -23,9 +28,13 @@ public class University {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
+    /** Key to order university names alphabetically by, computed when first needed. */
+    private CollationKey collationKey;
+
     /**
      * Constructs an {@code University}.
      *
@@ -48,7 +57,17 @@ public class University {
      * Returns true if a given string is a valid university name.
      */
     public static boolean isValidUniversity(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the key that orders this university name alphabetically among others, ignoring case.
+     */
+    public CollationKey getCollationKey() {
+        if (collationKey == null) {
+            collationKey = StringUtil.toCollationKey(value);
+        }
+        return collationKey;
     }
 
     @Override
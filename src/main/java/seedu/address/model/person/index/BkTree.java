@@ -0,0 +1,114 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Burkhard-Keller tree of words, for finding every word within an edit distance of a given word.
+ * Each child of a word is at a distinct edit distance from it, so by the triangle inequality a lookup only needs
+ * to visit the children whose distance is within the maximum distance of the distance to the word looked up,
+ * instead of comparing against every word.
+ * Words cannot be removed; a {@code PersonIndex} ignores words that no person has anymore.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already present.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree that are at most {@code maxDistance} edits away from {@code word}.
+     */
+    List<String> search(String word, int maxDistance) {
+        requireNonNull(word);
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = distance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            node.children.forEach((childDistance, child) -> {
+                if (Math.abs(childDistance - distance) <= maxDistance) {
+                    nodesToVisit.push(child);
+                }
+            });
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the exact edit distance between {@code first} and {@code second}, which is never more than the length
+     * of the longer word.
+     */
+    private static int distance(String first, String second) {
+        return StringUtil.editDistance(first, second, Math.max(first.length(), second.length()));
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all words from the tree.
+     */
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * A word in the tree, and its children keyed by their edit distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Completes prefixes of the values of some {@code IndexedField}s into the distinct values that persons have.
+ * The values are kept in a {@code PrefixTrie} per field, which is updated from the changes to a list of persons,
+ * so that completing a prefix never goes through the persons.
+ */
+public class FieldValueCompleter implements ListChangeListener<Person> {
+
+    /** Fields whose values are completed. */
+    public static final Set<IndexedField> COMPLETED_FIELDS = EnumSet.of(IndexedField.UNIVERSITY, IndexedField.MAJOR,
+            IndexedField.JOB_TITLE, IndexedField.TAG);
+
+    private final Map<IndexedField, PrefixTrie> values = new EnumMap<>(IndexedField.class);
+
+    /**
+     * Creates a {@code FieldValueCompleter} of the values of {@code persons}, which stays up to date with any
+     * changes to {@code persons}.
+     */
+    public FieldValueCompleter(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (IndexedField field : COMPLETED_FIELDS) {
+            values.put(field, new PrefixTrie());
+        }
+        persons.forEach(this::addValues);
+        persons.addListener(this);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the same persons with the same values
+                continue;
+            }
+            change.getRemoved().forEach(this::removeValues);
+            change.getAddedSubList().forEach(this::addValues);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct values of {@code field} that start with {@code prefix}, ignoring case.
+     * {@code field} must be one of the {@link #COMPLETED_FIELDS}.
+     */
+    public List<String> getCompletions(IndexedField field, String prefix, int limit) {
+        requireAllNonNull(field, prefix);
+        checkArgument(COMPLETED_FIELDS.contains(field), field + " is not completed");
+        return values.get(field).getCompletions(prefix, limit);
+    }
+
+    private void addValues(Person person) {
+        values.forEach((field, trie) -> field.getValues(person).forEach(trie::add));
+    }
+
+    private void removeValues(Person person) {
+        values.forEach((field, trie) -> field.getValues(person).forEach(trie::remove));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a field of a {@code Person} that is indexed by a {@code PersonIndex}.
+ * Depending on its {@code Kind}, a person is indexed under every word, or every trigram, of the field's value,
+ * case-folded with {@link StringUtil#foldCase(String)}.
+ */
+public enum IndexedField {
+    NAME(Kind.WORDS, person -> Stream.of(person.getName().fullName)),
+    PHONE(Kind.TRIGRAMS, person -> Stream.of(person.getPhone().value)),
+    EMAIL(Kind.TRIGRAMS, person -> Stream.of(person.getEmail().value)),
+    ADDRESS(Kind.WORDS, person -> Stream.of(person.getAddress().value)),
+    GENDER(Kind.WORDS, person -> Stream.of(person.getGender().value)),
+    GRADUATION_DATE(Kind.WORDS, person -> Stream.of(person.getGraduationDate().value)),
+    UNIVERSITY(Kind.WORDS, person -> Stream.of(person.getUniversity().value)),
+    MAJOR(Kind.WORDS, person -> Stream.of(person.getMajor().value)),
+    JOB_ID(Kind.TRIGRAMS, person -> Stream.of(person.getJob().getId().value)),
+    JOB_TITLE(Kind.WORDS, person -> Stream.of(person.getJob().getTitle().value)),
+    TAG(Kind.WORDS, person -> person.getTags().stream().map(tag -> tag.tagName));
+
+    /**
+     * How the value of a field is broken up into keys.
+     */
+    public enum Kind {
+        /** Keys are the whitespace-separated words of the value, for full word matches. */
+        WORDS,
+        /** Keys are the substrings of length {@link #TRIGRAM_LENGTH} of the value, for substring matches. */
+        TRIGRAMS
+    }
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    /** Number of indexed fields. */
+    public static final int COUNT = values().length;
+
+    private final Kind kind;
+    private final Function<Person, Stream<String>> valuesGetter;
+
+    IndexedField(Kind kind, Function<Person, Stream<String>> valuesGetter) {
+        this.kind = kind;
+        this.valuesGetter = valuesGetter;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns true if the words of this field are also indexed by their spelling and sound, for lookups of words
+     * similar to a possibly misspelt word.
+     */
+    public boolean isIndexedBySimilarity() {
+        return this == NAME;
+    }
+
+    /**
+     * Returns the values of this field of {@code person}.
+     */
+    public Stream<String> getValues(Person person) {
+        return valuesGetter.apply(person);
+    }
+
+    /**
+     * Returns the case-folded words of this field of {@code person}: every whitespace-separated word of the
+     * field's values if this field is indexed by words, or else each value as a whole, folded with
+     * {@link #toSubstringKey(String)}.
+     * The words are computed afresh on every call; {@link Person#getFoldedWords(IndexedField)} caches them.
+     */
+    public String[] foldWords(Person person) {
+        if (kind == Kind.WORDS) {
+            return getValues(person)
+                    .flatMap(value -> Arrays.stream(value.split("\\s+")))
+                    .map(StringUtil::foldCase)
+                    .toArray(String[]::new);
+        }
+        return getValues(person).map(IndexedField::toSubstringKey).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the keys that {@code person} is indexed under for this field.
+     */
+    Set<String> getKeys(Person person) {
+        String[] words = foldWords(person);
+        if (kind == Kind.WORDS) {
+            Set<String> keys = new HashSet<>();
+            Collections.addAll(keys, words);
+            return keys;
+        }
+
+        Set<String> trigrams = new HashSet<>();
+        for (String value : words) {
+            trigrams.addAll(toTrigrams(value));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the case-folded form of {@code text} used for substring matches, consistent with
+     * {@link StringUtil#containsSubstringIgnoreCase(String, String)}.
+     */
+    public static String toSubstringKey(String text) {
+        return StringUtil.foldCase(text.trim().toUpperCase());
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code key}, or {@code key} itself if it is shorter than a trigram.
+     */
+    static Set<String> toTrigrams(String key) {
+        Set<String> trigrams = new HashSet<>();
+        if (key.length() < TRIGRAM_LENGTH) {
+            trigrams.add(key);
+        }
+        for (int i = 0; i + TRIGRAM_LENGTH <= key.length(); i++) {
+            trigrams.add(key.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.model.person.index;
+
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a numeric value of a {@code Person} that is indexed in sorted order by a {@code PersonIndex}, for
+ * range lookups.
+ * Every value is indexed as an {@code int} key in fixed point, so that keys compare exactly.
+ */
+public enum NumericField {
+    /** The CAP value, in hundredths of a point. */
+    CAP_VALUE(person -> person.getCap().getHundredths()),
+    /** The CAP value as a fraction of the maximum CAP value, in hundredths of a percent. */
+    CAP_FRACTION(person -> (int) Math.round(person.getCap().getNormalizedValue() * 10000)),
+    /** The graduation date, as the number of months since the start of year 0. */
+    GRADUATION_DATE(person -> person.getGraduationDate().getPackedYearMonth());
+
+    private final ToIntFunction<Person> keyGetter;
+
+    NumericField(ToIntFunction<Person> keyGetter) {
+        this.keyGetter = keyGetter;
+    }
+
+    /**
+     * Returns the key that {@code person} is indexed under for this field.
+     */
+    public int getKey(Person person) {
+        return keyGetter.applyAsInt(person);
+    }
+}
@@ -0,0 +1,478 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of person ordinals, compressed in the style of a roaring bitmap.
+ * The ordinals are split into chunks by their high 16 bits, and each chunk is held in whichever container is
+ * smaller for the number of ordinals in it: a sorted array of the low 16 bits of its ordinals, or a bitmap of all
+ * 65536 of them. Intersections, unions and differences of two bitmaps run chunk by chunk, over whole 64-bit words
+ * where both containers are bitmaps, so that combining the matches of fields with few distinct values, in which
+ * most chunks are bitmaps, takes a few thousand word operations per hundred thousand persons.
+ */
+public final class OrdinalBitmap {
+
+    /** A bitmap that is always empty. */
+    public static final OrdinalBitmap EMPTY = new OrdinalBitmap(new int[0], new Container[0], 0);
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int LOW_MASK = CHUNK_SIZE - 1;
+    private static final int WORD_COUNT = CHUNK_SIZE / Long.SIZE;
+    /** Largest number of ordinals held in an array container, beyond which a bitmap container is smaller. */
+    private static final int ARRAY_LIMIT = 4096;
+
+    /** The high 16 bits of the ordinals in each container, in increasing order. */
+    private final int[] chunks;
+    private final Container[] containers;
+    private final int size;
+
+    private OrdinalBitmap(int[] chunks, Container[] containers, int size) {
+        this.chunks = chunks;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    /**
+     * Returns a bitmap of the ordinals in {@code postingList}.
+     */
+    public static OrdinalBitmap of(PostingList postingList) {
+        requireNonNull(postingList);
+        Builder builder = new Builder();
+        for (int i = 0; i < postingList.size(); i++) {
+            builder.add(postingList.get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a bitmap of the ordinals from {@code from}, inclusive, to {@code to}, exclusive.
+     */
+    public static OrdinalBitmap range(int from, int to) {
+        checkArgument(from >= 0, "Ordinals must not be negative");
+        if (from >= to) {
+            return EMPTY;
+        }
+        int firstChunk = from >>> CHUNK_SHIFT;
+        int lastChunk = (to - 1) >>> CHUNK_SHIFT;
+        int[] chunks = new int[lastChunk - firstChunk + 1];
+        Container[] containers = new Container[chunks.length];
+        for (int chunk = firstChunk; chunk <= lastChunk; chunk++) {
+            int low = chunk == firstChunk ? from & LOW_MASK : 0;
+            int high = chunk == lastChunk ? ((to - 1) & LOW_MASK) + 1 : CHUNK_SIZE;
+            chunks[chunk - firstChunk] = chunk;
+            containers[chunk - firstChunk] = Container.ofRange(low, high);
+        }
+        return new OrdinalBitmap(chunks, containers, to - from);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns true if {@code ordinal} is in the bitmap.
+     */
+    public boolean contains(int ordinal) {
+        int position = Arrays.binarySearch(chunks, ordinal >>> CHUNK_SHIFT);
+        return position >= 0 && containers[position].contains(ordinal & LOW_MASK);
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals in both this bitmap and {@code other}.
+     */
+    public OrdinalBitmap and(OrdinalBitmap other) {
+        requireNonNull(other);
+        Combiner combiner = new Combiner(Math.min(chunks.length, other.chunks.length));
+        int i = 0;
+        int j = 0;
+        while (i < chunks.length && j < other.chunks.length) {
+            if (chunks[i] < other.chunks[j]) {
+                i++;
+            } else if (chunks[i] > other.chunks[j]) {
+                j++;
+            } else {
+                combiner.add(chunks[i], containers[i++].and(other.containers[j++]));
+            }
+        }
+        return combiner.build();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals in this bitmap, {@code other}, or both.
+     */
+    public OrdinalBitmap or(OrdinalBitmap other) {
+        requireNonNull(other);
+        Combiner combiner = new Combiner(chunks.length + other.chunks.length);
+        int i = 0;
+        int j = 0;
+        while (i < chunks.length || j < other.chunks.length) {
+            if (j == other.chunks.length || (i < chunks.length && chunks[i] < other.chunks[j])) {
+                combiner.add(chunks[i], containers[i++]);
+            } else if (i == chunks.length || chunks[i] > other.chunks[j]) {
+                combiner.add(other.chunks[j], other.containers[j++]);
+            } else {
+                combiner.add(chunks[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return combiner.build();
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals in this bitmap but not in {@code other}.
+     */
+    public OrdinalBitmap andNot(OrdinalBitmap other) {
+        requireNonNull(other);
+        Combiner combiner = new Combiner(chunks.length);
+        int j = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            while (j < other.chunks.length && other.chunks[j] < chunks[i]) {
+                j++;
+            }
+            boolean isInOther = j < other.chunks.length && other.chunks[j] == chunks[i];
+            combiner.add(chunks[i], isInOther ? containers[i].andNot(other.containers[j]) : containers[i]);
+        }
+        return combiner.build();
+    }
+
+    /**
+     * Performs {@code action} on every ordinal in the bitmap, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < chunks.length; i++) {
+            containers[i].forEach(chunks[i] << CHUNK_SHIFT, action);
+        }
+    }
+
+    /**
+     * Returns the ordinals in the bitmap, in increasing order.
+     */
+    public int[] toArray() {
+        int[] ordinals = new int[size];
+        int[] position = {0};
+        forEach(ordinal -> ordinals[position[0]++] = ordinal);
+        return ordinals;
+    }
+
+    /**
+     * Returns a posting list of the ordinals in the bitmap.
+     */
+    public PostingList toPostingList() {
+        return PostingList.ofDistinct(toArray(), size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrdinalBitmap // instanceof handles nulls
+                && Arrays.equals(toArray(), ((OrdinalBitmap) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Builds a bitmap from ordinals added in increasing order.
+     */
+    public static class Builder {
+        private final Combiner combiner = new Combiner(1);
+        private int currentChunk = -1;
+        private int lastOrdinal = -1;
+        private char[] values = new char[ARRAY_LIMIT];
+        private int valueCount;
+        /** The ordinals of the current chunk, once there are too many for {@link #values}. */
+        private long[] words;
+
+        /**
+         * Adds {@code ordinal}, which must be greater than every ordinal added before.
+         */
+        public Builder add(int ordinal) {
+            checkArgument(ordinal > lastOrdinal, "Ordinals must be added in increasing order");
+            lastOrdinal = ordinal;
+            int chunk = ordinal >>> CHUNK_SHIFT;
+            if (chunk != currentChunk) {
+                flush();
+                currentChunk = chunk;
+            }
+            int low = ordinal & LOW_MASK;
+            if (words == null && valueCount == ARRAY_LIMIT) {
+                words = new long[WORD_COUNT];
+                for (int i = 0; i < valueCount; i++) {
+                    words[values[i] >>> 6] |= 1L << values[i];
+                }
+            }
+            if (words == null) {
+                values[valueCount++] = (char) low;
+            } else {
+                words[low >>> 6] |= 1L << low;
+            }
+            return this;
+        }
+
+        /**
+         * Returns a bitmap of the ordinals added so far.
+         */
+        public OrdinalBitmap build() {
+            flush();
+            currentChunk = -1;
+            return combiner.build();
+        }
+
+        private void flush() {
+            if (currentChunk >= 0) {
+                combiner.add(currentChunk, words == null
+                        ? Container.ofValues(values, valueCount)
+                        : Container.ofWords(words));
+            }
+            valueCount = 0;
+            words = null;
+        }
+    }
+
+    /**
+     * Collects the non-empty containers of a bitmap, in increasing order of their chunks.
+     */
+    private static class Combiner {
+        private final List<Integer> chunks;
+        private final List<Container> containers;
+        private int size;
+
+        Combiner(int expectedChunks) {
+            chunks = new ArrayList<>(expectedChunks);
+            containers = new ArrayList<>(expectedChunks);
+        }
+
+        void add(int chunk, Container container) {
+            if (container != null) {
+                chunks.add(chunk);
+                containers.add(container);
+                size += container.cardinality;
+            }
+        }
+
+        OrdinalBitmap build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new OrdinalBitmap(chunks.stream().mapToInt(Integer::intValue).toArray(),
+                    containers.toArray(new Container[0]), size);
+        }
+    }
+
+    /**
+     * The low 16 bits of the ordinals in one chunk, held in a sorted array if there are at most
+     * {@link #ARRAY_LIMIT} of them, or else in a bitmap.
+     * Containers are never empty; an operation that leaves no ordinals returns null instead.
+     */
+    private static class Container {
+        /** The ordinals in increasing order, or null if this is a bitmap container. */
+        private final char[] values;
+        /** The ordinals as set bits, or null if this is an array container. */
+        private final long[] words;
+        private final int cardinality;
+
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /** Returns a container of the first {@code count} of the increasing {@code values}. */
+        static Container ofValues(char[] values, int count) {
+            if (count == 0) {
+                return null;
+            }
+            if (count <= ARRAY_LIMIT) {
+                return new Container(Arrays.copyOf(values, count), null, count);
+            }
+            long[] words = new long[WORD_COUNT];
+            for (int i = 0; i < count; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new Container(null, words, count);
+        }
+
+        /** Returns a container of the set bits of {@code words}, which it may keep. */
+        static Container ofWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                return new Container(null, words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORD_COUNT; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[count++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new Container(values, null, cardinality);
+        }
+
+        /** Returns a container of the values from {@code low}, inclusive, to {@code high}, exclusive. */
+        static Container ofRange(int low, int high) {
+            int count = high - low;
+            if (count <= ARRAY_LIMIT) {
+                char[] values = new char[count];
+                for (int i = 0; i < count; i++) {
+                    values[i] = (char) (low + i);
+                }
+                return new Container(values, null, count);
+            }
+            long[] words = new long[WORD_COUNT];
+            int firstWord = low >>> 6;
+            int lastWord = (high - 1) >>> 6;
+            Arrays.fill(words, firstWord, lastWord + 1, -1L);
+            words[firstWord] &= -1L << low;
+            words[lastWord] &= -1L >>> -high;
+            return new Container(null, words, count);
+        }
+
+        boolean isArray() {
+            return values != null;
+        }
+
+        boolean contains(int low) {
+            return isArray()
+                    ? Arrays.binarySearch(values, (char) low) >= 0
+                    : (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        Container and(Container other) {
+            if (isArray() && other.isArray()) {
+                char[] intersection = new char[Math.min(cardinality, other.cardinality)];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < other.cardinality) {
+                    if (values[i] < other.values[j]) {
+                        i++;
+                    } else if (values[i] > other.values[j]) {
+                        j++;
+                    } else {
+                        intersection[count++] = values[i++];
+                        j++;
+                    }
+                }
+                return ofValues(intersection, count);
+            }
+            if (isArray() || other.isArray()) {
+                Container array = isArray() ? this : other;
+                Container bitmap = isArray() ? other : this;
+                return array.filter(bitmap, true);
+            }
+            long[] intersection = new long[WORD_COUNT];
+            for (int i = 0; i < WORD_COUNT; i++) {
+                intersection[i] = words[i] & other.words[i];
+            }
+            return ofWords(intersection);
+        }
+
+        Container or(Container other) {
+            if (isArray() && other.isArray()) {
+                char[] union = new char[cardinality + other.cardinality];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                        union[count++] = values[i++];
+                    } else if (i == cardinality || values[i] > other.values[j]) {
+                        union[count++] = other.values[j++];
+                    } else {
+                        union[count++] = values[i++];
+                        j++;
+                    }
+                }
+                return ofValues(union, count);
+            }
+            long[] union = toWords();
+            if (other.isArray()) {
+                for (char value : other.values) {
+                    union[value >>> 6] |= 1L << value;
+                }
+            } else {
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    union[i] |= other.words[i];
+                }
+            }
+            return ofWords(union);
+        }
+
+        Container andNot(Container other) {
+            if (isArray()) {
+                return filter(other, false);
+            }
+            long[] difference = words.clone();
+            if (other.isArray()) {
+                for (char value : other.values) {
+                    difference[value >>> 6] &= ~(1L << value);
+                }
+            } else {
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    difference[i] &= ~other.words[i];
+                }
+            }
+            return ofWords(difference);
+        }
+
+        /**
+         * Returns a container of the values of this array container that are in {@code other} if {@code keep} is
+         * true, or that are not in {@code other} otherwise.
+         */
+        private Container filter(Container other, boolean keep) {
+            char[] filtered = new char[cardinality];
+            int count = 0;
+            for (char value : values) {
+                if (other.contains(value) == keep) {
+                    filtered[count++] = value;
+                }
+            }
+            return ofValues(filtered, count);
+        }
+
+        /** Returns a new bitmap of the values in this container. */
+        private long[] toWords() {
+            if (!isArray()) {
+                return words.clone();
+            }
+            long[] bitmap = new long[WORD_COUNT];
+            for (char value : values) {
+                bitmap[value >>> 6] |= 1L << value;
+            }
+            return bitmap;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (isArray()) {
+                for (char value : values) {
+                    action.accept(base | value);
+                }
+                return;
+            }
+            for (int i = 0; i < WORD_COUNT; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(base | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Inverted index of persons, mapping each case-folded key (word or trigram) of every {@code IndexedField} to the
+ * posting list of the persons whose field contains that key.
+ * Every {@code NumericField} is also indexed in sorted order of its keys, for range lookups.
+ * Persons are tracked by reference, so the exact instance that was added must be the one that is removed.
+ */
+public class PersonIndex implements ReadOnlyPersonIndex {
+
+    /** Returned by {@link #addToPostingLists(Person)} for a person that is already in the index. */
+    private static final int NOT_ADDED = -1;
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    /** Every indexed person at the position of its ordinal, or null if the ordinal is not in use. */
+    private final List<Person> persons = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<IndexedField, Map<String, PostingList>> postingLists = new EnumMap<>(IndexedField.class);
+    /** Every word ever indexed of each field indexed by similarity, including words no person has anymore. */
+    private final Map<IndexedField, BkTree> similarWords = new EnumMap<>(IndexedField.class);
+    /** The words of each field indexed by similarity, by their phonetic key. */
+    private final Map<IndexedField, Map<String, Set<String>>> phoneticWords = new EnumMap<>(IndexedField.class);
+    private final Map<NumericField, SortedKeyIndex> sortedKeys = new EnumMap<>(NumericField.class);
+    /** The total number of words in each field of the indexed persons, by the ordinal of the field. */
+    private final long[] wordCounts = new long[IndexedField.COUNT];
+
+    /**
+     * Creates an empty {@code PersonIndex}.
+     */
+    public PersonIndex() {
+        for (IndexedField field : IndexedField.values()) {
+            postingLists.put(field, new HashMap<>());
+            if (field.isIndexedBySimilarity()) {
+                similarWords.put(field, new BkTree());
+                phoneticWords.put(field, new HashMap<>());
+            }
+        }
+        for (NumericField field : NumericField.values()) {
+            sortedKeys.put(field, new SortedKeyIndex());
+        }
+    }
+
+    /**
+     * Indexes {@code person} under the keys of each of its indexed fields.
+     * Does nothing if {@code person} is already in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = addToPostingLists(person);
+        if (ordinal != NOT_ADDED) {
+            sortedKeys.forEach((field, index) -> index.add(field.getKey(person), ordinal));
+        }
+    }
+
+    /**
+     * Adds all of {@code persons} to the index.
+     * The numeric fields of all the added persons are sorted in one go, rather than inserted one person at a time.
+     */
+    public void addAll(Collection<Person> persons) {
+        requireAllNonNull(persons);
+        int[] addedOrdinals = new int[persons.size()];
+        int addedCount = 0;
+        for (Person person : persons) {
+            int ordinal = addToPostingLists(person);
+            if (ordinal != NOT_ADDED) {
+                addedOrdinals[addedCount++] = ordinal;
+            }
+        }
+
+        int[] keys = new int[addedCount];
+        for (Map.Entry<NumericField, SortedKeyIndex> entry : sortedKeys.entrySet()) {
+            for (int i = 0; i < addedCount; i++) {
+                keys[i] = entry.getKey().getKey(getPerson(addedOrdinals[i]));
+            }
+            entry.getValue().addAll(keys, addedOrdinals, addedCount);
+        }
+    }
+
+    /**
+     * Gives {@code person} an ordinal and adds it to the posting lists of each of its indexed fields, but not to the
+     * sorted keys of its numeric fields.
+     *
+     * @return the ordinal of {@code person}, or {@link #NOT_ADDED} if it is already in the index.
+     */
+    private int addToPostingLists(Person person) {
+        if (ordinals.containsKey(person)) {
+            return NOT_ADDED;
+        }
+
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = persons.size();
+            persons.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            persons.set(ordinal, person);
+        }
+        ordinals.put(person, ordinal);
+
+        postingLists.forEach((field, index) -> {
+            wordCounts[field.ordinal()] += person.getFoldedWords(field).length;
+            for (String word : field.getKeys(person)) {
+                PostingList postingList = index.get(word);
+                if (postingList == null) {
+                    postingList = new PostingList();
+                    index.put(word, postingList);
+                    addSimilarWord(field, word);
+                }
+                postingList.add(ordinal);
+            }
+        });
+        return ordinal;
+    }
+
+    /**
+     * Removes {@code person} from the index, freeing its ordinal to be reused.
+     * Does nothing if {@code person} is not in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+
+        postingLists.forEach((field, index) -> {
+            wordCounts[field.ordinal()] -= person.getFoldedWords(field).length;
+            for (String word : field.getKeys(person)) {
+                PostingList postingList = index.get(word);
+                postingList.remove(ordinal);
+                if (postingList.isEmpty()) {
+                    index.remove(word);
+                    removeSimilarWord(field, word);
+                }
+            }
+        });
+        sortedKeys.forEach((field, index) -> index.remove(field.getKey(person), ordinal));
+        persons.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        ordinals.clear();
+        persons.clear();
+        freeOrdinals.clear();
+        postingLists.values().forEach(Map::clear);
+        similarWords.values().forEach(BkTree::clear);
+        phoneticWords.values().forEach(Map::clear);
+        sortedKeys.values().forEach(SortedKeyIndex::clear);
+        Arrays.fill(wordCounts, 0);
+    }
+
+    private void addSimilarWord(IndexedField field, String word) {
+        if (field.isIndexedBySimilarity()) {
+            similarWords.get(field).add(word);
+            phoneticWords.get(field).computeIfAbsent(StringUtil.toPhoneticKey(word), unused -> new HashSet<>())
+                    .add(word);
+        }
+    }
+
+    private void removeSimilarWord(IndexedField field, String word) {
+        if (field.isIndexedBySimilarity()) {
+            // the word stays in the tree, where it is ignored once it is not in the posting lists
+            Map<String, Set<String>> wordsByKey = phoneticWords.get(field);
+            String phoneticKey = StringUtil.toPhoneticKey(word);
+            Set<String> words = wordsByKey.get(phoneticKey);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByKey.remove(phoneticKey);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return ordinals.size();
+    }
+
+    @Override
+    public OrdinalBitmap getAllPersons() {
+        // ordinals are handed out from zero, so every ordinal below the next new one is in use unless it was freed
+        int[] unusedOrdinals = freeOrdinals.stream().mapToInt(Integer::intValue).sorted().toArray();
+        OrdinalBitmap.Builder unused = new OrdinalBitmap.Builder();
+        for (int ordinal : unusedOrdinals) {
+            unused.add(ordinal);
+        }
+        return OrdinalBitmap.range(0, persons.size()).andNot(unused.build());
+    }
+
+    @Override
+    public PostingList getPersonsWithSimilarWord(IndexedField field, String word, int maxDistance) {
+        requireAllNonNull(field, word);
+        checkArgument(field.isIndexedBySimilarity(), field + " is not indexed by similarity");
+        Map<String, PostingList> index = postingLists.get(field);
+        String key = StringUtil.foldCase(word.trim());
+
+        Set<String> similar = new HashSet<>(similarWords.get(field).search(key, maxDistance));
+        similar.addAll(phoneticWords.get(field).getOrDefault(StringUtil.toPhoneticKey(key), Collections.emptySet()));
+        List<PostingList> matches = new ArrayList<>();
+        for (String similarWord : similar) {
+            PostingList postingList = index.get(similarWord);
+            if (postingList != null) {
+                matches.add(postingList);
+            }
+        }
+        return PostingList.union(matches);
+    }
+
+    @Override
+    public int countPersonsWithAnyWord(IndexedField field, Collection<String> words) {
+        requireAllNonNull(field, words);
+        checkArgument(field.getKind() == IndexedField.Kind.WORDS, field + " is not indexed by words");
+        Map<String, PostingList> index = postingLists.get(field);
+        int count = 0;
+        for (String word : words) {
+            count += index.getOrDefault(StringUtil.foldCase(word.trim()), PostingList.EMPTY).size();
+        }
+        return Math.min(count, size());
+    }
+
+    @Override
+    public int estimatePersonsWithSubstring(IndexedField field, String substring) {
+        requireAllNonNull(field, substring);
+        checkArgument(field.getKind() == IndexedField.Kind.TRIGRAMS, field + " is not indexed by trigrams");
+        String key = IndexedField.toSubstringKey(substring);
+        if (key.length() < IndexedField.TRIGRAM_LENGTH) {
+            // finding the trigrams that contain a short substring takes a scan of every trigram, so assume the worst
+            return size();
+        }
+
+        Map<String, PostingList> index = postingLists.get(field);
+        int estimate = size();
+        for (String trigram : IndexedField.toTrigrams(key)) {
+            estimate = Math.min(estimate, index.getOrDefault(trigram, PostingList.EMPTY).size());
+        }
+        return estimate;
+    }
+
+    @Override
+    public PostingList getPersonsWithAnyWord(IndexedField field, Collection<String> words) {
+        requireAllNonNull(field, words);
+        checkArgument(field.getKind() == IndexedField.Kind.WORDS, field + " is not indexed by words");
+        Map<String, PostingList> index = postingLists.get(field);
+        List<PostingList> matches = new ArrayList<>();
+        for (String word : words) {
+            matches.add(index.getOrDefault(StringUtil.foldCase(word.trim()), PostingList.EMPTY));
+        }
+        return matches.size() == 1 ? matches.get(0) : PostingList.union(matches);
+    }
+
+    @Override
+    public PostingList getPersonsWithWordMatching(IndexedField field, Predicate<String> wordMatcher) {
+        requireAllNonNull(field, wordMatcher);
+        checkArgument(field.getKind() == IndexedField.Kind.WORDS, field + " is not indexed by words");
+        List<PostingList> matches = new ArrayList<>();
+        postingLists.get(field).forEach((word, postingList) -> {
+            if (wordMatcher.test(word)) {
+                matches.add(postingList);
+            }
+        });
+        return PostingList.union(matches);
+    }
+
+    @Override
+    public PostingList getPersonsWithSubstring(IndexedField field, String substring) {
+        requireAllNonNull(field, substring);
+        checkArgument(field.getKind() == IndexedField.Kind.TRIGRAMS, field + " is not indexed by trigrams");
+        Map<String, PostingList> index = postingLists.get(field);
+        String key = IndexedField.toSubstringKey(substring);
+
+        List<PostingList> trigramMatches = new ArrayList<>();
+        PostingList candidates;
+        if (key.length() >= IndexedField.TRIGRAM_LENGTH) {
+            // a value containing the substring must contain every trigram of the substring
+            for (String trigram : IndexedField.toTrigrams(key)) {
+                trigramMatches.add(index.getOrDefault(trigram, PostingList.EMPTY));
+            }
+            trigramMatches.sort(Comparator.comparingInt(PostingList::size));
+            candidates = trigramMatches.get(0);
+            for (int i = 1; i < trigramMatches.size() && !candidates.isEmpty(); i++) {
+                candidates = candidates.intersect(trigramMatches.get(i));
+            }
+        } else {
+            // a substring shorter than a trigram is contained in a trigram, or in a value shorter than a trigram
+            index.forEach((trigram, postingList) -> {
+                if (trigram.contains(key)) {
+                    trigramMatches.add(postingList);
+                }
+            });
+            candidates = PostingList.union(trigramMatches);
+        }
+
+        // sharing trigrams does not guarantee containing the substring, so the candidates are checked directly
+        return candidates.filter(ordinal -> {
+            for (String value : getPerson(ordinal).getFoldedWords(field)) {
+                if (value.contains(key)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public PostingList getPersonsInRange(NumericField field, int min, int max) {
+        requireNonNull(field);
+        return sortedKeys.get(field).getOrdinalsBetween(min, max);
+    }
+
+    @Override
+    public int countPersonsInRange(NumericField field, int min, int max) {
+        requireNonNull(field);
+        return sortedKeys.get(field).countOrdinalsBetween(min, max);
+    }
+
+    @Override
+    public double getAverageWordCount(IndexedField field) {
+        requireNonNull(field);
+        return size() == 0 ? 0 : (double) wordCounts[field.ordinal()] / size();
+    }
+
+    @Override
+    public Person getPerson(int ordinal) {
+        Person person = ordinal >= 0 && ordinal < persons.size() ? persons.get(ordinal) : null;
+        if (person == null) {
+            throw new IllegalArgumentException("No person is identified by ordinal " + ordinal);
+        }
+        return person;
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * A sorted set of person ordinals, stored in a growable {@code int} array.
+ * At 4 bytes per entry, a posting list is compact enough to index every word of a million persons in memory,
+ * and its sorted order allows posting lists to be merged and intersected without hashing.
+ * Posting lists can only be modified by a {@code PersonIndex}.
+ */
+public class PostingList {
+
+    /** A posting list that is always empty. */
+    public static final PostingList EMPTY = new PostingList();
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ordinals;
+    private int size;
+
+    PostingList() {
+        this(new int[0], 0);
+    }
+
+    private PostingList(int[] ordinals, int size) {
+        this.ordinals = ordinals;
+        this.size = size;
+    }
+
+    /**
+     * Returns a posting list of the first {@code size} of {@code ordinals}, which must be distinct, sorting them in
+     * place.
+     */
+    static PostingList ofDistinct(int[] ordinals, int size) {
+        Arrays.sort(ordinals, 0, size);
+        return new PostingList(ordinals, size);
+    }
+
+    /**
+     * Adds {@code ordinal} to the posting list, if it is not already present.
+     */
+    void add(int ordinal) {
+        int position;
+        if (size == 0 || ordinals[size - 1] < ordinal) {
+            // ordinals are mostly handed out in increasing order, so appending is the common case
+            position = size;
+        } else {
+            position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+        }
+
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        ordinals[position] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes {@code ordinal} from the posting list, if it is present.
+     */
+    void remove(int ordinal) {
+        int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ordinal at {@code position} of the posting list, in increasing order of ordinals.
+     */
+    public int get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return ordinals[position];
+    }
+
+    /**
+     * Returns true if {@code ordinal} is in the posting list.
+     */
+    public boolean contains(int ordinal) {
+        return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * Returns the ordinals in the posting list as a sorted array.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ordinals, size);
+    }
+
+    /**
+     * Returns a new posting list of the ordinals found in both this posting list and {@code other}.
+     */
+    public PostingList intersect(PostingList other) {
+        requireNonNull(other);
+        PostingList smaller = size <= other.size ? this : other;
+        PostingList larger = smaller == this ? other : this;
+
+        int[] intersection = new int[smaller.size];
+        int intersectionSize = 0;
+        for (int i = 0; i < smaller.size; i++) {
+            if (larger.contains(smaller.ordinals[i])) {
+                intersection[intersectionSize++] = smaller.ordinals[i];
+            }
+        }
+        return new PostingList(intersection, intersectionSize);
+    }
+
+    /**
+     * Returns a new posting list of the ordinals in this posting list that satisfy {@code predicate}.
+     */
+    public PostingList filter(IntPredicate predicate) {
+        requireNonNull(predicate);
+        int[] filtered = new int[size];
+        int filteredSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(ordinals[i])) {
+                filtered[filteredSize++] = ordinals[i];
+            }
+        }
+        return new PostingList(filtered, filteredSize);
+    }
+
+    /**
+     * Returns a new posting list of the ordinals found in any of {@code postingLists}.
+     */
+    public static PostingList union(List<PostingList> postingLists) {
+        requireNonNull(postingLists);
+        if (postingLists.size() <= 2) {
+            PostingList union = EMPTY;
+            for (PostingList postingList : postingLists) {
+                union = union.merge(postingList);
+            }
+            return union;
+        }
+
+        // merging many posting lists pairwise is quadratic, so sort all their ordinals at once instead
+        int[] all = new int[postingLists.stream().mapToInt(PostingList::size).sum()];
+        int allSize = 0;
+        for (PostingList postingList : postingLists) {
+            System.arraycopy(postingList.ordinals, 0, all, allSize, postingList.size);
+            allSize += postingList.size;
+        }
+        Arrays.sort(all);
+
+        int unionSize = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (unionSize == 0 || all[unionSize - 1] != all[i]) {
+                all[unionSize++] = all[i];
+            }
+        }
+        return new PostingList(all, unionSize);
+    }
+
+    private PostingList merge(PostingList other) {
+        int[] merged = new int[size + other.size];
+        int mergedSize = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && ordinals[i] < other.ordinals[j])) {
+                merged[mergedSize++] = ordinals[i++];
+            } else if (i == size || other.ordinals[j] < ordinals[i]) {
+                merged[mergedSize++] = other.ordinals[j++];
+            } else {
+                merged[mergedSize++] = ordinals[i++];
+                j++;
+            }
+        }
+        return new PostingList(merged, mergedSize);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PostingList // instanceof handles nulls
+                && Arrays.equals(toArray(), ((PostingList) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+}
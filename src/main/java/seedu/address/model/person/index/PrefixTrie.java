@@ -0,0 +1,115 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Trie of distinct values, for completing a prefix into the values that start with it, ignoring case.
+ * Each value is counted every time it is added, and only removed once it has been removed as many times, so that
+ * a trie of the values of a field holds exactly the values that some person has.
+ * Completing a prefix only visits the nodes under the prefix until enough values are found, however many values
+ * the trie holds.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds one occurrence of {@code value}.
+     * The value is completed with the case of its first occurrence.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        Node node = root;
+        for (int i = 0; i < value.length(); i++) {
+            node = node.children.computeIfAbsent(foldChar(value.charAt(i)), unused -> new Node());
+        }
+        if (node.count == 0) {
+            node.value = value;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, ignoring case.
+     * Does nothing if {@code value} is not in the trie.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < value.length() && node != null; i++) {
+            path.push(node);
+            node = node.children.get(foldChar(value.charAt(i)));
+        }
+        if (node == null || node.count == 0) {
+            return;
+        }
+
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.value = null;
+        // prune the nodes that no longer lead to any value
+        for (int i = value.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            Node parent = path.pop();
+            parent.children.remove(foldChar(value.charAt(i)));
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} values that start with {@code prefix}, ignoring case.
+     * Shorter values come before longer values that start with them, and values are otherwise in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(foldChar(prefix.charAt(i)));
+        }
+        if (node != null) {
+            collectValues(node, limit, completions);
+        }
+        return completions;
+    }
+
+    /**
+     * Adds the values under {@code node} to {@code values} in order, until there are {@code limit} values.
+     */
+    private static void collectValues(Node node, int limit, List<String> values) {
+        if (values.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            values.add(node.value);
+        }
+        for (Node child : node.children.values()) {
+            collectValues(child, limit, values);
+        }
+    }
+
+    /**
+     * Returns {@code c} folded the same way as {@code StringUtil#foldCase(String)}.
+     */
+    private static char foldChar(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * A node of the trie, which ends the value it holds if its count is positive.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String value;
+        private int count;
+    }
+}
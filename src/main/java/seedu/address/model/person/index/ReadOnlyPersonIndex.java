@@ -0,0 +1,87 @@
+package seedu.address.model.person.index;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Unmodifiable view of the persons in an address book, indexed by the keys of each of their {@code IndexedField}s,
+ * and in sorted order of the keys of each of their {@code NumericField}s.
+ * Every indexed person is identified by an ordinal, which is reused once the person is removed from the index.
+ */
+public interface ReadOnlyPersonIndex {
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    int size();
+
+    /**
+     * Returns the ordinals of every person in the index.
+     */
+    OrdinalBitmap getAllPersons();
+
+    /**
+     * Returns the ordinals of the persons with any of {@code words} in their {@code field}, ignoring case.
+     * A full word match is required. {@code field} must be indexed by words.
+     */
+    PostingList getPersonsWithAnyWord(IndexedField field, Collection<String> words);
+
+    /**
+     * Returns the ordinals of the persons with any word in their {@code field} that satisfies {@code wordMatcher}.
+     * The words given to {@code wordMatcher} are case-folded. {@code field} must be indexed by words.
+     */
+    PostingList getPersonsWithWordMatching(IndexedField field, Predicate<String> wordMatcher);
+
+    /**
+     * Returns the ordinals of the persons whose {@code field} contains {@code substring}, ignoring case.
+     * {@code field} must be indexed by trigrams.
+     */
+    PostingList getPersonsWithSubstring(IndexedField field, String substring);
+
+    /**
+     * Returns the ordinals of the persons with a word in their {@code field} that is at most {@code maxDistance} edits
+     * away from {@code word}, or that has the same {@link StringUtil#toPhoneticKey(String)} as {@code word},
+     * ignoring case. {@code field} must be indexed by similarity.
+     */
+    PostingList getPersonsWithSimilarWord(IndexedField field, String word, int maxDistance);
+
+    /**
+     * Returns an upper bound on the number of persons with any of {@code words} in their {@code field}, ignoring
+     * case, from the sizes of the posting lists of {@code words} alone.
+     * {@code field} must be indexed by words.
+     */
+    int countPersonsWithAnyWord(IndexedField field, Collection<String> words);
+
+    /**
+     * Returns an upper bound on the number of persons whose {@code field} contains {@code substring}, ignoring case,
+     * from the size of the smallest posting list of its trigrams, without checking any person.
+     * {@code field} must be indexed by trigrams.
+     */
+    int estimatePersonsWithSubstring(IndexedField field, String substring);
+
+    /**
+     * Returns the ordinals of the persons whose key for {@code field} is from {@code min} to {@code max}, both
+     * inclusive, found by binary search in the keys of {@code field} in sorted order.
+     */
+    PostingList getPersonsInRange(NumericField field, int min, int max);
+
+    /**
+     * Returns the exact number of persons whose key for {@code field} is from {@code min} to {@code max}, both
+     * inclusive, in logarithmic time.
+     */
+    int countPersonsInRange(NumericField field, int min, int max);
+
+    /**
+     * Returns the average number of words in the {@code field} of the persons in the index, as given by
+     * {@link IndexedField#foldWords(Person)}, or zero if the index is empty.
+     */
+    double getAverageWordCount(IndexedField field);
+
+    /**
+     * Returns the person currently identified by {@code ordinal}.
+     */
+    Person getPerson(int ordinal);
+}
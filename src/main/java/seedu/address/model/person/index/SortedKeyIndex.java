@@ -0,0 +1,120 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+
+/**
+ * Person ordinals sorted by an {@code int} key, stored as a sorted {@code long} array of entries that each pack a
+ * key with an ordinal, so that the ordinals with keys in a range are a contiguous slice found by binary search.
+ */
+class SortedKeyIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long ORDINAL_MASK = 0xFFFFFFFFL;
+
+    private long[] entries = new long[0];
+    private int size;
+
+    /**
+     * Adds {@code ordinal} under {@code key}.
+     */
+    void add(int key, int ordinal) {
+        long entry = toEntry(key, ordinal);
+        int position = Arrays.binarySearch(entries, 0, size, entry);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        }
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        entries[position] = entry;
+        size++;
+    }
+
+    /**
+     * Adds each of the first {@code count} of {@code ordinals} under the key at the same position of {@code keys}.
+     * The entries are appended and sorted once, rather than each inserted in place, so that adding many ordinals,
+     * as when an address book is loaded, costs a single sort instead of a shift of the entries per ordinal.
+     */
+    void addAll(int[] keys, int[] ordinals, int count) {
+        if (count == 0) {
+            return;
+        }
+        long[] merged = new long[Math.max(INITIAL_CAPACITY, size + count)];
+        System.arraycopy(entries, 0, merged, 0, size);
+        for (int i = 0; i < count; i++) {
+            merged[size + i] = toEntry(keys[i], ordinals[i]);
+        }
+        Arrays.sort(merged, 0, size + count);
+
+        int distinctCount = 0;
+        for (int i = 0; i < size + count; i++) {
+            if (distinctCount == 0 || merged[i] != merged[distinctCount - 1]) {
+                merged[distinctCount++] = merged[i];
+            }
+        }
+        entries = merged;
+        size = distinctCount;
+    }
+
+    /**
+     * Removes {@code ordinal} from under {@code key}, if it is there.
+     */
+    void remove(int key, int ordinal) {
+        int position = Arrays.binarySearch(entries, 0, size, toEntry(key, ordinal));
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+        size--;
+    }
+
+    void clear() {
+        entries = new long[0];
+        size = 0;
+    }
+
+    /**
+     * Returns the ordinals with keys from {@code min} to {@code max}, both inclusive.
+     */
+    PostingList getOrdinalsBetween(int min, int max) {
+        int from = getFirstPositionOf(min);
+        int to = getEndPositionOf(max);
+        int[] ordinals = new int[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            ordinals[i - from] = (int) (entries[i] & ORDINAL_MASK);
+        }
+        return PostingList.ofDistinct(ordinals, ordinals.length);
+    }
+
+    /**
+     * Returns the number of ordinals with keys from {@code min} to {@code max}, both inclusive.
+     */
+    int countOrdinalsBetween(int min, int max) {
+        return Math.max(0, getEndPositionOf(max) - getFirstPositionOf(min));
+    }
+
+    /** Returns the position of the first entry with a key of at least {@code key}. */
+    private int getFirstPositionOf(int key) {
+        return getInsertionPosition(toEntry(key, 0));
+    }
+
+    /** Returns the position after the last entry with a key of at most {@code key}. */
+    private int getEndPositionOf(int key) {
+        return key == Integer.MAX_VALUE ? size : getInsertionPosition(toEntry(key + 1, 0));
+    }
+
+    private int getInsertionPosition(long entry) {
+        int position = Arrays.binarySearch(entries, 0, size, entry);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Packs {@code key} into the high half and the non-negative {@code ordinal} into the low half of an entry,
+     * so that entries order by key, then by ordinal.
+     */
+    private static long toEntry(int key, int ordinal) {
+        return ((long) key << 32) | (ordinal & ORDINAL_MASK);
+    }
+}
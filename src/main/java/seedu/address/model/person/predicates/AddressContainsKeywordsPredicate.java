@@ -1,25 +1,56 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements IndexedPredicate, CanonicalPredicate, ScoredPredicate {
     private final List<String> keywords;
+    private final FoldedKeywords foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}, case-folding them once up front.
+     */
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = FoldedKeywords.forWords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+        return foldedKeywords.matchAnyWord(person.getFoldedWords(IndexedField.ADDRESS));
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        return index.getPersonsWithAnyWord(IndexedField.ADDRESS, keywords);
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        return index.countPersonsWithAnyWord(IndexedField.ADDRESS, keywords);
+    }
+
+    @Override
+    public double getTestCost() {
+        return foldedKeywords.getTestCost();
+    }
+
+    @Override
+    public ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index) {
+        return foldedKeywords.getWordScorer(IndexedField.ADDRESS, index);
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + foldedKeywords.getCanonicalForm();
     }
 
     @Override
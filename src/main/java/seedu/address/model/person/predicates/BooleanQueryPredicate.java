@@ -0,0 +1,247 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.OrdinalBitmap;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Tests that a {@code Person} satisfies a boolean combination of field predicates, such as
+ * {@code (u/NUS or u/NTU) and not t/rejected}.
+ * The matching persons are looked up by evaluating every field predicate to an {@code OrdinalBitmap} of the persons
+ * in the index that satisfy it, and combining the bitmaps with word-level intersections, unions and differences,
+ * instead of testing every person against the whole combination.
+ */
+public class BooleanQueryPredicate implements IndexedPredicate, CanonicalPredicate, ScoredPredicate {
+
+    /**
+     * How the operands of a query are combined.
+     */
+    public enum Operator {
+        AND, OR, NOT
+    }
+
+    private final Operator operator;
+    private final List<CanonicalPredicate> operands;
+
+    private BooleanQueryPredicate(Operator operator, List<CanonicalPredicate> operands) {
+        requireAllNonNull(operator, operands);
+        requireAllNonNull(operands);
+        this.operator = operator;
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    /**
+     * Returns a query satisfied by the persons who satisfy all of {@code operands}.
+     */
+    public static BooleanQueryPredicate and(List<? extends CanonicalPredicate> operands) {
+        checkArgument(!operands.isEmpty(), "A query must have an operand");
+        return new BooleanQueryPredicate(Operator.AND, new ArrayList<>(operands));
+    }
+
+    /**
+     * Returns a query satisfied by the persons who satisfy any of {@code operands}.
+     */
+    public static BooleanQueryPredicate or(List<? extends CanonicalPredicate> operands) {
+        checkArgument(!operands.isEmpty(), "A query must have an operand");
+        return new BooleanQueryPredicate(Operator.OR, new ArrayList<>(operands));
+    }
+
+    /**
+     * Returns a query satisfied by the persons who do not satisfy {@code operand}.
+     */
+    public static BooleanQueryPredicate not(CanonicalPredicate operand) {
+        requireNonNull(operand);
+        return new BooleanQueryPredicate(Operator.NOT, Collections.singletonList(operand));
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (operator) {
+        case AND:
+            for (CanonicalPredicate operand : operands) {
+                if (!operand.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        case OR:
+            for (CanonicalPredicate operand : operands) {
+                if (operand.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        default:
+            return !operands.get(0).test(person);
+        }
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        requireNonNull(index);
+        return getMatchingBitmap(index).toPostingList();
+    }
+
+    /**
+     * Returns the ordinals of exactly the persons in {@code index} that satisfy this query, as a bitmap.
+     */
+    public OrdinalBitmap getMatchingBitmap(ReadOnlyPersonIndex index) {
+        requireNonNull(index);
+        switch (operator) {
+        case AND:
+            // a negated operand is subtracted from the other operands, rather than complemented and intersected
+            OrdinalBitmap intersection = null;
+            List<CanonicalPredicate> negatedOperands = new ArrayList<>();
+            for (CanonicalPredicate operand : operands) {
+                if (isNegation(operand)) {
+                    negatedOperands.add(((BooleanQueryPredicate) operand).operands.get(0));
+                    continue;
+                }
+                OrdinalBitmap matches = getMatchingBitmap(operand, index);
+                intersection = intersection == null ? matches : intersection.and(matches);
+                if (intersection.isEmpty()) {
+                    return intersection;
+                }
+            }
+            if (intersection == null) {
+                intersection = index.getAllPersons();
+            }
+            for (CanonicalPredicate operand : negatedOperands) {
+                intersection = intersection.andNot(getMatchingBitmap(operand, index));
+            }
+            return intersection;
+        case OR:
+            OrdinalBitmap union = OrdinalBitmap.EMPTY;
+            for (CanonicalPredicate operand : operands) {
+                union = union.or(getMatchingBitmap(operand, index));
+            }
+            return union;
+        default:
+            return index.getAllPersons().andNot(getMatchingBitmap(operands.get(0), index));
+        }
+    }
+
+    private static boolean isNegation(CanonicalPredicate predicate) {
+        return predicate instanceof BooleanQueryPredicate
+                && ((BooleanQueryPredicate) predicate).operator == Operator.NOT;
+    }
+
+    /**
+     * Returns the ordinals of the persons in {@code index} that satisfy {@code predicate}, looking them up from the
+     * index if it is an {@code IndexedPredicate}, or else testing every person in the index against it.
+     */
+    private static OrdinalBitmap getMatchingBitmap(CanonicalPredicate predicate, ReadOnlyPersonIndex index) {
+        if (predicate instanceof BooleanQueryPredicate) {
+            return ((BooleanQueryPredicate) predicate).getMatchingBitmap(index);
+        }
+        if (predicate instanceof IndexedPredicate) {
+            return OrdinalBitmap.of(((IndexedPredicate) predicate).getMatchingPersons(index));
+        }
+        OrdinalBitmap.Builder matches = new OrdinalBitmap.Builder();
+        index.getAllPersons().forEach(ordinal -> {
+            if (predicate.test(index.getPerson(ordinal))) {
+                matches.add(ordinal);
+            }
+        });
+        return matches.build();
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        requireNonNull(index);
+        switch (operator) {
+        case AND:
+            int smallestEstimate = index.size();
+            for (CanonicalPredicate operand : operands) {
+                smallestEstimate = Math.min(smallestEstimate, estimateMatchingPersons(operand, index));
+            }
+            return smallestEstimate;
+        case OR:
+            long estimate = 0;
+            for (CanonicalPredicate operand : operands) {
+                estimate += estimateMatchingPersons(operand, index);
+            }
+            return (int) Math.min(estimate, index.size());
+        default:
+            // the estimate of the operand is only an upper bound, so nothing tighter is known about its complement
+            return index.size();
+        }
+    }
+
+    private static int estimateMatchingPersons(CanonicalPredicate predicate, ReadOnlyPersonIndex index) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).estimateMatchingPersons(index)
+                : index.size();
+    }
+
+    @Override
+    public double getTestCost() {
+        double cost = 0;
+        for (CanonicalPredicate operand : operands) {
+            cost += operand instanceof IndexedPredicate ? ((IndexedPredicate) operand).getTestCost() : 1;
+        }
+        return cost;
+    }
+
+    /**
+     * Returns a function that scores a person by the sum of the scores of the operands that are not negated, since
+     * a person who satisfies a query is relevant to the keywords it asks for, and not to those it excludes.
+     */
+    @Override
+    public ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index) {
+        requireNonNull(index);
+        if (operator == Operator.NOT) {
+            return person -> 0;
+        }
+        List<ToDoubleFunction<Person>> scorers = new ArrayList<>();
+        for (CanonicalPredicate operand : operands) {
+            if (operand instanceof ScoredPredicate) {
+                scorers.add(((ScoredPredicate) operand).getRelevanceScorer(index));
+            }
+        }
+        return person -> {
+            double relevance = 0;
+            for (ToDoubleFunction<Person> scorer : scorers) {
+                relevance += scorer.applyAsDouble(person);
+            }
+            return relevance;
+        };
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        if (operator == Operator.NOT) {
+            return "NOT(" + operands.get(0).getCanonicalForm() + ")";
+        }
+        return operator + operands.stream().map(CanonicalPredicate::getCanonicalForm).distinct().sorted()
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BooleanQueryPredicate // instanceof handles nulls
+                && operator == ((BooleanQueryPredicate) other).operator
+                && operands.equals(((BooleanQueryPredicate) other).operands)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return getCanonicalForm();
+    }
+}
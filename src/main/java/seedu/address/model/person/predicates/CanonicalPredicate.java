@@ -0,0 +1,18 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} with a canonical form, so that predicates which only differ in the case, order or
+ * repetition of their keywords can be recognised as matching the same persons.
+ */
+public interface CanonicalPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the canonical form of this predicate.
+     * Two predicates with the same canonical form are satisfied by exactly the same persons.
+     */
+    String getCanonicalForm();
+}
@@ -1,32 +1,58 @@
 package seedu.address.model.person.predicates;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.model.person.Cap;
 import seedu.address.model.person.Person;
 
 
 /**
  * Tests that a {@code Person}'s {@code Cap} matches any of the keywords given.
+ * The keywords are compared with the CAP values in fixed point, as whole numbers of hundredths of a point.
  */
-public class CapContainsKeywordsPredicate implements Predicate<Person> {
-    private final List<String> keywords;
+public class CapContainsKeywordsPredicate implements CanonicalPredicate {
+    private static final BigDecimal SCALE = BigDecimal.valueOf(Cap.SCALE);
+    private static final BigDecimal MAXIMUM_HUNDREDTHS = BigDecimal.valueOf(Integer.MAX_VALUE);
 
+    /** The distinct CAP values of the keywords in hundredths, in increasing order. */
+    private final int[] capHundredths;
+
+    /**
+     * Creates a predicate that tests for any of {@code keywords}, which must be decimal numbers, parsing them into
+     * hundredths once up front.
+     */
     public CapContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        this.capHundredths = keywords.stream().mapToInt(CapContainsKeywordsPredicate::toHundredths)
+                .distinct().sorted().toArray();
+    }
+
+    /**
+     * Returns {@code keyword} rounded half up to a whole number of hundredths, as a CAP value is, or
+     * {@code Integer.MAX_VALUE}, which no CAP value matches, if it is beyond any CAP value.
+     */
+    private static int toHundredths(String keyword) {
+        BigDecimal hundredths = new BigDecimal(keyword).multiply(SCALE).setScale(0, RoundingMode.HALF_UP);
+        return hundredths.compareTo(MAXIMUM_HUNDREDTHS) > 0 ? Integer.MAX_VALUE : hundredths.intValue();
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> Double.parseDouble(keyword) == (person.getCap().value));
+        return Arrays.binarySearch(capHundredths, person.getCap().getHundredths()) >= 0;
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + Arrays.toString(capHundredths);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof CapContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((CapContainsKeywordsPredicate) other).keywords)); // state check
+                && Arrays.equals(capHundredths, ((CapContainsKeywordsPredicate) other).capHundredths)); // state check
     }
 
 }
@@ -0,0 +1,72 @@
+package seedu.address.model.person.predicates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.person.CapRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Cap} is in any of the ranges given.
+ * The matching persons of each range are a slice of the CAPs in sorted order, found by binary search in the index.
+ */
+public class CapInRangePredicate implements IndexedPredicate, CanonicalPredicate {
+    private final List<CapRange> ranges;
+
+    /**
+     * Creates a predicate that tests for any of {@code ranges}.
+     */
+    public CapInRangePredicate(List<CapRange> ranges) {
+        this.ranges = ranges;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (CapRange range : ranges) {
+            if (range.contains(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        List<PostingList> matches = new ArrayList<>();
+        for (CapRange range : ranges) {
+            matches.add(index.getPersonsInRange(range.getField(), range.getMin(), range.getMax()));
+        }
+        return matches.size() == 1 ? matches.get(0) : PostingList.union(matches);
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        int count = 0;
+        for (CapRange range : ranges) {
+            count += index.countPersonsInRange(range.getField(), range.getMin(), range.getMax());
+        }
+        return Math.min(count, index.size());
+    }
+
+    @Override
+    public double getTestCost() {
+        return ranges.size();
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName()
+                + Arrays.toString(ranges.stream().map(CapRange::toString).distinct().sorted().toArray());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CapInRangePredicate // instanceof handles nulls
+                && ranges.equals(((CapInRangePredicate) other).ranges)); // state check
+    }
+
+}
@@ -1,25 +1,61 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements IndexedPredicate, CanonicalPredicate, ScoredPredicate {
     private final List<String> keywords;
+    private final FoldedKeywords foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}, case-folding them once up front.
+     */
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = FoldedKeywords.forSubstrings(keywords);
     }
 
     @Override
     public boolean test(Person person) {
+        return foldedKeywords.matchAnySubstring(person.getFoldedWords(IndexedField.EMAIL));
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        return PostingList.union(keywords.stream()
+                .map(keyword -> index.getPersonsWithSubstring(IndexedField.EMAIL, keyword))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword));
+                .mapToInt(keyword -> index.estimatePersonsWithSubstring(IndexedField.EMAIL, keyword))
+                .sum();
+    }
+
+    @Override
+    public double getTestCost() {
+        return foldedKeywords.getTestCost();
+    }
+
+    @Override
+    public ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index) {
+        return foldedKeywords.getSubstringScorer(IndexedField.EMAIL, index);
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + foldedKeywords.getCanonicalForm();
     }
 
     @Override
@@ -0,0 +1,118 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+import seedu.address.commons.util.RegexUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Tests that any value of a {@code Person}'s field contains a match of a regular expression, ignoring case.
+ * The persons to test are narrowed down through the index to those whose field contains every literal substring
+ * the regular expression requires, and each match is given a budget of steps, so that testing a person against a
+ * pathological regular expression throws a {@code RegexStepLimitExceededException} instead of hanging.
+ */
+public class FieldMatchesRegexPredicate implements IndexedPredicate, CanonicalPredicate {
+    /** Cost of testing one value against a regular expression, relative to comparing one word. */
+    private static final double MATCH_COST = 4;
+
+    private final IndexedField field;
+    private final String regex;
+    private final Pattern pattern;
+    private final List<String> literals;
+
+    /**
+     * Creates a predicate that tests the values of {@code field} against {@code regex}, which must be a valid
+     * regular expression.
+     */
+    public FieldMatchesRegexPredicate(IndexedField field, String regex) {
+        requireAllNonNull(field, regex);
+        this.field = field;
+        this.regex = regex;
+        this.pattern = RegexUtil.compile(regex);
+        this.literals = RegexUtil.getRequiredLiterals(regex);
+    }
+
+    /**
+     * @throws RegexStepLimitExceededException if matching a value of {@code person} takes too many steps
+     */
+    @Override
+    public boolean test(Person person) {
+        return field.getValues(person)
+                .anyMatch(value -> RegexUtil.find(pattern, value, RegexUtil.MAX_STEPS_PER_MATCH));
+    }
+
+    /**
+     * @throws RegexStepLimitExceededException if matching a value of a person takes too many steps
+     */
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        PostingList candidates = null;
+        for (String literal : literals) {
+            PostingList matches = getPersonsWithLiteral(index, literal);
+            candidates = candidates == null ? matches : candidates.intersect(matches);
+        }
+        if (candidates == null) {
+            candidates = index.getAllPersons().toPostingList();
+        }
+        return candidates.filter(ordinal -> test(index.getPerson(ordinal)));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose field may contain {@code literal}, which is at least those that do.
+     */
+    private PostingList getPersonsWithLiteral(ReadOnlyPersonIndex index, String literal) {
+        if (field.getKind() == IndexedField.Kind.TRIGRAMS) {
+            return index.getPersonsWithSubstring(field, literal);
+        }
+        // every whitespace-separated piece of the literal is part of a word of the field
+        PostingList candidates = null;
+        for (String piece : StringUtil.splitByWhitespace(literal)) {
+            String foldedPiece = StringUtil.foldCase(piece);
+            PostingList matches = index.getPersonsWithWordMatching(field, word -> word.contains(foldedPiece));
+            candidates = candidates == null ? matches : candidates.intersect(matches);
+        }
+        return candidates;
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        int estimate = index.size();
+        if (field.getKind() == IndexedField.Kind.TRIGRAMS) {
+            for (String literal : literals) {
+                estimate = Math.min(estimate, index.estimatePersonsWithSubstring(field, literal));
+            }
+        }
+        return estimate;
+    }
+
+    @Override
+    public double getTestCost() {
+        return MATCH_COST;
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + "[" + field + ":/" + regex + "/]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldMatchesRegexPredicate // instanceof handles nulls
+                && field == ((FieldMatchesRegexPredicate) other).field
+                && regex.equals(((FieldMatchesRegexPredicate) other).regex)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return getCanonicalForm();
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Keywords of a predicate, case-folded once when the predicate is created, so that testing a person against them
+ * only compares them to the cached {@link Person#getFoldedWords(IndexedField)} and allocates nothing.
+ */
+class FoldedKeywords {
+    /** Relative cost of searching a value for one keyword as a substring, against comparing it to one word. */
+    private static final double SUBSTRING_COST = 3;
+
+    private final String[] keywords;
+    private final double costPerKeyword;
+
+    private FoldedKeywords(String[] keywords, double costPerKeyword) {
+        this.keywords = keywords;
+        this.costPerKeyword = costPerKeyword;
+    }
+
+    /**
+     * Returns {@code keywords} folded for full word matches, consistent with
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     */
+    static FoldedKeywords forWords(List<String> keywords) {
+        return new FoldedKeywords(keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .toArray(String[]::new), 1);
+    }
+
+    /**
+     * Returns {@code keywords} folded for substring matches, consistent with
+     * {@link StringUtil#containsSubstringIgnoreCase(String, String)}.
+     */
+    static FoldedKeywords forSubstrings(List<String> keywords) {
+        return new FoldedKeywords(keywords.stream()
+                .map(IndexedField::toSubstringKey)
+                .toArray(String[]::new), SUBSTRING_COST);
+    }
+
+    /**
+     * Returns the relative cost of matching a person's field against the keywords, for {@link QueryPlanner}.
+     */
+    double getTestCost() {
+        return keywords.length * costPerKeyword;
+    }
+
+    /**
+     * Returns the distinct keywords in sorted order, for {@link CanonicalPredicate#getCanonicalForm()}.
+     */
+    String getCanonicalForm() {
+        return Arrays.toString(Arrays.stream(keywords).distinct().sorted().toArray());
+    }
+
+    /**
+     * Returns a function that scores the relevance of a person's {@code field} to the keywords as full words with
+     * {@link RelevanceRanker}, from the number of persons in {@code index} with each keyword.
+     */
+    ToDoubleFunction<Person> getWordScorer(IndexedField field, ReadOnlyPersonIndex index) {
+        String[] distinctKeywords = Arrays.stream(keywords).distinct().toArray(String[]::new);
+        double[] inverseDocumentFrequencies = new double[distinctKeywords.length];
+        for (int i = 0; i < distinctKeywords.length; i++) {
+            int matchingPersons = index.countPersonsWithAnyWord(field, Collections.singletonList(distinctKeywords[i]));
+            inverseDocumentFrequencies[i] = RelevanceRanker.getInverseDocumentFrequency(matchingPersons, index.size());
+        }
+        return getScorer(field, index, distinctKeywords, inverseDocumentFrequencies, String::equals);
+    }
+
+    /**
+     * Returns a function that scores the relevance of a person's {@code field} to the keywords as substrings with
+     * {@link RelevanceRanker}, from the estimated number of persons in {@code index} with each keyword.
+     */
+    ToDoubleFunction<Person> getSubstringScorer(IndexedField field, ReadOnlyPersonIndex index) {
+        String[] distinctKeywords = Arrays.stream(keywords).distinct().toArray(String[]::new);
+        double[] inverseDocumentFrequencies = new double[distinctKeywords.length];
+        for (int i = 0; i < distinctKeywords.length; i++) {
+            int matchingPersons = index.estimatePersonsWithSubstring(field, distinctKeywords[i]);
+            inverseDocumentFrequencies[i] = RelevanceRanker.getInverseDocumentFrequency(matchingPersons, index.size());
+        }
+        return getScorer(field, index, distinctKeywords, inverseDocumentFrequencies, String::contains);
+    }
+
+    private static ToDoubleFunction<Person> getScorer(IndexedField field, ReadOnlyPersonIndex index,
+            String[] distinctKeywords, double[] inverseDocumentFrequencies, BiPredicate<String, String> matcher) {
+        double fieldWeight = RelevanceRanker.getFieldWeight(field);
+        double averageFieldLength = index.getAverageWordCount(field);
+        return person -> {
+            String[] foldedWords = person.getFoldedWords(field);
+            double score = 0;
+            for (int i = 0; i < distinctKeywords.length; i++) {
+                int termFrequency = 0;
+                for (String word : foldedWords) {
+                    if (matcher.test(word, distinctKeywords[i])) {
+                        termFrequency++;
+                    }
+                }
+                score += RelevanceRanker.getKeywordScore(inverseDocumentFrequencies[i], termFrequency,
+                        foldedWords.length, averageFieldLength);
+            }
+            return fieldWeight * score;
+        };
+    }
+
+    /**
+     * Returns true if any of the keywords is equal to any of {@code foldedWords}.
+     */
+    boolean matchAnyWord(String[] foldedWords) {
+        for (String keyword : keywords) {
+            for (String word : foldedWords) {
+                if (word.equals(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of the keywords is a substring of any of {@code foldedValues}.
+     */
+    boolean matchAnySubstring(String[] foldedValues) {
+        for (String keyword : keywords) {
+            for (String value : foldedValues) {
+                if (value.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,25 +1,56 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Gender} matches any of the keywords given.
  */
-public class GenderContainsKeywordsPredicate implements Predicate<Person> {
+public class GenderContainsKeywordsPredicate implements IndexedPredicate, CanonicalPredicate, ScoredPredicate {
     private final List<String> keywords;
+    private final FoldedKeywords foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}, case-folding them once up front.
+     */
     public GenderContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = FoldedKeywords.forWords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getGender().value, keyword));
+        return foldedKeywords.matchAnyWord(person.getFoldedWords(IndexedField.GENDER));
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        return index.getPersonsWithAnyWord(IndexedField.GENDER, keywords);
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        return index.countPersonsWithAnyWord(IndexedField.GENDER, keywords);
+    }
+
+    @Override
+    public double getTestCost() {
+        return foldedKeywords.getTestCost();
+    }
+
+    @Override
+    public ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index) {
+        return foldedKeywords.getWordScorer(IndexedField.GENDER, index);
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + foldedKeywords.getCanonicalForm();
     }
 
     @Override
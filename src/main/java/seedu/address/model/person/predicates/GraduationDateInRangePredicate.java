@@ -0,0 +1,74 @@
+package seedu.address.model.person.predicates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.person.GraduationDateRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.NumericField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code GraduationDate} is in any of the ranges given.
+ * The matching persons of each range are a slice of the packed graduation dates in sorted order, found by binary
+ * search in the index, instead of by comparing the date of every person as a string.
+ */
+public class GraduationDateInRangePredicate implements IndexedPredicate, CanonicalPredicate {
+    private final List<GraduationDateRange> ranges;
+
+    /**
+     * Creates a predicate that tests for any of {@code ranges}.
+     */
+    public GraduationDateInRangePredicate(List<GraduationDateRange> ranges) {
+        this.ranges = ranges;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (GraduationDateRange range : ranges) {
+            if (range.contains(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        List<PostingList> matches = new ArrayList<>();
+        for (GraduationDateRange range : ranges) {
+            matches.add(index.getPersonsInRange(NumericField.GRADUATION_DATE, range.getMin(), range.getMax()));
+        }
+        return matches.size() == 1 ? matches.get(0) : PostingList.union(matches);
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        int count = 0;
+        for (GraduationDateRange range : ranges) {
+            count += index.countPersonsInRange(NumericField.GRADUATION_DATE, range.getMin(), range.getMax());
+        }
+        return Math.min(count, index.size());
+    }
+
+    @Override
+    public double getTestCost() {
+        return ranges.size();
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName()
+                + Arrays.toString(ranges.stream().map(GraduationDateRange::toString).distinct().sorted().toArray());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GraduationDateInRangePredicate // instanceof handles nulls
+                && ranges.equals(((GraduationDateInRangePredicate) other).ranges)); // state check
+    }
+
+}
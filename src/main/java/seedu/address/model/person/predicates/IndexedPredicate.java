@@ -0,0 +1,30 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * A {@code Predicate<Person>} whose matching persons can be looked up from a {@code ReadOnlyPersonIndex},
+ * instead of testing every person one by one.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ordinals of exactly the persons in {@code index} that satisfy this predicate.
+     */
+    PostingList getMatchingPersons(ReadOnlyPersonIndex index);
+
+    /**
+     * Returns an upper bound on the number of persons in {@code index} that satisfy this predicate, which is much
+     * cheaper to compute than {@link #getMatchingPersons(ReadOnlyPersonIndex)}.
+     */
+    int estimateMatchingPersons(ReadOnlyPersonIndex index);
+
+    /**
+     * Returns the cost of testing one person against this predicate, relative to comparing one word.
+     */
+    double getTestCost();
+}
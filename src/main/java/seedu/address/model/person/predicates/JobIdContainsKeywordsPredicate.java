@@ -1,25 +1,61 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 /**
  * Tests that a {@code Person}'s {@code JobId} matches any of the keywords given.
  */
-public class JobIdContainsKeywordsPredicate implements Predicate<Person> {
+public class JobIdContainsKeywordsPredicate implements IndexedPredicate, CanonicalPredicate, ScoredPredicate {
     private final List<String> keywords;
+    private final FoldedKeywords foldedKeywords;
 
+    /**
+     * Creates a predicate that tests for any of {@code keywords}, case-folding them once up front.
+     */
     public JobIdContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = FoldedKeywords.forSubstrings(keywords);
     }
 
     @Override
     public boolean test(Person person) {
+        return foldedKeywords.matchAnySubstring(person.getFoldedWords(IndexedField.JOB_ID));
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        return PostingList.union(keywords.stream()
+                .map(keyword -> index.getPersonsWithSubstring(IndexedField.JOB_ID, keyword))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getJob().getId().value, keyword));
+                .mapToInt(keyword -> index.estimatePersonsWithSubstring(IndexedField.JOB_ID, keyword))
+                .sum();
+    }
+
+    @Override
+    public double getTestCost() {
+        return foldedKeywords.getTestCost();
+    }
+
+    @Override
+    public ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index) {
+        return foldedKeywords.getSubstringScorer(IndexedField.JOB_ID, index);
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName() + foldedKeywords.getCanonicalForm();
     }
 
     @Override
@@ -1,10 +1,18 @@
 package seedu.address.model.person.predicates;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 
 
 
@@ -35,15 +43,168 @@ public class ListOfContainsKeywordsPredicates {
     }
 
     /**
-     * Chains the predicates in the list together into a single predicate
+     * Chains the predicates in the list together into a single predicate, testing the cheapest predicates first.
      * @return chained predicate
      */
     public Predicate<Person> getChainedPredicate() {
-        Predicate<Person> chainedPredicate = p -> true; // dummy initial predicate
-        for (Predicate<Person> predicate: predicates) {
-            chainedPredicate = chainedPredicate.and(predicate);
+        return chain(QueryPlanner.orderByCost(predicates));
+    }
+
+    /**
+     * Chains the predicates in the list together into a single predicate, testing them in the order planned by
+     * {@code planner} for the persons in {@code index}.
+     * @return chained predicate
+     */
+    public Predicate<Person> getChainedPredicate(ReadOnlyPersonIndex index, QueryPlanner planner) {
+        requireAllNonNull(index, planner);
+        return chain(planner.order(predicates, index));
+    }
+
+    /**
+     * Returns a predicate that tests {@code orderedPredicates} in order.
+     */
+    private static Predicate<Person> chain(List<Predicate<Person>> orderedPredicates) {
+        @SuppressWarnings("unchecked")
+        Predicate<Person>[] chainedPredicates = orderedPredicates.toArray(new Predicate[0]);
+        // a plain loop over a fixed array, so that testing a person allocates nothing
+        return person -> {
+            for (Predicate<Person> predicate : chainedPredicates) {
+                if (!predicate.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns the persons in {@code index} that satisfy all the predicates in the list, following the plan of
+     * {@code planner}: the persons that satisfy the {@code IndexedPredicate}s on its access path are looked up from
+     * {@code index}, so that only those persons are tested against the remaining predicates, whose hit rates are
+     * recorded with {@code planner}.
+     * Returns an empty {@code Optional} if the plan has no access path, as then every person would have to be tested
+     * against {@link #getChainedPredicate(ReadOnlyPersonIndex, QueryPlanner)} instead.
+     * The persons are in increasing order of their ordinals in {@code index}.
+     */
+    public Optional<MatchedPersons> lookUpMatches(ReadOnlyPersonIndex index, QueryPlanner planner) {
+        requireAllNonNull(index, planner);
+        QueryPlanner.Plan plan = planner.plan(predicates, index);
+        if (plan.getAccessPath().isEmpty()) {
+            return Optional.empty();
+        }
+
+        // the estimates are only upper bounds, so intersect from the smallest posting list actually looked up
+        List<PostingList> indexedMatches = new ArrayList<>();
+        for (IndexedPredicate predicate : plan.getAccessPath()) {
+            indexedMatches.add(predicate.getMatchingPersons(index));
+        }
+        indexedMatches.sort(Comparator.comparingInt(PostingList::size));
+        PostingList candidates = indexedMatches.get(0);
+        for (int i = 1; i < indexedMatches.size() && !candidates.isEmpty(); i++) {
+            candidates = candidates.intersect(indexedMatches.get(i));
+        }
+
+        List<Predicate<Person>> residuals = plan.getResiduals();
+        long[] tested = new long[residuals.size()];
+        long[] passed = new long[residuals.size()];
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Person candidate = index.getPerson(candidates.get(i));
+            if (testResiduals(candidate, residuals, tested, passed)) {
+                matches.add(candidate);
+            }
+        }
+        for (int i = 0; i < residuals.size(); i++) {
+            planner.recordHits(residuals.get(i), index, tested[i], passed[i]);
+        }
+        return Optional.of(new MatchedPersons(matches));
+    }
+
+    /**
+     * Returns true if {@code person} satisfies all of {@code residuals}, testing them in order and counting how
+     * many persons each one is tested against and passes.
+     */
+    private static boolean testResiduals(Person person, List<Predicate<Person>> residuals, long[] tested,
+            long[] passed) {
+        for (int i = 0; i < residuals.size(); i++) {
+            tested[i]++;
+            if (!residuals.get(i).test(person)) {
+                return false;
+            }
+            passed[i]++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns up to {@code limit} of {@code matches} in decreasing order of their relevance to the keywords of the
+     * {@code ScoredPredicate}s in the list, which is the sum of their scores from each of these predicates.
+     * Persons with equal relevance keep their order in {@code matches}.
+     * The statistics of the persons in {@code index} that the scores depend on are read once up front.
+     */
+    public List<Person> getMostRelevantPersons(List<Person> matches, ReadOnlyPersonIndex index, int limit) {
+        List<ToDoubleFunction<Person>> scorers = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof ScoredPredicate) {
+                scorers.add(((ScoredPredicate) predicate).getRelevanceScorer(index));
+            }
+        }
+        @SuppressWarnings("unchecked")
+        ToDoubleFunction<Person>[] scorerArray = scorers.toArray(new ToDoubleFunction[0]);
+        return RelevanceRanker.getTopPersons(matches, person -> {
+            double relevance = 0;
+            for (ToDoubleFunction<Person> scorer : scorerArray) {
+                relevance += scorer.applyAsDouble(person);
+            }
+            return relevance;
+        }, limit);
+    }
+
+    /**
+     * Returns true if the list includes every predicate of {@code other}, so that every person satisfying all the
+     * predicates in the list also satisfies all the predicates of {@code other}.
+     */
+    public boolean refines(ListOfContainsKeywordsPredicates other) {
+        return predicates.containsAll(other.predicates);
+    }
+
+    /**
+     * Chains the predicates in the list together into a single predicate, given that {@code currentMatches} are
+     * exactly the persons satisfying all of {@code refined}, which the list refines.
+     * Only {@code currentMatches} are tested, and only against the predicates that are not in {@code refined}, in the
+     * order planned by {@code planner} for the persons in {@code index}.
+     * The persons matched are fixed when this method is called, in their order in {@code currentMatches}.
+     */
+    public MatchedPersons getRefinedPredicate(ListOfContainsKeywordsPredicates refined,
+            List<Person> currentMatches, ReadOnlyPersonIndex index, QueryPlanner planner) {
+        assert refines(refined);
+        List<Predicate<Person>> addedPredicates = new ArrayList<>(predicates);
+        addedPredicates.removeAll(refined.predicates);
+        Predicate<Person> addedPredicate = new ListOfContainsKeywordsPredicates(addedPredicates)
+                .getChainedPredicate(index, planner);
+
+        List<Person> matches = new ArrayList<>();
+        for (Person person : currentMatches) {
+            if (addedPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return new MatchedPersons(matches);
+    }
+
+    /**
+     * Returns the canonical form of the conjunction of the predicates in the list, which does not depend on their
+     * order, or an empty {@code Optional} if any of the predicates is not a {@code CanonicalPredicate}.
+     */
+    public Optional<String> getCanonicalForm() {
+        List<String> canonicalForms = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (!(predicate instanceof CanonicalPredicate)) {
+                return Optional.empty();
+            }
+            canonicalForms.add(((CanonicalPredicate) predicate).getCanonicalForm());
         }
-        return chainedPredicate;
+        return Optional.of(canonicalForms.stream().distinct().sorted().collect(Collectors.joining(" & ")));
     }
 
     /**
@@ -0,0 +1,54 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons found to satisfy a predicate, fixed when they are found.
+ * Tests a person by identity in constant time, and lists the persons found without testing any other person, so
+ * that they can be shown or ranked in time proportional to the number of persons found.
+ */
+public class MatchedPersons implements Predicate<Person> {
+
+    private final List<Person> persons;
+    private final Set<Person> personSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates the matches of a predicate, which are exactly {@code persons}, in the order they were found.
+     * {@code persons} must not contain the same person twice, and must not be modified afterwards.
+     */
+    public MatchedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = Collections.unmodifiableList(persons);
+        personSet.addAll(persons);
+    }
+
+    /**
+     * Returns true if {@code person} is one of the persons found.
+     */
+    @Override
+    public boolean test(Person person) {
+        return personSet.contains(person);
+    }
+
+    /**
+     * Returns the persons found, in the order they were found.
+     */
+    public List<Person> asList() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons found.
+     */
+    public int size() {
+        return persons.size();
+    }
+}
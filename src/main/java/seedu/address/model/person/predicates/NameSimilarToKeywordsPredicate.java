@@ -0,0 +1,100 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word similar to any of the keywords given, tolerating typos and
+ * differences in spelling: a word is similar to a keyword if it is within a few edits of it, or sounds alike.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexedPredicate, CanonicalPredicate {
+    /** Relative cost of checking one keyword against a name, against comparing it to one word. */
+    private static final double SIMILARITY_COST = 10;
+
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+    private final String[] phoneticKeys;
+
+    /**
+     * Creates a predicate that tests for words similar to any of {@code keywords}, case-folding them and computing
+     * their phonetic keys once up front.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .toArray(String[]::new);
+        this.phoneticKeys = Arrays.stream(foldedKeywords).map(StringUtil::toPhoneticKey).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the number of edits by which a word may differ from {@code keyword} to be similar to it.
+     * Short keywords allow fewer edits, since a few edits turn a short word into most other short words.
+     */
+    static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String word : person.getFoldedWords(IndexedField.NAME)) {
+            String phoneticKey = null;
+            for (int i = 0; i < foldedKeywords.length; i++) {
+                int maxDistance = getMaxEditDistance(foldedKeywords[i]);
+                if (StringUtil.editDistance(word, foldedKeywords[i], maxDistance) <= maxDistance) {
+                    return true;
+                }
+                if (phoneticKey == null) {
+                    phoneticKey = StringUtil.toPhoneticKey(word);
+                }
+                if (phoneticKey.equals(phoneticKeys[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+        return PostingList.union(Arrays.stream(foldedKeywords)
+                .map(keyword -> index.getPersonsWithSimilarWord(IndexedField.NAME, keyword,
+                        getMaxEditDistance(keyword)))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public int estimateMatchingPersons(ReadOnlyPersonIndex index) {
+        // the similar words are only known after searching for them, so assume the worst
+        return index.size();
+    }
+
+    @Override
+    public double getTestCost() {
+        return foldedKeywords.length * SIMILARITY_COST;
+    }
+
+    @Override
+    public String getCanonicalForm() {
+        return getClass().getSimpleName()
+                + Arrays.toString(Arrays.stream(foldedKeywords).distinct().sorted().toArray());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,234 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * Plans how a conjunction of predicates is evaluated, from estimates of the cost and selectivity of each predicate.
+ * The selectivity of a predicate is estimated from the hit rate observed in earlier evaluations for predicates on
+ * the same field whose keywords match about as many persons in the index, or else, for an
+ * {@code IndexedPredicate}, from the sizes of the posting lists in the index.
+ * Each address book has its own planner, as the hit rates observed in one say nothing about the persons of another.
+ */
+public class QueryPlanner {
+
+    /** Cost of testing one person against a predicate that does not declare its own cost. */
+    private static final double DEFAULT_TEST_COST = 1;
+    /** Estimated number of matching persons of a predicate that is not an {@code IndexedPredicate}. */
+    private static final int NOT_INDEXED = -1;
+
+    private final Map<StatisticsKey, HitRate> hitRates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the plan for evaluating the conjunction of {@code predicates} against the persons in {@code index}.
+     * The persons matching the access path are looked up from the index, and are the only persons tested against
+     * the residual predicates.
+     * The access path is empty if none of {@code predicates} is an {@code IndexedPredicate}.
+     */
+    public Plan plan(List<Predicate<Person>> predicates, ReadOnlyPersonIndex index) {
+        requireAllNonNull(predicates, index);
+        double personCount = Math.max(1, index.size());
+        List<IndexedPredicate> indexedPredicates = new ArrayList<>();
+        List<Predicate<Person>> residuals = new ArrayList<>();
+        Map<Predicate<Person>, Double> selectivities = new IdentityHashMap<>();
+        Map<IndexedPredicate, Integer> estimates = new IdentityHashMap<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof IndexedPredicate) {
+                IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+                int estimate = indexedPredicate.estimateMatchingPersons(index);
+                estimates.put(indexedPredicate, estimate);
+                selectivities.put(predicate, Math.min(1, estimate / personCount));
+                indexedPredicates.add(indexedPredicate);
+            } else {
+                selectivities.put(predicate, getSelectivity(predicate, NOT_INDEXED));
+                residuals.add(predicate);
+            }
+        }
+
+        // drive the lookup with the smallest posting list, then look up the posting list of each further predicate
+        // only while that is cheaper than testing the persons expected to be left against the predicate directly
+        indexedPredicates.sort(Comparator.comparingInt(estimates::get));
+        List<IndexedPredicate> accessPath = new ArrayList<>();
+        double expectedCandidates = personCount;
+        for (IndexedPredicate predicate : indexedPredicates) {
+            if (accessPath.isEmpty() || estimates.get(predicate) <= expectedCandidates * predicate.getTestCost()) {
+                accessPath.add(predicate);
+                expectedCandidates = accessPath.size() == 1
+                        ? estimates.get(predicate)
+                        : expectedCandidates * selectivities.get(predicate);
+            } else {
+                // tested one by one, so the hit rate observed when testing similar predicates is the better estimate
+                selectivities.put(predicate, getSelectivity(predicate, estimates.get(predicate)));
+                residuals.add(predicate);
+            }
+        }
+
+        residuals.sort(Comparator.comparingDouble(predicate -> getRank(predicate, selectivities.get(predicate))));
+        return new Plan(accessPath, residuals);
+    }
+
+    /**
+     * Returns {@code predicates} in the order they should be tested against a person in {@code index}, so that the
+     * predicates that reject the most persons for the least cost are tested first.
+     */
+    public List<Predicate<Person>> order(List<Predicate<Person>> predicates, ReadOnlyPersonIndex index) {
+        requireAllNonNull(predicates, index);
+        List<Predicate<Person>> ordered = new ArrayList<>(predicates);
+        ordered.sort(Comparator.comparingDouble(predicate -> getRank(predicate, getSelectivity(predicate, index))));
+        return ordered;
+    }
+
+    /**
+     * Returns {@code predicates} in increasing order of the cost of testing a person against them, for when neither
+     * the persons nor any hit rates are known.
+     */
+    public static List<Predicate<Person>> orderByCost(List<Predicate<Person>> predicates) {
+        List<Predicate<Person>> ordered = new ArrayList<>(predicates);
+        ordered.sort(Comparator.comparingDouble(QueryPlanner::getTestCost));
+        return ordered;
+    }
+
+    /**
+     * Records that {@code passed} out of {@code tested} persons in {@code index} satisfied {@code predicate}, to
+     * estimate the selectivity of predicates on the same field with keywords of a similar cardinality in later plans.
+     */
+    public void recordHits(Predicate<Person> predicate, ReadOnlyPersonIndex index, long tested, long passed) {
+        requireAllNonNull(predicate, index);
+        StatisticsKey key = new StatisticsKey(predicate, estimateMatchingPersons(predicate, index));
+        HitRate hitRate = hitRates.computeIfAbsent(key, unused -> new HitRate());
+        hitRate.tested.add(tested);
+        hitRate.passed.add(passed);
+    }
+
+    /**
+     * Forgets the hit rates observed so far, such as when the persons they were observed on are all replaced.
+     */
+    public void clear() {
+        hitRates.clear();
+    }
+
+    /**
+     * Returns the estimated fraction of persons in {@code index} that satisfy {@code predicate}, from the posting
+     * lists in the index if it is an {@code IndexedPredicate} for which no hit rate has been observed.
+     */
+    double getSelectivity(Predicate<Person> predicate, ReadOnlyPersonIndex index) {
+        int estimate = estimateMatchingPersons(predicate, index);
+        if (estimate != NOT_INDEXED && !hitRates.containsKey(new StatisticsKey(predicate, estimate))) {
+            return Math.min(1, estimate / Math.max(1.0, index.size()));
+        }
+        return getSelectivity(predicate, estimate);
+    }
+
+    /**
+     * Returns the estimated fraction of persons that satisfy {@code predicate}, whose keywords match
+     * {@code estimate} persons in the index, from the hit rate observed for similar predicates, or one half if none
+     * has been observed.
+     */
+    private double getSelectivity(Predicate<Person> predicate, int estimate) {
+        HitRate hitRate = hitRates.get(new StatisticsKey(predicate, estimate));
+        if (hitRate == null) {
+            return 0.5;
+        }
+        // smoothed towards one half, so that a few observations do not make a predicate look certain either way
+        return (hitRate.passed.sum() + 1.0) / (hitRate.tested.sum() + 2.0);
+    }
+
+    private static int estimateMatchingPersons(Predicate<Person> predicate, ReadOnlyPersonIndex index) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).estimateMatchingPersons(index)
+                : NOT_INDEXED;
+    }
+
+    private static double getTestCost(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).getTestCost()
+                : DEFAULT_TEST_COST;
+    }
+
+    /**
+     * Returns the expected cost of testing a person against {@code predicate} per person it rejects.
+     * Testing predicates in increasing order of rank minimises the expected cost of testing their conjunction.
+     */
+    private static double getRank(Predicate<Person> predicate, double selectivity) {
+        return selectivity >= 1 ? Double.POSITIVE_INFINITY : getTestCost(predicate) / (1 - selectivity);
+    }
+
+    /**
+     * The predicates that share a hit rate: those of the same type, and so on the same field, whose keywords match
+     * a number of persons in the index of the same order of magnitude.
+     */
+    private static class StatisticsKey {
+        private final Class<?> type;
+        /** Number of binary digits of the estimated number of matching persons, or -1 if not indexed. */
+        private final int cardinalityClass;
+
+        private StatisticsKey(Predicate<Person> predicate, int estimate) {
+            this.type = predicate.getClass();
+            this.cardinalityClass = estimate == NOT_INDEXED
+                    ? NOT_INDEXED
+                    : Integer.SIZE - Integer.numberOfLeadingZeros(estimate);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof StatisticsKey
+                    && type.equals(((StatisticsKey) other).type)
+                    && cardinalityClass == ((StatisticsKey) other).cardinalityClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, cardinalityClass);
+        }
+    }
+
+    /**
+     * Number of persons tested against, and number that satisfied, predicates with one {@code StatisticsKey}.
+     */
+    private static class HitRate {
+        private final LongAdder tested = new LongAdder();
+        private final LongAdder passed = new LongAdder();
+    }
+
+    /**
+     * The order in which a conjunction of predicates is evaluated.
+     */
+    public static class Plan {
+        private final List<IndexedPredicate> accessPath;
+        private final List<Predicate<Person>> residuals;
+
+        private Plan(List<IndexedPredicate> accessPath, List<Predicate<Person>> residuals) {
+            this.accessPath = Collections.unmodifiableList(accessPath);
+            this.residuals = Collections.unmodifiableList(residuals);
+        }
+
+        /**
+         * Returns the predicates whose matching persons are looked up from the index and intersected,
+         * from the smallest estimated posting list.
+         */
+        public List<IndexedPredicate> getAccessPath() {
+            return accessPath;
+        }
+
+        /**
+         * Returns the predicates to test each person found through the access path against, in order.
+         */
+        public List<Predicate<Person>> getResiduals() {
+            return residuals;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+
+/**
+ * Ranks persons by relevance, scoring each keyword that a field of a person matches with BM25, weighted by how
+ * much a match in that field says about the person.
+ * Only the most relevant persons are kept in a bounded heap while the persons are scored, so that ranking
+ * {@code n} persons for the top {@code k} takes {@code O(n log k)} time, without sorting all {@code n} of them.
+ */
+public class RelevanceRanker {
+
+    /** How quickly the score of a keyword saturates as it occurs more often in a field. */
+    static final double TERM_FREQUENCY_SATURATION = 1.2;
+
+    /** How much the score of a keyword is lowered in fields with more words than is usual for the field. */
+    static final double LENGTH_NORMALIZATION = 0.75;
+
+    /** Weight of a match in each field, so that a match in the name counts the most, then one in the tags. */
+    private static final Map<IndexedField, Double> FIELD_WEIGHTS = new EnumMap<>(Map.of(
+            IndexedField.NAME, 3.0,
+            IndexedField.TAG, 2.0,
+            IndexedField.JOB_TITLE, 1.5,
+            IndexedField.MAJOR, 1.5,
+            IndexedField.UNIVERSITY, 1.25,
+            IndexedField.ADDRESS, 1.0));
+
+    /** Weight of a match in any field without a weight of its own, such as an email or a gender. */
+    private static final double DEFAULT_FIELD_WEIGHT = 0.5;
+
+    private RelevanceRanker() {}
+
+    /**
+     * Returns the weight of a match in {@code field}.
+     */
+    static double getFieldWeight(IndexedField field) {
+        return FIELD_WEIGHTS.getOrDefault(field, DEFAULT_FIELD_WEIGHT);
+    }
+
+    /**
+     * Returns the inverse document frequency of a keyword that {@code matchingPersons} out of {@code personCount}
+     * persons match, which is higher the rarer the keyword is.
+     */
+    static double getInverseDocumentFrequency(int matchingPersons, int personCount) {
+        return Math.log(1 + (personCount - matchingPersons + 0.5) / (matchingPersons + 0.5));
+    }
+
+    /**
+     * Returns the BM25 score of a keyword with inverse document frequency {@code inverseDocumentFrequency}, that
+     * occurs {@code termFrequency} times among the {@code fieldLength} words of a field, where the field has
+     * {@code averageFieldLength} words on average.
+     */
+    static double getKeywordScore(double inverseDocumentFrequency, int termFrequency, int fieldLength,
+            double averageFieldLength) {
+        if (termFrequency == 0) {
+            return 0;
+        }
+        double relativeLength = averageFieldLength > 0 ? fieldLength / averageFieldLength : 1;
+        double saturation = TERM_FREQUENCY_SATURATION
+                * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * relativeLength);
+        return inverseDocumentFrequency * termFrequency * (TERM_FREQUENCY_SATURATION + 1)
+                / (termFrequency + saturation);
+    }
+
+    /**
+     * Returns up to {@code limit} of {@code persons} with the highest scores from {@code scorer}, from the highest
+     * score. Persons with equal scores keep their order in {@code persons}.
+     * Only the {@code limit} highest scoring persons seen so far are kept while the persons are scored.
+     */
+    public static List<Person> getTopPersons(List<Person> persons, ToDoubleFunction<Person> scorer, int limit) {
+        requireAllNonNull(persons, scorer);
+        checkArgument(limit > 0, "The number of persons to rank must be positive");
+
+        // the root of the heap is the least relevant person kept, which the next more relevant person replaces
+        PriorityQueue<ScoredPerson> mostRelevant = new PriorityQueue<>(Math.min(limit, persons.size()) + 1,
+                ScoredPerson.BY_RELEVANCE);
+        for (int position = 0; position < persons.size(); position++) {
+            Person person = persons.get(position);
+            double score = scorer.applyAsDouble(person);
+            if (mostRelevant.size() < limit) {
+                mostRelevant.add(new ScoredPerson(person, score, position));
+            } else if (score > mostRelevant.peek().score) {
+                // an equal score does not replace the root, which comes earlier in the persons
+                mostRelevant.poll();
+                mostRelevant.add(new ScoredPerson(person, score, position));
+            }
+        }
+
+        List<Person> topPersons = new ArrayList<>(mostRelevant.size());
+        while (!mostRelevant.isEmpty()) {
+            topPersons.add(mostRelevant.poll().person);
+        }
+        Collections.reverse(topPersons);
+        return topPersons;
+    }
+
+    /**
+     * A person with its score and its position among the persons ranked.
+     */
+    private static class ScoredPerson {
+        /** Orders the less relevant of two persons first: the one with the lower score, or else the later one. */
+        private static final Comparator<ScoredPerson> BY_RELEVANCE = Comparator
+                .<ScoredPerson>comparingDouble(scoredPerson -> scoredPerson.score)
+                .thenComparing(Comparator.<ScoredPerson>comparingInt(scoredPerson -> scoredPerson.position)
+                        .reversed());
+
+        private final Person person;
+        private final double score;
+        private final int position;
+
+        ScoredPerson(Person person, double score, int position) {
+            this.person = person;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
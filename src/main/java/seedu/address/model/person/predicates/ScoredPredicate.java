@@ -0,0 +1,21 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+/**
+ * A {@code Predicate<Person>} whose keywords can score how relevant a person's field is to them, so that the
+ * persons matching a find can be ranked by relevance.
+ */
+public interface ScoredPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a function that scores the relevance of a person's field to the keywords of this predicate with
+     * {@link RelevanceRanker}, from the statistics of the persons in {@code index} at the time this method is called.
+     * The score is positive for a person that satisfies this predicate, and zero for any other person.
+     */
+    ToDoubleFunction<Person> getRelevanceScorer(ReadOnlyPersonIndex index);
+}
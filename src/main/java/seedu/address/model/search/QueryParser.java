@@ -0,0 +1,19 @@
+package seedu.address.model.search;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+
+/**
+ * Parses the query of a saved search into the predicates that the persons it finds satisfy.
+ * The parsing is supplied by the logic component, so that saved searches can be read back from storage without
+ * storage depending on the logic component.
+ */
+@FunctionalInterface
+public interface QueryParser {
+
+    /**
+     * Parses {@code query}, the arguments of a find, into the predicates of the find.
+     * @throws IllegalValueException if {@code query} is not a find that can be saved
+     */
+    ListOfContainsKeywordsPredicates parse(String query) throws IllegalValueException;
+}
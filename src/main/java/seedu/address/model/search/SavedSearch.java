@@ -0,0 +1,194 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.person.predicates.MatchedPersons;
+import seedu.address.model.person.predicates.QueryPlanner;
+
+/**
+ * Represents a find saved under a name, together with the persons it finds.
+ * The persons found are materialized: they are found once when the search is saved, and are then kept up to date
+ * by testing only the persons that are added or edited, so that showing them does not search again.
+ */
+public class SavedSearch {
+
+    public static final String MESSAGE_NAME_CONSTRAINTS =
+            "Names of saved searches should only contain alphanumeric characters and hyphens, and start with an "
+            + "alphanumeric character";
+    public static final String NAME_VALIDATION_REGEX = "\\p{Alnum}[\\p{Alnum}-]*";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
+
+    private final String name;
+    private final String query;
+    private final ListOfContainsKeywordsPredicates predicates;
+    private final Predicate<Person> chainedPredicate;
+    /** The persons found, by identity, so that looking one up does not compute the hash code of every field. */
+    private final Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a saved search named {@code name} for the find with arguments {@code query}, which are parsed into
+     * {@code predicates}. The search finds no persons until they are added to it.
+     */
+    public SavedSearch(String name, String query, ListOfContainsKeywordsPredicates predicates) {
+        requireAllNonNull(name, query, predicates);
+        checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
+        this.name = name;
+        this.query = query.trim();
+        this.predicates = predicates;
+        this.chainedPredicate = predicates.getChainedPredicate();
+    }
+
+    /**
+     * Creates a saved search that has found {@code members}, such as when it is read from storage, without
+     * searching for them again.
+     */
+    public SavedSearch(String name, String query, ListOfContainsKeywordsPredicates predicates,
+            Collection<Person> members) {
+        this(name, query, predicates);
+        requireAllNonNull(members);
+        this.members.addAll(members);
+    }
+
+    /**
+     * Returns true if a given string is a valid name of a saved search.
+     */
+    public static boolean isValidName(String test) {
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the arguments of the find that is saved.
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    public ListOfContainsKeywordsPredicates getPredicates() {
+        return predicates;
+    }
+
+    /**
+     * Returns true if the search has found {@code person}.
+     */
+    public boolean contains(Person person) {
+        return members.contains(person);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons found, in no particular order.
+     */
+    public Set<Person> getMembers() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    /**
+     * Returns the number of persons found.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns a copy of this search, which has found the same persons.
+     */
+    SavedSearch copy() {
+        return new SavedSearch(name, query, predicates, members);
+    }
+
+    /**
+     * Searches {@code persons} again, using {@code index} of them to look up the persons that may be found, as
+     * planned by {@code planner}.
+     */
+    void materialize(Collection<Person> persons, ReadOnlyPersonIndex index, QueryPlanner planner) {
+        Optional<MatchedPersons> matches;
+        try {
+            matches = predicates.lookUpMatches(index, planner);
+        } catch (RegexStepLimitExceededException e) {
+            // some person took too long to look up, so test the persons one by one instead
+            matches = Optional.empty();
+        }
+        members.clear();
+        if (matches.isPresent()) {
+            members.addAll(matches.get().asList());
+            return;
+        }
+        for (Person person : persons) {
+            if (finds(chainedPredicate, person)) {
+                members.add(person);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code person} to the persons found if the search finds it.
+     */
+    void add(Person person) {
+        if (finds(chainedPredicate, person)) {
+            members.add(person);
+        }
+    }
+
+    /**
+     * Returns true if {@code person} satisfies {@code predicate}, where a person that takes too long to match a
+     * regular expression of the search is treated as not found, rather than failing the change that added it.
+     */
+    private static boolean finds(Predicate<Person> predicate, Person person) {
+        try {
+            return predicate.test(person);
+        } catch (RegexStepLimitExceededException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Removes {@code person} from the persons found, if it is one of them.
+     */
+    void remove(Person person) {
+        members.remove(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SavedSearch // instanceof handles nulls
+                && name.equals(((SavedSearch) other).name)
+                && query.equals(((SavedSearch) other).query)
+                && haveEqualMembers((SavedSearch) other)); // state check
+    }
+
+    /**
+     * Returns true if {@code other} has found persons equal to those found by this search, even if they are not the
+     * same objects, such as after the searches are read back from storage.
+     */
+    private boolean haveEqualMembers(SavedSearch other) {
+        return members.size() == other.members.size() && new HashSet<>(members).equals(new HashSet<>(other.members));
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + query;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.person.predicates.QueryPlanner;
+import seedu.address.model.search.exceptions.DuplicateSavedSearchException;
+import seedu.address.model.search.exceptions.SavedSearchNotFoundException;
+
+/**
+ * A list of saved searches with distinct names, compared ignoring case, in the order they were saved.
+ * Every change to the persons must be passed on to the list, which updates the persons found by each saved search
+ * in time proportional to the number of saved searches, rather than to the number of persons.
+ */
+public class SavedSearchList implements Iterable<SavedSearch> {
+
+    private final Map<String, SavedSearch> searches = new LinkedHashMap<>();
+
+    /**
+     * Returns true if the list contains a saved search named {@code name}, ignoring case.
+     */
+    public boolean contains(String name) {
+        requireNonNull(name);
+        return searches.containsKey(toKey(name));
+    }
+
+    /**
+     * Returns the saved search named {@code name}, ignoring case, if there is one.
+     */
+    public Optional<SavedSearch> get(String name) {
+        requireNonNull(name);
+        return Optional.ofNullable(searches.get(toKey(name)));
+    }
+
+    /**
+     * Adds {@code toAdd} to the list, after searching {@code persons} for the persons it finds, as planned by
+     * {@code planner}.
+     * There must not already be a saved search with the same name in the list.
+     */
+    public void add(SavedSearch toAdd, Collection<Person> persons, ReadOnlyPersonIndex index, QueryPlanner planner) {
+        requireAllNonNull(toAdd, persons, index, planner);
+        String key = toKey(toAdd.getName());
+        if (searches.containsKey(key)) {
+            throw new DuplicateSavedSearchException();
+        }
+        toAdd.materialize(persons, index, planner);
+        searches.put(key, toAdd);
+    }
+
+    /**
+     * Removes the saved search named {@code name}, ignoring case, from the list.
+     * The saved search must exist in the list.
+     */
+    public void remove(String name) {
+        requireNonNull(name);
+        if (searches.remove(toKey(name)) == null) {
+            throw new SavedSearchNotFoundException();
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with copies of {@code replacement}, which keep the persons they found.
+     * {@code replacement} must not contain saved searches with the same name.
+     */
+    public void setSavedSearches(List<SavedSearch> replacement) {
+        requireAllNonNull(replacement);
+        Map<String, SavedSearch> newSearches = new LinkedHashMap<>();
+        for (SavedSearch search : replacement) {
+            if (newSearches.put(toKey(search.getName()), search.copy()) != null) {
+                throw new DuplicateSavedSearchException();
+            }
+        }
+        searches.clear();
+        searches.putAll(newSearches);
+    }
+
+    /**
+     * Searches {@code persons} again for every saved search, as planned by {@code planner}, after the persons have
+     * all been replaced.
+     */
+    public void setPersons(Collection<Person> persons, ReadOnlyPersonIndex index, QueryPlanner planner) {
+        requireAllNonNull(persons, index, planner);
+        searches.values().forEach(search -> search.materialize(persons, index, planner));
+    }
+
+    /**
+     * Updates the saved searches after {@code person} is added to the persons.
+     */
+    public void personAdded(Person person) {
+        requireNonNull(person);
+        searches.values().forEach(search -> search.add(person));
+    }
+
+    /**
+     * Updates the saved searches after {@code person} is removed from the persons.
+     */
+    public void personRemoved(Person person) {
+        requireNonNull(person);
+        searches.values().forEach(search -> search.remove(person));
+    }
+
+    /**
+     * Updates the saved searches after {@code target} is replaced by {@code editedPerson} in the persons.
+     */
+    public void personSet(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        for (SavedSearch search : searches.values()) {
+            search.remove(target);
+            search.add(editedPerson);
+        }
+    }
+
+    /**
+     * Returns the saved searches as an unmodifiable list, in the order they were saved.
+     */
+    public List<SavedSearch> asUnmodifiableList() {
+        return Collections.unmodifiableList(new ArrayList<>(searches.values()));
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase();
+    }
+
+    @Override
+    public Iterator<SavedSearch> iterator() {
+        return Collections.unmodifiableCollection(searches.values()).iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SavedSearchList // instanceof handles nulls
+                && asUnmodifiableList().equals(((SavedSearchList) other).asUnmodifiableList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return searches.hashCode();
+    }
+}
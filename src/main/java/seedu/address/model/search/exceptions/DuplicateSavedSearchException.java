@@ -0,0 +1,10 @@
+package seedu.address.model.search.exceptions;
+
+/**
+ * Signals that the operation will result in saved searches with the same name.
+ */
+public class DuplicateSavedSearchException extends RuntimeException {
+    public DuplicateSavedSearchException() {
+        super("Operation would result in duplicate saved searches");
+    }
+}
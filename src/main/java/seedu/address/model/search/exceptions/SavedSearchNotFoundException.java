@@ -0,0 +1,6 @@
+package seedu.address.model.search.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified saved search.
+ */
+public class SavedSearchNotFoundException extends RuntimeException {}
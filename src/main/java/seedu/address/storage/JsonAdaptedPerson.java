@@ -12,7 +12,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.job.Id;
 import seedu.address.model.job.Title;
 import seedu.address.model.person.Address;
@@ -175,15 +174,7 @@ class JsonAdaptedPerson {
         if (cap == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Cap.class.getSimpleName()));
         }
-        String[] stringCapValues = StringUtil.splitBySlash(cap);
-        if (!Cap.isValidCapInput(stringCapValues)) {
-            throw new IllegalValueException(Cap.MESSAGE_CONSTRAINTS);
-        }
-        double[] capValues = StringUtil.convertToDoubleArray(stringCapValues);
-        if (!Cap.isValidCapValues(capValues[0], capValues[1])) {
-            throw new IllegalValueException(Cap.MESSAGE_CONSTRAINTS);
-        }
-        final Cap modelCap = new Cap(capValues[0], capValues[1]);
+        final Cap modelCap = Cap.parse(cap).orElseThrow(() -> new IllegalValueException(Cap.MESSAGE_CONSTRAINTS));
 
         if (university == null) {
             throw new IllegalValueException(
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.QueryParser;
+import seedu.address.model.search.SavedSearch;
+
+/**
+ * Jackson-friendly version of {@link SavedSearch}.
+ * The persons found are stored as their positions in the persons list, so that reading the saved search does not
+ * search for them again.
+ */
+class JsonAdaptedSavedSearch {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Saved search's %s field is missing!";
+    public static final String MESSAGE_INVALID_QUERY = "Saved search's query is not a valid find: %1$s";
+    public static final String MESSAGE_INVALID_PERSON = "Saved search's found persons are not in the persons list";
+
+    private final String name;
+    private final String query;
+    private final List<Integer> found = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSavedSearch} with the given saved search details.
+     */
+    @JsonCreator
+    public JsonAdaptedSavedSearch(@JsonProperty("name") String name, @JsonProperty("query") String query,
+            @JsonProperty("found") List<Integer> found) {
+        this.name = name;
+        this.query = query;
+        if (found != null) {
+            this.found.addAll(found);
+        }
+    }
+
+    /**
+     * Converts a given {@code SavedSearch} into this class for Jackson use, where {@code positions} maps each person
+     * of its address book, by identity, to the position of the person in the persons list.
+     * Only the persons found are looked up, so converting a search takes time in the number of persons it found.
+     */
+    public JsonAdaptedSavedSearch(SavedSearch source, Map<Person, Integer> positions) {
+        name = source.getName();
+        query = source.getQuery();
+        for (Person person : source.getMembers()) {
+            found.add(positions.get(person));
+        }
+        Collections.sort(found);
+    }
+
+    /**
+     * Returns the name of the saved search, which may be missing or invalid.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted saved search of an address book with {@code persons} into the model's
+     * {@code SavedSearch} object, parsing its query with {@code queryParser}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted saved search.
+     */
+    public SavedSearch toModelType(List<Person> persons, QueryParser queryParser) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (!SavedSearch.isValidName(name)) {
+            throw new IllegalValueException(SavedSearch.MESSAGE_NAME_CONSTRAINTS);
+        }
+        if (query == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "query"));
+        }
+
+        ListOfContainsKeywordsPredicates predicates;
+        try {
+            predicates = queryParser.parse(query);
+        } catch (IllegalValueException ive) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_QUERY, ive.getMessage()), ive);
+        }
+
+        List<Person> foundPersons = new ArrayList<>();
+        for (Integer position : found) {
+            if (position == null || position < 0 || position >= persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_PERSON);
+            }
+            foundPersons.add(persons.get(position));
+        }
+        return new SavedSearch(name, query, predicates, foundPersons);
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.search.QueryParser;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +23,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final QueryParser queryParser;
 
-    public JsonAddressBookStorage(Path filePath) {
+    /**
+     * Creates a storage of the address book at {@code filePath}, whose saved searches are read back by parsing their
+     * queries with {@code queryParser}.
+     */
+    public JsonAddressBookStorage(Path filePath, QueryParser queryParser) {
+        requireNonNull(queryParser);
         this.filePath = filePath;
+        this.queryParser = queryParser;
     }
 
     public Path getAddressBookFilePath() {
@@ -52,7 +60,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(jsonAddressBook.get().toModelType(queryParser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -1,17 +1,23 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.QueryParser;
+import seedu.address.model.search.SavedSearch;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,15 +26,25 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_SAVED_SEARCH = "Saved searches list contains duplicate name(s).";
+    public static final String MESSAGE_SAVED_SEARCH_DROPPED = "Dropping saved search %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedSavedSearch> savedSearches = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and saved searches.
+     * Address books saved before searches could be saved have no saved searches.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("savedSearches") List<JsonAdaptedSavedSearch> savedSearches) {
         this.persons.addAll(persons);
+        if (savedSearches != null) {
+            this.savedSearches.addAll(savedSearches);
+        }
     }
 
     /**
@@ -38,14 +54,26 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        // the positions are looked up once for all the saved searches, by identity rather than by hash code
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        List<Person> personList = source.getPersonList();
+        for (int i = 0; i < personList.size(); i++) {
+            positions.put(personList.get(i), i);
+        }
+        savedSearches.addAll(source.getSavedSearchList().stream()
+                .map(search -> new JsonAdaptedSavedSearch(search, positions))
+                .collect(Collectors.toList()));
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Converts this address book into the model's {@code AddressBook} object, parsing the queries of the saved
+     * searches with {@code queryParser}.
+     * A saved search that violates any data constraint, such as one whose query no longer parses, is dropped with a
+     * warning rather than failing the whole address book, so that the persons are still read.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated in the persons.
      */
-    public AddressBook toModelType() throws IllegalValueException {
+    public AddressBook toModelType(QueryParser queryParser) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
@@ -54,6 +82,25 @@ class JsonSerializableAddressBook {
             }
             addressBook.addPerson(person);
         }
+
+        List<SavedSearch> modelSavedSearches = new ArrayList<>();
+        for (JsonAdaptedSavedSearch jsonAdaptedSavedSearch : savedSearches) {
+            SavedSearch search;
+            try {
+                search = jsonAdaptedSavedSearch.toModelType(addressBook.getPersonList(), queryParser);
+            } catch (IllegalValueException ive) {
+                logger.warning(String.format(MESSAGE_SAVED_SEARCH_DROPPED, jsonAdaptedSavedSearch.getName(),
+                        ive.getMessage()));
+                continue;
+            }
+            if (modelSavedSearches.stream().anyMatch(saved -> saved.getName().equalsIgnoreCase(search.getName()))) {
+                logger.warning(String.format(MESSAGE_SAVED_SEARCH_DROPPED, search.getName(),
+                        MESSAGE_DUPLICATE_SAVED_SEARCH));
+                continue;
+            }
+            modelSavedSearches.add(search);
+        }
+        addressBook.setSavedSearches(modelSavedSearches);
         return addressBook;
     }
 
@@ -1,8 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +24,67 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final ContextMenu completionsMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> showCompletions(newText));
+        commandTextField.focusedProperty().addListener((unused1, unused2, isFocused) -> {
+            if (!isFocused) {
+                completionsMenu.hide();
+            }
+        });
+        // Tab would otherwise move the focus away from the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !completionsMenu.getItems().isEmpty()) {
+                completionsMenu.getItems().get(0).fire();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Shows the completions of {@code commandText} below the command box, or hides them if there are none.
+     */
+    private void showCompletions(String commandText) {
+        completionsMenu.getItems().clear();
+        if (commandTextField.getCaretPosition() < commandText.length() - 1) {
+            // only complete the value at the end of the command
+            completionsMenu.hide();
+            return;
+        }
+
+        List<String> completions = commandCompleter.getCompletions(commandText);
+        for (String completion : completions) {
+            if (completion.equals(commandText)) {
+                continue;
+            }
+            MenuItem item = new MenuItem(completion);
+            item.setMnemonicParsing(false);
+            item.setOnAction(unused -> {
+                commandTextField.setText(completion);
+                commandTextField.positionCaret(completion.length());
+                completionsMenu.hide();
+            });
+            completionsMenu.getItems().add(item);
+        }
+
+        if (completionsMenu.getItems().isEmpty()) {
+            completionsMenu.hide();
+        } else if (!completionsMenu.isShowing()) {
+            completionsMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
     }
 
     /**
@@ -42,6 +98,7 @@ public class CommandBox extends UiPart<Region> {
         }
 
         try {
+            completionsMenu.hide();
             commandExecutor.execute(commandText);
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
@@ -82,4 +139,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of the command being typed.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
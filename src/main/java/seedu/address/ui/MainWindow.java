@@ -123,7 +123,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         personViewPanel = new PersonViewPanel(logic.getViewedPersonList());
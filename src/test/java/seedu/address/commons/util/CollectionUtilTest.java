@@ -1,20 +1,19 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.commons.util.CollectionUtil.roundCapKeywords;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.parser.exceptions.ParseException;
-
 public class CollectionUtilTest {
     @Test
     public void requireAllNonNullVarargs() {
@@ -86,16 +85,22 @@ public class CollectionUtilTest {
     }
 
     @Test
-    public void invalidCap_throwsParseException() {
-        assertThrows(ParseException.class, () -> roundCapKeywords(Arrays.asList("asdf", "3a", "a2")));
-        assertThrows(ParseException.class, () -> roundCapKeywords(Arrays.asList("!", "@", "#", "/", "3.0/", "/3.0")));
+    public void getFirstElements_limitBelowSize_firstElementsInOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 9, 1, 7);
+        assertEquals(Arrays.asList(1, 3), CollectionUtil.getFirstElements(elements, Comparator.naturalOrder(), 2));
+        assertEquals(Arrays.asList(9, 7, 5),
+                CollectionUtil.getFirstElements(elements, Comparator.reverseOrder(), 3));
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9),
+                CollectionUtil.getFirstElements(elements, Comparator.naturalOrder(), 10));
+        assertThrows(IllegalArgumentException.class, () ->
+                CollectionUtil.getFirstElements(elements, Comparator.naturalOrder(), 0));
     }
 
     @Test
-    public void validCap_returnsRoundedCap() throws ParseException {
-        List<String> keywords = Arrays.asList("3", "3.1", "3.12", "3.152", "4.125", "4.859", "4.999");
-        assertTrue(CollectionUtil.roundCapKeywords(keywords).equals(
-                Arrays.asList("3.00", "3.10", "3.12", "3.15", "4.13", "4.86", "5.00")));
+    public void getFirstElements_equalElements_earlierElementsFirst() {
+        List<String> elements = Arrays.asList("bb", "a", "cc", "d", "ee");
+        assertEquals(Arrays.asList("a", "d", "bb"),
+                CollectionUtil.getFirstElements(elements, Comparator.comparingInt(String::length), 3));
     }
 
     /**
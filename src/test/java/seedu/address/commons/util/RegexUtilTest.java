@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+
+public class RegexUtilTest {
+
+    //---------------- Tests for compile --------------------------------------
+
+    @Test
+    public void compile_invalidRegex_throwsPatternSyntaxException() {
+        assertThrows(PatternSyntaxException.class, () -> RegexUtil.compile("(abc"));
+        assertThrows(NullPointerException.class, () -> RegexUtil.compile(null));
+    }
+
+    @Test
+    public void compile_sameRegex_returnsCachedPattern() {
+        Pattern pattern = RegexUtil.compile("^9\\d{7}$");
+        assertSame(pattern, RegexUtil.compile("^9\\d{7}$"));
+    }
+
+    @Test
+    public void compile_moreRegexesThanCapacity_evictsLeastRecentlyUsed() {
+        Pattern first = RegexUtil.compile("first-evicted");
+        Pattern kept = RegexUtil.compile("kept");
+        for (int i = 0; i < RegexUtil.CACHE_CAPACITY - 1; i++) {
+            RegexUtil.compile("filler" + i);
+            RegexUtil.compile("kept"); // used again, so it is never the least recently used
+        }
+        RegexUtil.compile("filler");
+        assertSame(kept, RegexUtil.compile("kept"));
+        assertFalse(first == RegexUtil.compile("first-evicted"));
+    }
+
+    //---------------- Tests for find --------------------------------------
+
+    @Test
+    public void find_ignoresCase() {
+        assertTrue(RegexUtil.find(RegexUtil.compile("@EXAMPLE\\.com$"), "alice@example.com", 1000));
+        assertFalse(RegexUtil.find(RegexUtil.compile("^example"), "alice@example.com", 1000));
+    }
+
+    @Test
+    public void find_catastrophicBacktracking_throwsRegexStepLimitExceededException() {
+        String text = String.join("", Collections.nCopies(24, "a")) + "!";
+        assertThrows(RegexStepLimitExceededException.class, () ->
+                RegexUtil.find(RegexUtil.compile("(.*a){20}"), text, RegexUtil.MAX_STEPS_PER_MATCH));
+    }
+
+    @Test
+    public void find_nonPositiveSteps_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RegexUtil.find(RegexUtil.compile("a"), "a", 0));
+    }
+
+    //---------------- Tests for getRequiredLiterals --------------------------------------
+
+    @Test
+    public void getRequiredLiterals_plainText_returnsWholeText() {
+        assertLiterals("example.com", "example", "com");
+        assertLiterals("example\\.com", "example.com");
+        assertLiterals("^Alice Pauline$", "Alice Pauline");
+    }
+
+    @Test
+    public void getRequiredLiterals_quantifiers_dropsOptionalCharacters() {
+        assertLiterals("abc*d", "ab", "d");
+        assertLiterals("abc?d", "ab", "d");
+        assertLiterals("abc+d", "abc", "d");
+        assertLiterals("ab{2,3}cd", "a", "cd");
+        assertLiterals("(ab){3}cd", "cd");
+    }
+
+    @Test
+    public void getRequiredLiterals_groupsAndClasses_skipsThem() {
+        assertLiterals("^9\\d{7}$", "9");
+        assertLiterals("@(gmail|yahoo)\\.com$", "@", ".com");
+        assertLiterals("[a-z]+@nus\\.edu", "@nus.edu");
+        assertLiterals("[]|(]abc", "abc");
+        assertLiterals("\\p{Alpha}12\\x41b", "12", "b");
+        assertLiterals("\\Qa|b\\Ecd", "cd");
+    }
+
+    @Test
+    public void getRequiredLiterals_noRequiredLiterals_returnsEmptyList() {
+        assertLiterals("gmail|yahoo");
+        assertLiterals("(?x)a b");
+        assertLiterals(".*");
+    }
+
+    private static void assertLiterals(String regex, String... expectedLiterals) {
+        List<String> expected = Arrays.asList(expectedLiterals);
+        assertEquals(expected, RegexUtil.getRequiredLiterals(regex));
+    }
+}
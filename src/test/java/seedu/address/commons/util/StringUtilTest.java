@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -207,6 +208,84 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsSubstringIgnoreCase("AAA bBb ccc  bbb", "Bb"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def 123", StringUtil.foldCase("ABc dEF 123"));
+
+        // already folded -> same string returned
+        String folded = "abc def";
+        assertSame(folded, StringUtil.foldCase(folded));
+
+        // strings equal ignoring case are equal after folding
+        assertEquals(StringUtil.foldCase("NUS"), StringUtil.foldCase("nus"));
+        assertFalse(StringUtil.foldCase("NUS").equals(StringUtil.foldCase("NTU")));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+    }
+
+    @Test
+    public void editDistance_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", "", 0));
+        assertEquals(0, StringUtil.editDistance("alice", "alice", 2));
+        assertEquals(1, StringUtil.editDistance("alice", "alise", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alic", 2)); // deletion
+        assertEquals(2, StringUtil.editDistance("alice", "allicee", 2)); // insertions
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 5));
+
+        // more than maxDistance edits apart -> maxDistance + 1
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting", 2));
+        assertEquals(2, StringUtil.editDistance("a", "abcdef", 1));
+    }
+
+    //---------------- Tests for toCollationKey --------------------------------------
+
+    @Test
+    public void toCollationKey_textsInDifferentCase_orderedAlphabetically() {
+        assertEquals(0, StringUtil.toCollationKey("NUS").compareTo(StringUtil.toCollationKey("nus")));
+        assertTrue(StringUtil.toCollationKey("apple").compareTo(StringUtil.toCollationKey("Banana")) < 0);
+        assertTrue(StringUtil.toCollationKey("Zebra").compareTo(StringUtil.toCollationKey("apple")) > 0);
+        assertThrows(NullPointerException.class, () -> StringUtil.toCollationKey(null));
+    }
+
+    //---------------- Tests for toPhoneticKey --------------------------------------
+
+    @Test
+    public void toPhoneticKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toPhoneticKey(null));
+    }
+
+    @Test
+    public void toPhoneticKey_validInputs_correctResult() {
+        assertEquals("R163", StringUtil.toPhoneticKey("Robert"));
+        assertEquals("R163", StringUtil.toPhoneticKey("rupert"));
+        assertEquals("L000", StringUtil.toPhoneticKey("Lee"));
+        assertEquals("A261", StringUtil.toPhoneticKey("Ashcraft")); // 's' and 'c' separated by 'h' coded once
+        assertEquals("T522", StringUtil.toPhoneticKey("Tymczak"));
+
+        // not starting with a letter -> same string
+        assertEquals("", StringUtil.toPhoneticKey(""));
+        assertEquals("123", StringUtil.toPhoneticKey("123"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -279,42 +358,23 @@ public class StringUtilTest {
                 new String[]{"test", "123"});
     }
 
-    //---------------- Tests for splitBySlash --------------------------------------
+    //---------------- Tests for isAsciiDigit, isAsciiAlphanumeric and isAsciiWhitespace ----------------------
 
     @Test
-    public void splitBySlash() {
-        assertThrows(NullPointerException.class, () -> StringUtil.splitBySlash(null)); // null value
-
-        String[] expectedStrArr = {"hehehehe", "hehehehe"};
-        String[] secondExpectedStrArr = {"a", "b", "c", "d"};
-        String[] thirdExpectedStrArr = {"hey ", " whatsup"};
-
-        assertEquals(StringUtil.splitBySlash("hehehehe/hehehehe")[0], expectedStrArr[0]); // 2 str
-        assertEquals(StringUtil.splitBySlash("hehehehe/hehehehe")[1], expectedStrArr[1]); // 2 str
-
-        assertEquals(StringUtil.splitBySlash("a/b/c/d")[0], secondExpectedStrArr[0]); // >=3 str
-        assertEquals(StringUtil.splitBySlash("a/b/c/d")[1], secondExpectedStrArr[1]); // >=3 str
-        assertEquals(StringUtil.splitBySlash("a/b/c/d")[2], secondExpectedStrArr[2]); // >=3 str
-        assertEquals(StringUtil.splitBySlash("a/b/c/d")[3], secondExpectedStrArr[3]); // >=3 str
-
-        assertEquals(StringUtil.splitBySlash("hey / whatsup")[0],
-                thirdExpectedStrArr[0]); // strings with whitespace
-        assertEquals(StringUtil.splitBySlash("hey / whatsup")[1],
-                thirdExpectedStrArr[1]); // strings with whitespace
-    }
-
-    //---------------- Tests for convertToDoubleArray --------------------------------------
-
-    @Test
-    public void convertToDoubleArray() {
-        assertThrows(NullPointerException.class, () -> StringUtil.convertToDoubleArray(null));
-
-        String[] strArr = {"4.2", "3.2"};
-        String[] secondStrArr = {"4.19", "3.199"};
-        double[] expectedArr = {4.2, 3.2};
-        double[] expectedSecondArr = {4.19, 3.199};
-
-        assertEquals(StringUtil.convertToDoubleArray(strArr)[0], expectedArr[0]);
-        assertEquals(StringUtil.convertToDoubleArray(secondStrArr)[0], expectedSecondArr[0]);
+    public void isAsciiCharacterClass() {
+        assertTrue(StringUtil.isAsciiDigit('0'));
+        assertTrue(StringUtil.isAsciiDigit('9'));
+        assertFalse(StringUtil.isAsciiDigit('a'));
+        assertFalse(StringUtil.isAsciiDigit('\u0661')); // non-ASCII digit
+
+        assertTrue(StringUtil.isAsciiAlphanumeric('z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('5'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+
+        assertTrue(StringUtil.isAsciiWhitespace(' '));
+        assertTrue(StringUtil.isAsciiWhitespace('\u000B'));
+        assertFalse(StringUtil.isAsciiWhitespace('\u00a0')); // non-breaking space
     }
 }
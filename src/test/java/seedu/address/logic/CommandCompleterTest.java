@@ -0,0 +1,34 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void getCompletions_valueOfCompletedField_completedCommands() {
+        assertEquals(Arrays.asList("find g/Male m/Computer Engineering", "find g/Male m/Computer Science"),
+                CommandCompleter.getCompletions("find g/Male m/comp", model));
+        assertEquals(Collections.singletonList("find u/NUS"), CommandCompleter.getCompletions("find u/ nu", model));
+        assertEquals(Collections.singletonList("add t/KIV"), CommandCompleter.getCompletions("add t/k", model));
+    }
+
+    @Test
+    public void getCompletions_valueOfOtherField_noCompletions() {
+        assertTrue(CommandCompleter.getCompletions("find m/Computer n/Al", model).isEmpty());
+        assertTrue(CommandCompleter.getCompletions("find e/alice", model).isEmpty());
+        assertTrue(CommandCompleter.getCompletions("list", model).isEmpty());
+    }
+}
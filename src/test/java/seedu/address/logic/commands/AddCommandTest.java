@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -24,6 +26,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.testutil.PersonBuilder;
@@ -156,6 +161,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         };
 
+        @Override
+        public Optional<SavedSearch> getSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSavedSearch(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -171,6 +191,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(ListOfContainsKeywordsPredicates predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int rankFilteredPersonList(ListOfContainsKeywordsPredicates predicates, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getFieldValueCompletions(IndexedField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateViewedPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -8,6 +8,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,6 +26,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -64,7 +70,8 @@ class CheckoutCommandTest {
 
     @Test
     public void execute_allValidParameters_checkoutSuccessful() throws CommandException {
-        Storage validStorage = new StorageManager(new JsonAddressBookStorage(validPath), validUserPrefsStorage);
+        Storage validStorage = new StorageManager(new JsonAddressBookStorage(validPath,
+                new FindCommandParser()::parsePredicates), validUserPrefsStorage);
         Model validModel = new ModelManager();
 
         CommandResult commandResult = new CheckoutCommand(validPath).execute(validModel, validStorage);
@@ -169,6 +176,21 @@ class CheckoutCommandTest {
             throw new AssertionError("This method should not be called.");
         };
 
+        @Override
+        public Optional<SavedSearch> getSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSavedSearch(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -184,6 +206,36 @@ class CheckoutCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(ListOfContainsKeywordsPredicates predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int rankFilteredPersonList(ListOfContainsKeywordsPredicates predicates, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getFieldValueCompletions(IndexedField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateViewedPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.SearchCommandTest.saveMaleSearch;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeleteSearchCommand}.
+ */
+public class DeleteSearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        DeleteSearchCommand deleteMale = new DeleteSearchCommand("male");
+
+        assertTrue(deleteMale.equals(deleteMale));
+        assertTrue(deleteMale.equals(new DeleteSearchCommand("male")));
+        assertFalse(deleteMale.equals(null));
+        assertFalse(deleteMale.equals(new DeleteSearchCommand("female")));
+    }
+
+    @Test
+    public void execute_savedSearch_searchDeleted() throws Exception {
+        saveMaleSearch(model, "male");
+        assertCommandSuccess(new DeleteSearchCommand("MALE"), model,
+                String.format(DeleteSearchCommand.MESSAGE_SUCCESS, "MALE"), expectedModel);
+    }
+
+    @Test
+    public void execute_unknownSearch_throwsCommandException() {
+        assertCommandFailure(new DeleteSearchCommand("male"), model,
+                String.format(SearchCommand.MESSAGE_SEARCH_NOT_FOUND, "male"));
+    }
+}
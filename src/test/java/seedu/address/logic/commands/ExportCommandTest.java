@@ -7,6 +7,8 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -21,6 +24,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -35,7 +41,7 @@ public class ExportCommandTest {
     private final ModelStub modelStub = new ModelStub();
     private final StorageStub storageStub = new StorageStub();
     private final Storage validStorage = new StorageManager(
-            new JsonAddressBookStorage(validPath), validUserPrefsStorage);
+            new JsonAddressBookStorage(validPath, new FindCommandParser()::parsePredicates), validUserPrefsStorage);
     private final Model validEmptyModel = new ModelManager();
     private final Model validNonEmptyModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
@@ -135,6 +141,21 @@ public class ExportCommandTest {
             throw new AssertionError("This method should not be called.");
         };
 
+        @Override
+        public Optional<SavedSearch> getSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSavedSearch(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -150,6 +171,36 @@ public class ExportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(ListOfContainsKeywordsPredicates predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(SavedSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int rankFilteredPersonList(ListOfContainsKeywordsPredicates predicates, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> getFieldValueCompletions(IndexedField field, String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateViewedPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -4,22 +4,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.FieldMatchesRegexPredicate;
 import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -55,6 +62,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // ranked -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicateList, Optional.of(5))));
     }
 
     @Test
@@ -83,6 +93,40 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_rankedFind_mostRelevantPersonsFound() {
+        String expectedMessage = String.format(FindCommand.MESSAGE_PERSONS_RANKED_OVERVIEW, 2, 4);
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(preparePredicate("Meier Kurz Pauline"));
+        FindCommand command = new FindCommand(predicateList, Optional.of(2));
+        expectedModel.rankFilteredPersonList(predicateList, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_regex_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new FieldMatchesRegexPredicate(IndexedField.PHONE, "^94\\d{5}$"));
+        FindCommand command = new FindCommand(predicateList);
+        expectedModel.updateFilteredPersonList(predicateList);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_pathologicalRegex_findAborted() {
+        model.addPerson(new PersonBuilder().withAddress("aaaaaaaaaaaaaaaaaaaaaaaa!").build());
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new FieldMatchesRegexPredicate(IndexedField.ADDRESS, "(.*a){20}"));
+        assertCommandFailure(new FindCommand(predicateList), model,
+                String.format(FindCommand.MESSAGE_REGEX_ABORTED, "(.*a){20}"));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
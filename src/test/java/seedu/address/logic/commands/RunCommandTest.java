@@ -0,0 +1,200 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RunCommand.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, false));
+    }
+
+    @Test
+    public void execute_fileDoesNotExist_throwsCommandException() {
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_FILE_DOES_NOT_EXIST, () ->
+                new RunCommand(tempDir.resolve("nonExistentScript.txt"), false).execute(model, null));
+    }
+
+    @Test
+    public void execute_pathIsDirectory_throwsCommandException() {
+        assertThrows(CommandException.class, ImportCommand.MESSAGE_PATH_IS_DIRECTORY, () ->
+                new RunCommand(tempDir, false).execute(model, null));
+    }
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path script = writeScript("# new applicants", PersonUtil.getAddCommand(HOON), "",
+                "  " + PersonUtil.getAddCommand(IDA));
+
+        CommandResult result = new RunCommand(script, false).execute(model, null);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 2 commands from " + script + " in "));
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        expectedAddressBook.addPerson(HOON);
+        expectedAddressBook.addPerson(IDA);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_failedCommand_allChangesUndone() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA),
+                PersonUtil.getAddCommand(HOON));
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_ROLLED_BACK,
+                String.format(RunCommand.MESSAGE_FAILED_LINE, 3, AddCommand.MESSAGE_DUPLICATE_PERSON)), () ->
+                new RunCommand(script, false).execute(model, null));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_commandThrowsUncheckedException_allChangesUndone() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(IDA));
+        Model failingModel = getModelFailingToAdd(IDA);
+        IllegalStateException exception = new IllegalStateException("Cannot add " + IDA.getName());
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_ROLLED_BACK,
+                String.format(RunCommand.MESSAGE_FAILED_LINE, 2,
+                        String.format(RunCommand.MESSAGE_UNEXPECTED_ERROR, exception))), () ->
+                new RunCommand(script, false).execute(failingModel, null));
+        assertEquals(getTypicalAddressBook(), failingModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_keepGoingCommandThrowsUncheckedException_failedLineReported() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(IDA), PersonUtil.getAddCommand(HOON));
+        Model failingModel = getModelFailingToAdd(IDA);
+        IllegalStateException exception = new IllegalStateException("Cannot add " + IDA.getName());
+
+        String feedback = new RunCommand(script, true).execute(failingModel, null).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith("\n" + String.format(RunCommand.MESSAGE_FAILED_LINES, 1)
+                + "\n" + String.format(RunCommand.MESSAGE_FAILED_LINE, 1,
+                        String.format(RunCommand.MESSAGE_UNEXPECTED_ERROR, exception))));
+        assertTrue(failingModel.hasPerson(HOON));
+        assertFalse(failingModel.hasPerson(IDA));
+    }
+
+    /**
+     * Returns a model of the typical address book, which throws an unchecked exception when {@code person} is added.
+     */
+    private static Model getModelFailingToAdd(Person person) {
+        return new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void addPerson(Person added) {
+                if (added.isSamePerson(person)) {
+                    throw new IllegalStateException("Cannot add " + added.getName());
+                }
+                super.addPerson(added);
+            }
+        };
+    }
+
+    @Test
+    public void execute_keepGoing_failedLinesReported() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), PersonUtil.getAddCommand(HOON), "unknown",
+                PersonUtil.getAddCommand(IDA));
+
+        String feedback = new RunCommand(script, true).execute(model, null).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith("Ran 4 commands from "));
+        assertTrue(feedback.endsWith("\n" + String.format(RunCommand.MESSAGE_FAILED_LINES, 2)
+                + "\n" + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(model.hasPerson(HOON));
+        assertTrue(model.hasPerson(IDA));
+    }
+
+    @Test
+    public void execute_keepGoingManyFailedLines_reportTruncated() throws Exception {
+        String[] lines = new String[25];
+        Arrays.fill(lines, "unknown");
+        Path script = writeScript(lines);
+
+        String feedback = new RunCommand(script, true).execute(model, null).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_FAILED_LINE, 20, MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(feedback.contains(String.format(RunCommand.MESSAGE_FAILED_LINE, 21, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILED_LINES, 5)));
+    }
+
+    @Test
+    public void execute_nestedRun_notAllowed() throws Exception {
+        Path script = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_ROLLED_BACK,
+                String.format(RunCommand.MESSAGE_FAILED_LINE, 1,
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD))), () ->
+                new RunCommand(script, false).execute(model, null));
+    }
+
+    @Test
+    public void execute_export_notAllowed() throws Exception {
+        Path script = writeScript(PersonUtil.getAddCommand(HOON), ExportCommand.COMMAND_WORD);
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_ROLLED_BACK,
+                String.format(RunCommand.MESSAGE_FAILED_LINE, 2,
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, ExportCommand.COMMAND_WORD))), () ->
+                new RunCommand(script, false).execute(model, null));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(tempDir, false);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(tempDir, false)));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different keep going -> returns false
+        assertFalse(runCommand.equals(new RunCommand(tempDir, true)));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(tempDir.resolve("script.txt"), false)));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = tempDir.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.SearchCommandTest.saveMaleSearch;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SaveSearchCommand}.
+ */
+public class SaveSearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() throws Exception {
+        ListOfContainsKeywordsPredicates predicates = new FindCommandParser().parsePredicates(" g/male");
+        SaveSearchCommand saveMale = new SaveSearchCommand("male", "g/male", predicates);
+
+        assertTrue(saveMale.equals(saveMale));
+        assertTrue(saveMale.equals(new SaveSearchCommand("male", "g/male", predicates)));
+        assertFalse(saveMale.equals(null));
+        assertFalse(saveMale.equals(new SaveSearchCommand("men", "g/male", predicates)));
+    }
+
+    @Test
+    public void execute_newSearch_searchSavedAndFoundPersonsListed() throws Exception {
+        saveMaleSearch(expectedModel, "male");
+        expectedModel.updateFilteredPersonList(expectedModel.getSavedSearch("male").get()::contains);
+        SaveSearchCommand command = new SaveSearchCommand("male", "g/male",
+                new FindCommandParser().parsePredicates(" g/male"));
+        assertCommandSuccess(command, model, String.format(SaveSearchCommand.MESSAGE_SUCCESS, "male", 4),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_duplicateName_throwsCommandException() throws Exception {
+        saveMaleSearch(model, "Male");
+        SaveSearchCommand command = new SaveSearchCommand("male", "g/female",
+                new FindCommandParser().parsePredicates(" g/female"));
+        assertCommandFailure(command, model, String.format(SaveSearchCommand.MESSAGE_DUPLICATE_SEARCH, "male"));
+    }
+}
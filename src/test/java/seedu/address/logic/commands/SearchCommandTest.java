@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.SavedSearch;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    /**
+     * Saves a search for male persons named {@code name} in {@code model}.
+     */
+    public static void saveMaleSearch(Model model, String name) throws ParseException {
+        model.addSavedSearch(new SavedSearch(name, "g/male", new FindCommandParser().parsePredicates(" g/male")));
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand searchMale = new SearchCommand(Optional.of("male"));
+
+        assertTrue(searchMale.equals(searchMale));
+        assertTrue(searchMale.equals(new SearchCommand(Optional.of("male"))));
+        assertFalse(searchMale.equals(null));
+        assertFalse(searchMale.equals(new SearchCommand(Optional.of("female"))));
+        assertFalse(searchMale.equals(new SearchCommand(Optional.empty())));
+    }
+
+    @Test
+    public void execute_noSavedSearches_noSavedSearchesShown() {
+        assertCommandSuccess(new SearchCommand(Optional.empty()), model, SearchCommand.MESSAGE_NO_SAVED_SEARCHES,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_listSavedSearches_savedSearchesShown() throws Exception {
+        saveMaleSearch(model, "male");
+        saveMaleSearch(expectedModel, "male");
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SAVED_SEARCHES,
+                String.format(SearchCommand.MESSAGE_SAVED_SEARCH, "male", 4, "g/male"));
+        assertCommandSuccess(new SearchCommand(Optional.empty()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_savedSearch_foundPersonsListed() throws Exception {
+        saveMaleSearch(model, "male");
+        saveMaleSearch(expectedModel, "male");
+        // persons added after the search is saved are found without searching again
+        model.addPerson(BOB);
+        expectedModel.addPerson(BOB);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        SavedSearch expectedSearch = expectedModel.getSavedSearch("male").get();
+        expectedModel.updateFilteredPersonList(expectedSearch::contains);
+        assertCommandSuccess(new SearchCommand(Optional.of("MALE")), model,
+                String.format(SearchCommand.MESSAGE_SUCCESS, 5, "male"), expectedModel);
+        assertEquals(5, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_unknownSearch_throwsCommandException() {
+        assertCommandFailure(new SearchCommand(Optional.of("male")), model,
+                String.format(SearchCommand.MESSAGE_SEARCH_NOT_FOUND, "male"));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.SortField;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand sortByCap = new SortCommand(SortField.CAP, true, Optional.empty());
+
+        assertTrue(sortByCap.equals(sortByCap));
+        assertTrue(sortByCap.equals(new SortCommand(SortField.CAP, true, Optional.empty())));
+        assertFalse(sortByCap.equals(null));
+        assertFalse(sortByCap.equals(new SortCommand(SortField.NAME, true, Optional.empty())));
+        assertFalse(sortByCap.equals(new SortCommand(SortField.CAP, false, Optional.empty())));
+        assertFalse(sortByCap.equals(new SortCommand(SortField.CAP, true, Optional.of(3))));
+    }
+
+    @Test
+    public void execute_sortByGraduationDate_allPersonsSorted() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, 7, "graduation");
+        expectedModel.sortFilteredPersonList(SortField.GRADUATION_DATE.getComparator()
+                .thenComparing(SortField.NAME.getComparator()));
+        assertCommandSuccess(new SortCommand(SortField.GRADUATION_DATE, false, Optional.empty()), model,
+                expectedMessage, expectedModel);
+        // equal graduation dates are ordered by name
+        assertEquals(Arrays.asList(DANIEL, ALICE, FIONA, BENSON, ELLE, GEORGE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByCapDescendingWithLimit_firstPersonsListed() {
+        SortCommand command = new SortCommand(SortField.CAP, true, Optional.of(3));
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS_LIMITED, 3, 7, "cap");
+        expectedModel.sortFilteredPersonList(SortField.CAP.getComparator().reversed()
+                .thenComparing(SortField.NAME.getComparator()), 3);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // CAPs are compared as fractions of their maximums
+        assertEquals(Arrays.asList(CARL, GEORGE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortFilteredList_onlyFilteredPersonsSorted() {
+        model.updateFilteredPersonList(new GenderContainsKeywordsPredicate(Arrays.asList("female")));
+        new SortCommand(SortField.NAME, true, Optional.of(10)).execute(model, null);
+        assertEquals(Arrays.asList(FIONA, ELLE, ALICE), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.StatisticsField;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StatsCommand statsByJob = new StatsCommand(Optional.of(StatisticsField.JOB), false);
+
+        assertTrue(statsByJob.equals(statsByJob));
+        assertTrue(statsByJob.equals(new StatsCommand(Optional.of(StatisticsField.JOB), false)));
+        assertFalse(statsByJob.equals(null));
+        assertFalse(statsByJob.equals(new StatsCommand(Optional.of(StatisticsField.MAJOR), false)));
+        assertFalse(statsByJob.equals(new StatsCommand(Optional.of(StatisticsField.JOB), true)));
+        assertFalse(statsByJob.equals(new StatsCommand(Optional.empty(), false)));
+    }
+
+    @Test
+    public void execute_summary_statisticsOfAddressBookShown() {
+        String expectedMessage = "7 persons in the address book\n"
+                + "CAP: average 81.35%, lowest 62.50%, highest 99.75% of the maximum\n"
+                + "Universities: 7, majors: 7, jobs: 2\n"
+                + "Graduation years: 2023: 1, 2024: 2, 2025: 2, 2026: 2";
+        assertCommandSuccess(new StatsCommand(Optional.empty(), false), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_groupedListed_statisticsOfListedPersonsShown() {
+        model.updateFilteredPersonList(new GenderContainsKeywordsPredicate(Arrays.asList("female")));
+        expectedModel.updateFilteredPersonList(new GenderContainsKeywordsPredicate(Arrays.asList("female")));
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_GROUPED, StatsCommand.SCOPE_LISTED, "graduation",
+                String.format(StatsCommand.MESSAGE_GROUP, "2024", 2,
+                        String.format(StatsCommand.MESSAGE_CAPS, 78.7, 78.0, 79.4)) + "\n"
+                + String.format(StatsCommand.MESSAGE_GROUP, "2025", 1,
+                        String.format(StatsCommand.MESSAGE_CAPS, 74.0, 74.0, 74.0)));
+        assertCommandSuccess(new StatsCommand(Optional.of(StatisticsField.GRADUATION_YEAR), true), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_groupedByJob_largestGroupFirst() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_GROUPED, StatsCommand.SCOPE_ADDRESS_BOOK, "job",
+                String.format(StatsCommand.MESSAGE_GROUP, ALICE.getJob().value, 4,
+                        String.format(StatsCommand.MESSAGE_CAPS, 78.5625, 62.5, 99.75)) + "\n"
+                + String.format(StatsCommand.MESSAGE_GROUP, BENSON.getJob().value, 3,
+                        String.format(StatsCommand.MESSAGE_CAPS, 255.2 / 3, 79.4, 95.8)));
+        assertCommandSuccess(new StatsCommand(Optional.of(StatisticsField.JOB), false), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_emptyAddressBook_noPersonsShown() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new StatsCommand(Optional.empty(), false), emptyModel,
+                String.format(StatsCommand.MESSAGE_NO_PERSONS, StatsCommand.SCOPE_ADDRESS_BOOK),
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+}
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -28,9 +29,15 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+import seedu.address.model.person.StatisticsField;
 import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -99,6 +106,24 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " offered");
+        assertEquals(new SearchCommand(Optional.of("offered")), command);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command = (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " cap desc limit 5");
+        assertEquals(new SortCommand(SortField.CAP, true, Optional.of(5)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        StatsCommand command = (StatsCommand) parser.parseCommand(StatsCommand.COMMAND_WORD + " major listed");
+        assertEquals(new StatsCommand(Optional.of(StatisticsField.MAJOR), true), command);
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         ViewCommand command = (ViewCommand) parser.parseCommand(
@@ -113,6 +138,13 @@ public class AddressBookParserTest {
         assertEquals(new ImportCommand(PATH_TO_JERRY_JPG), command);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(
+                RunCommand.COMMAND_WORD + " " + RunCommand.FLAG_KEEP_GOING + " " + VALID_PATH_JERRY);
+        assertEquals(new RunCommand(PATH_TO_JERRY_JPG, true), command);
+    }
+
     @Test
     public void parseCommand_checkout() throws Exception {
         CheckoutCommand command = (CheckoutCommand) parser.parseCommand(
@@ -120,6 +152,13 @@ public class AddressBookParserTest {
         assertEquals(new CheckoutCommand(Paths.get("data", "test.json")), command);
     }
 
+    @Test
+    public void parseCommand_argumentsAfterOtherWhitespace_parsed() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                "  " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased() + " ");
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -130,6 +169,8 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()
             -> parser.parseCommand("unknownCommand"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, ()
+            -> parser.parseCommand(DeleteCommand.COMMAND_WORD + "1"));
     }
 
     @Test
@@ -136,6 +136,38 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAtStart_recognised() {
+        String argsString = "p/pSlash value -t dashT-Value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixRecognised() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt dashTT-Value -t dashT-Value -tdashT";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "dashTT-Value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "dashT");
+    }
+
+    @Test
+    public void tokenize_reusedPrefixMatcher_sameArguments() {
+        PrefixMatcher matcher = new PrefixMatcher(pSlash, dashT, hatQ);
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, matcher);
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
+
+        argMultimap = ArgumentTokenizer.tokenize(" ^Q111", matcher);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, hatQ, "111");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
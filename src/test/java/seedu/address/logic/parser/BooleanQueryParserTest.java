@@ -0,0 +1,119 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.predicates.BooleanQueryPredicate;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.predicates.CanonicalPredicate;
+import seedu.address.model.person.predicates.FieldMatchesRegexPredicate;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.JobTitleContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.UniversityContainsKeywordsPredicate;
+
+public class BooleanQueryParserTest {
+
+    private static final CanonicalPredicate NUS = new UniversityContainsKeywordsPredicate(Arrays.asList("NUS"));
+    private static final CanonicalPredicate NTU = new UniversityContainsKeywordsPredicate(Arrays.asList("NTU"));
+    private static final CanonicalPredicate REJECTED = new TagContainsKeywordsPredicate(Arrays.asList("rejected"));
+    private static final CanonicalPredicate MALE = new GenderContainsKeywordsPredicate(Arrays.asList("male"));
+
+    @Test
+    public void isBooleanQuery() {
+        assertTrue(isBooleanQuery("u/NUS or u/NTU"));
+        assertTrue(isBooleanQuery("NOT t/rejected"));
+        assertTrue(isBooleanQuery(" (u/NUS)"));
+        assertTrue(isBooleanQuery("(u/NUS or(u/NTU))"));
+
+        // operators inside keywords, and parentheses after the first field specifier
+        assertFalse(isBooleanQuery("n/Andy Orton"));
+        assertFalse(isBooleanQuery("jt/Engineer (Backend)"));
+        assertFalse(isBooleanQuery("a/Nothing Street"));
+
+        // operators not followed by a field specifier, a parenthesis or an operator not are keywords
+        assertFalse(isBooleanQuery("jt/Research and Development"));
+        assertFalse(isBooleanQuery("m/Business and Economics t/KIV"));
+        assertFalse(isBooleanQuery("a/North or South Street"));
+        assertFalse(isBooleanQuery("t/do not hire"));
+        assertFalse(isBooleanQuery("u/NUS or"));
+        assertTrue(isBooleanQuery("jt/Research and Development and not t/rejected"));
+        assertTrue(isBooleanQuery("u/NUS or (t/KIV)"));
+    }
+
+    @Test
+    public void parse_operatorWordsAsKeywords_keywordsOfField() throws Exception {
+        assertEquals(BooleanQueryPredicate.and(Arrays.asList(
+                new JobTitleContainsKeywordsPredicate(Arrays.asList("Research", "and", "Development")),
+                BooleanQueryPredicate.not(REJECTED))),
+                parse("jt/Research and Development and not t/rejected"));
+        assertEquals(BooleanQueryPredicate.or(Arrays.asList(
+                new TagContainsKeywordsPredicate(Arrays.asList("do", "not", "hire")), NUS)),
+                parse("t/do not hire or u/NUS"));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        assertEquals(BooleanQueryPredicate.or(Arrays.asList(NUS,
+                BooleanQueryPredicate.and(Arrays.asList(NTU, BooleanQueryPredicate.not(REJECTED))))),
+                parse("u/NUS or u/NTU and not t/rejected"));
+
+        assertEquals(BooleanQueryPredicate.and(Arrays.asList(BooleanQueryPredicate.or(Arrays.asList(NUS, NTU)),
+                BooleanQueryPredicate.not(REJECTED))),
+                parse("(u/NUS OR u/NTU) AND NOT t/rejected"));
+    }
+
+    @Test
+    public void parse_adjacentSpecifiers_joinedByAnd() throws Exception {
+        assertEquals(BooleanQueryPredicate.and(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), MALE, BooleanQueryPredicate.not(
+                        new NameSimilarToKeywordsPredicate(Arrays.asList("Kurz"))))),
+                parse("n/Alice Bob g/ male not n~/Kurz"));
+    }
+
+    @Test
+    public void parse_parenthesesAroundSingleSpecifier_specifierOnly() throws Exception {
+        assertEquals(BooleanQueryPredicate.not(NUS), parse("not ((u/NUS))"));
+    }
+
+    @Test
+    public void parse_regexWithParenthesesAndOperators_keptWhole() throws Exception {
+        CanonicalPredicate email = new FieldMatchesRegexPredicate(IndexedField.EMAIL, "@(gmail|yahoo) or (x)$");
+        assertEquals(BooleanQueryPredicate.or(Arrays.asList(email, NUS)),
+                parse("e//@(gmail|yahoo) or (x)$/ or u/NUS"));
+        assertEquals(BooleanQueryPredicate.and(Arrays.asList(NTU, BooleanQueryPredicate.not(email))),
+                parse("u/NTU and not (e//@(gmail|yahoo) or (x)$/)"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertInvalidQuery("u/NUS or (", "a field specifier is missing at the end");
+        assertInvalidQuery("(u/NUS or u/NTU", "'(' is not closed");
+        assertInvalidQuery("u/NUS) or u/NTU", "unexpected ')'");
+        assertInvalidQuery("u/NUS or (and u/NTU)", "unexpected 'and'");
+        assertInvalidQuery("NUS or u/NTU", "'NUS' does not follow a field specifier");
+        assertThrows(ParseException.class, FindCommandParser.MESSAGE_EMPTY_FIELD, () -> parse("u/ or u/NTU"));
+    }
+
+    private static CanonicalPredicate parse(String args) throws ParseException {
+        return BooleanQueryParser.parse(args, FindCommandParser.SEARCHED_PREFIXES);
+    }
+
+    private static boolean isBooleanQuery(String args) {
+        return BooleanQueryParser.isBooleanQuery(args, FindCommandParser.SEARCHED_PREFIXES);
+    }
+
+    private static void assertInvalidQuery(String args, String reason) {
+        assertThrows(ParseException.class, String.format(BooleanQueryParser.MESSAGE_INVALID_QUERY, reason), () ->
+                parse(args));
+    }
+}
@@ -6,20 +6,29 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.CapRange;
+import seedu.address.model.person.GraduationDateRange;
+import seedu.address.model.person.index.IndexedField;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.BooleanQueryPredicate;
 import seedu.address.model.person.predicates.CapContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.CapInRangePredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FieldMatchesRegexPredicate;
 import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.GraduationDateContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.GraduationDateInRangePredicate;
 import seedu.address.model.person.predicates.JobIdContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.JobTitleContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.model.person.predicates.MajorContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameSimilarToKeywordsPredicate;
 import seedu.address.model.person.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.UniversityContainsKeywordsPredicate;
@@ -65,6 +74,114 @@ public class FindCommandParserTest {
                 FindCommandParser.MESSAGE_EMPTY_FIELD);
     }
 
+    @Test
+    public void parse_rankArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new TagContainsKeywordsPredicate(Arrays.asList("offered", "KIV")));
+        assertParseSuccess(parser, "t/offered KIV r/ 10 ", new FindCommand(predicateList, Optional.of(10)));
+
+        assertParseFailure(parser, "t/offered r/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, "t/offered r/", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, "r/10", MESSAGE_NO_FIELD_GIVEN);
+    }
+
+    @Test
+    public void parse_capRangeArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new CapInRangePredicate(Arrays.asList(new CapRange(">=3.5"),
+                new CapRange("80%-90%"), new CapRange("2.5"))));
+        assertParseSuccess(parser, "c/>=3.5 80%-90% 2.5", new FindCommand(predicateList));
+
+        assertParseFailure(parser, "c/4.0-3.5", CapRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "c/>=3.5 three", CapRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_graduationDateRangeArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new GraduationDateInRangePredicate(Arrays.asList(
+                new GraduationDateRange("05-2024..12-2025"), new GraduationDateRange("<01-2020"),
+                new GraduationDateRange("06-2030"))));
+        assertParseSuccess(parser, "gd/05-2024..12-2025 <01-2020 06-2030", new FindCommand(predicateList));
+
+        assertParseFailure(parser, "gd/12-2025..05-2024", GraduationDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "gd/>=05-2024 2024", GraduationDateRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_regexArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new FieldMatchesRegexPredicate(IndexedField.EMAIL, "@(gmail|yahoo)\\.com$"));
+        predicateList.addPredicate(new FieldMatchesRegexPredicate(IndexedField.PHONE, "^9\\d{7}$"));
+        assertParseSuccess(parser, "p//^9\\d{7}$/ e//@(gmail|yahoo)\\.com$/", new FindCommand(predicateList));
+
+        // whitespace inside a regular expression is kept as given
+        predicateList = ListOfContainsKeywordsPredicates.newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new FieldMatchesRegexPredicate(IndexedField.ADDRESS, "Ave  \\d"));
+        assertParseSuccess(parser, "a//Ave  \\d/", new FindCommand(predicateList));
+
+        // keywords that are not between slashes are matched as before
+        predicateList = ListOfContainsKeywordsPredicates.newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new EmailContainsKeywordsPredicate(Arrays.asList("/gmail")));
+        assertParseSuccess(parser, "e//gmail", new FindCommand(predicateList));
+
+        assertParseFailure(parser, "c//^3/", String.format(FindCommandParser.MESSAGE_REGEX_NOT_SUPPORTED, "c/"));
+        assertParseFailure(parser, "n~//^Al/",
+                String.format(FindCommandParser.MESSAGE_REGEX_NOT_SUPPORTED, "n~/"));
+        assertParseFailure(parser, "n//(Alice/", String.format(FindCommandParser.MESSAGE_INVALID_REGEX,
+                "Unclosed group"));
+    }
+
+    @Test
+    public void parse_booleanQueryArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(BooleanQueryPredicate.and(Arrays.asList(
+                BooleanQueryPredicate.or(Arrays.asList(
+                        new UniversityContainsKeywordsPredicate(Arrays.asList("NUS")),
+                        new UniversityContainsKeywordsPredicate(Arrays.asList("NTU")))),
+                BooleanQueryPredicate.not(new TagContainsKeywordsPredicate(Arrays.asList("rejected"))))));
+        assertParseSuccess(parser, "(u/NUS or u/NTU) and not t/rejected", new FindCommand(predicateList));
+        assertParseSuccess(parser, "(u/NUS or u/NTU) and not t/rejected r/5",
+                new FindCommand(predicateList, Optional.of(5)));
+
+        assertParseFailure(parser, "(u/NUS or u/NTU) r/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+
+    @Test
+    public void parse_keywordsContainingOperatorWords_returnsPlainFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new AddressContainsKeywordsPredicate(Arrays.asList("North", "or", "South")));
+        predicateList.addPredicate(new JobTitleContainsKeywordsPredicate(
+                Arrays.asList("Research", "and", "Development")));
+        predicateList.addPredicate(new MajorContainsKeywordsPredicate(Arrays.asList("Business", "and", "Economics")));
+        predicateList.addPredicate(new TagContainsKeywordsPredicate(Arrays.asList("do", "not", "hire")));
+        assertParseSuccess(parser, "jt/Research and Development m/Business and Economics a/North or South "
+                + "t/do not hire", new FindCommand(predicateList));
+
+        predicateList = ListOfContainsKeywordsPredicates.newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new JobTitleContainsKeywordsPredicate(
+                Arrays.asList("Research", "and", "Development")));
+        assertParseSuccess(parser, "jt/Research and Development r/3", new FindCommand(predicateList,
+                Optional.of(3)));
+    }
+
+    @Test
+    public void parse_similarNameArgs_returnsFindCommand() {
+        ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicateList.addPredicate(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        predicateList.addPredicate(new NameSimilarToKeywordsPredicate(Arrays.asList("Bobb", "Kurz")));
+        assertParseSuccess(parser, "n~/Bobb  Kurz n/Alice", new FindCommand(predicateList));
+
+        assertParseFailure(parser, "n~/", FindCommandParser.MESSAGE_EMPTY_FIELD);
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         ListOfContainsKeywordsPredicates predicateList = ListOfContainsKeywordsPredicates
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
 import static seedu.address.model.person.Cap.CAP_SEPARATOR;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalFilePaths.PATH_TO_JERRY_JPG;
@@ -21,9 +22,11 @@ import seedu.address.model.job.Id;
 import seedu.address.model.job.Title;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Cap;
+import seedu.address.model.person.CapRange;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GraduationDate;
+import seedu.address.model.person.GraduationDateRange;
 import seedu.address.model.person.Major;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -119,6 +122,19 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseLimit_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("-5"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("ten"));
+    }
+
+    @Test
+    public void parseLimit_validInput_success() throws Exception {
+        assertEquals(10, ParserUtil.parseLimit("10"));
+        assertEquals(3, ParserUtil.parseLimit("  3  "));
+    }
+
     @Test
     public void parseFilePath_invalidFilePath_throwsParseException() {
         // Empty string
@@ -333,6 +349,20 @@ public class ParserUtilTest {
         assertEquals(expectedGraduationDate, ParserUtil.parseGraduationDate(graduationDateWithWhitespace));
     }
 
+    @Test
+    public void parseGraduationDateRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseGraduationDateRange(".."));
+        assertThrows(ParseException.class, () -> ParserUtil.parseGraduationDateRange("12-2025..05-2024"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseGraduationDateRange(">=13-2024"));
+    }
+
+    @Test
+    public void parseGraduationDateRange_validValueWithLeadingTrailingWhitespace_returnsRange() throws Exception {
+        assertEquals(new GraduationDateRange("05-2024..12-2025"),
+                ParserUtil.parseGraduationDateRange(WHITESPACE + "05-2024..12-2025" + WHITESPACE));
+        assertEquals(new GraduationDateRange(">=05-2024"), ParserUtil.parseGraduationDateRange("05-2024.."));
+    }
+
     @Test
     public void parseCap_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseCap((String) null));
@@ -365,6 +395,19 @@ public class ParserUtilTest {
         assertEquals(expectedCap, ParserUtil.parseCap(anotherCapWithWhitespace));
     }
 
+    @Test
+    public void parseCapRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCapRange("4.0-3.5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCapRange("3.5-80%"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCapRange("=>3.5"));
+    }
+
+    @Test
+    public void parseCapRange_validValueWithLeadingTrailingWhitespace_returnsCapRange() throws Exception {
+        assertEquals(new CapRange(">=3.5"), ParserUtil.parseCapRange(WHITESPACE + ">=3.5" + WHITESPACE));
+        assertEquals(new CapRange("70%-90%"), ParserUtil.parseCapRange("70%-90%"));
+    }
+
     @Test
     public void parseUniversity_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseUniversity((String) null));
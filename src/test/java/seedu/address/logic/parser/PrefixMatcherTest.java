@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixMatcherTest {
+
+    private final Prefix nSlash = new Prefix("n/");
+    private final Prefix nTildeSlash = new Prefix("n~/");
+    private final Prefix gSlash = new Prefix("g/");
+    private final Prefix gdSlash = new Prefix("gd/");
+    private final PrefixMatcher matcher = new PrefixMatcher(nSlash, nTildeSlash, gSlash, gdSlash, new Prefix(""));
+
+    @Test
+    public void match_prefixAtPosition_returnsItsId() {
+        assertEquals(0, matcher.match("n/Alice", 0));
+        assertEquals(1, matcher.match("find n~/Alise", 5));
+        assertEquals(3, matcher.match("gd/05-2024", 0));
+        assertEquals(2, matcher.match("g/Female", 0));
+    }
+
+    @Test
+    public void match_noPrefixAtPosition_returnsNoMatch() {
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.match("n/Alice", 1));
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.match("gd", 0));
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.match("n~Alice", 0));
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.match("", 0));
+
+        // the empty prefix is never matched
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.match("Alice", 0));
+    }
+
+    @Test
+    public void getId() {
+        assertEquals(3, matcher.getId(new Prefix("gd/")));
+        assertEquals(PrefixMatcher.NO_MATCH, matcher.getId(new Prefix("t/")));
+        assertEquals(gdSlash, matcher.getPrefix(matcher.getId(gdSlash)));
+        assertEquals(5, matcher.size());
+    }
+}
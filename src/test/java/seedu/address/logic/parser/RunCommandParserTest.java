@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_PATH_JERRY;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PATH_JERRY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PATH_JERRY_WITH_SPACE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalFilePaths.PATH_TO_JERRY_JPG;
+import static seedu.address.testutil.TypicalFilePaths.PATH_TO_JERRY_WITH_SPACE_JPG;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validFilePath_success() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_PATH_JERRY, new RunCommand(PATH_TO_JERRY_JPG, false));
+        assertParseSuccess(parser, VALID_PATH_JERRY_WITH_SPACE, new RunCommand(PATH_TO_JERRY_WITH_SPACE_JPG, false));
+    }
+
+    @Test
+    public void parse_keepGoing_success() {
+        assertParseSuccess(parser, RunCommand.FLAG_KEEP_GOING + " " + VALID_PATH_JERRY,
+                new RunCommand(PATH_TO_JERRY_JPG, true));
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + RunCommand.FLAG_KEEP_GOING + "\t"
+                + VALID_PATH_JERRY_WITH_SPACE, new RunCommand(PATH_TO_JERRY_WITH_SPACE_JPG, true));
+
+        // flag not followed by whitespace is part of the file path
+        assertParseSuccess(parser, RunCommand.FLAG_KEEP_GOING + ".txt",
+                new RunCommand(Paths.get(RunCommand.FLAG_KEEP_GOING + ".txt"), false));
+    }
+
+    @Test
+    public void parse_invalidFilePath_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+        // empty string
+        assertParseFailure(parser, PREAMBLE_WHITESPACE, expectedMessage);
+
+        // flag without a file path
+        assertParseFailure(parser, RunCommand.FLAG_KEEP_GOING, expectedMessage);
+
+        // invalid path
+        assertParseFailure(parser, INVALID_PATH_JERRY, expectedMessage);
+    }
+}
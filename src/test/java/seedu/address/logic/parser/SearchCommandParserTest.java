@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DeleteSearchCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.search.SavedSearch;
+
+public class SearchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCommand() throws Exception {
+        assertParseSuccess(parser, "  ", new SearchCommand(Optional.empty()));
+        assertParseSuccess(parser, " offered-2024 ", new SearchCommand(Optional.of("offered-2024")));
+        assertParseSuccess(parser, " delete offered", new DeleteSearchCommand("offered"));
+        assertParseSuccess(parser, " SAVE offered  t/offered gd/01-2024..",
+                new SaveSearchCommand("offered", "t/offered gd/01-2024..",
+                        new FindCommandParser().parsePredicates(" t/offered gd/01-2024..")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " offered 2024", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " save offered", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " delete", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " delete offered more", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " offered!", SavedSearch.MESSAGE_NAME_CONSTRAINTS);
+        assertParseFailure(parser, " save delete t/offered", SearchCommandParser.MESSAGE_RESERVED_NAME);
+        assertParseFailure(parser, " save offered t/offered r/5", FindCommandParser.MESSAGE_RANK_NOT_SAVED);
+    }
+}
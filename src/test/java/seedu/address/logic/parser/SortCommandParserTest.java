@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.SortField;
+
+public class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " name", new SortCommand(SortField.NAME, false, Optional.empty()));
+        assertParseSuccess(parser, " University ASC", new SortCommand(SortField.UNIVERSITY, false, Optional.empty()));
+        assertParseSuccess(parser, " graduation desc",
+                new SortCommand(SortField.GRADUATION_DATE, true, Optional.empty()));
+        assertParseSuccess(parser, " cap  desc limit 50 ", new SortCommand(SortField.CAP, true, Optional.of(50)));
+        assertParseSuccess(parser, " cap limit 5", new SortCommand(SortField.CAP, false, Optional.of(5)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " email", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " cap upwards", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " cap desc limit 5 more", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " cap limit", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " cap limit 0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
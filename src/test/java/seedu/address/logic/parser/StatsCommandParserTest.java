@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.person.StatisticsField;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(Optional.empty(), false));
+        assertParseSuccess(parser, " listed", new StatsCommand(Optional.empty(), true));
+        assertParseSuccess(parser, " University", new StatsCommand(Optional.of(StatisticsField.UNIVERSITY), false));
+        assertParseSuccess(parser, "  graduation  LISTED ",
+                new StatsCommand(Optional.of(StatisticsField.GRADUATION_YEAR), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " cap", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " listed job", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " job listed more", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -30,8 +30,12 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStatistics;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -174,6 +178,30 @@ public class AddressBookTest {
         assertFalse(addressBook.hasPersons(ab));
     }
 
+    @Test
+    public void savedSearch_personChanges_foundPersonsUpdated() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addSavedSearch(new SavedSearch("kiv", "t/KIV", new FindCommandParser().parsePredicates(" t/KIV")));
+        SavedSearch search = addressBook.getSavedSearch("KIV").get();
+        assertEquals(0, search.size());
+
+        addressBook.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_KIV).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(2, search.size());
+
+        addressBook.removePerson(BENSON);
+        assertTrue(search.contains(editedAlice));
+        assertFalse(search.contains(BENSON));
+
+        // a copy keeps the saved search and the persons it found
+        AddressBook copy = new AddressBook(addressBook);
+        assertEquals(addressBook, copy);
+        addressBook.removeSavedSearch("kiv");
+        assertFalse(addressBook.hasSavedSearch("kiv"));
+        assertTrue(copy.hasSavedSearch("kiv"));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -193,6 +221,21 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public ReadOnlyPersonIndex getPersonIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonStatistics getPersonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<SavedSearch> getSavedSearchList() {
+            return Collections.emptyList();
+        }
     }
 
 }
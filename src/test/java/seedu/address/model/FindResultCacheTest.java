@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.MatchedPersons;
+
+public class FindResultCacheTest {
+
+    private static final MatchedPersons ALICE_FOUND = new MatchedPersons(Collections.singletonList(ALICE));
+    private static final MatchedPersons NONE_FOUND = new MatchedPersons(Collections.emptyList());
+
+    private final FindResultCache findResultCache = new FindResultCache();
+
+    @Test
+    public void get_sameVersion_returnsCachedResult() {
+        findResultCache.put("find", 1, ALICE_FOUND);
+        assertEquals(Optional.of(ALICE_FOUND), findResultCache.get("find", 1));
+        assertFalse(findResultCache.get("other find", 1).isPresent());
+    }
+
+    @Test
+    public void get_differentVersion_resultEvicted() {
+        findResultCache.put("find", 1, ALICE_FOUND);
+        assertFalse(findResultCache.get("find", 2).isPresent());
+        assertEquals(0, findResultCache.size());
+    }
+
+    @Test
+    public void put_beyondCapacity_leastRecentlyUsedEvicted() {
+        for (int i = 0; i < FindResultCache.CAPACITY; i++) {
+            findResultCache.put("find " + i, 1, NONE_FOUND);
+        }
+        findResultCache.get("find 0", 1);
+        findResultCache.put("one more find", 1, NONE_FOUND);
+
+        assertEquals(FindResultCache.CAPACITY, findResultCache.size());
+        assertEquals(Optional.of(NONE_FOUND), findResultCache.get("find 0", 1));
+        assertFalse(findResultCache.get("find 1", 1).isPresent());
+    }
+}
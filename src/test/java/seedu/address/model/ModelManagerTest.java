@@ -7,16 +7,31 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -126,6 +141,107 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getViewedPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_findRefinesAppliedFind_onlyFilteredPersonsTested() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Person> malePredicate = new GenderContainsKeywordsPredicate(Collections.singletonList("male"));
+        int[] testCount = {0};
+        Predicate<Person> noTagsPredicate = person -> {
+            testCount[0]++;
+            return person.getTags().isEmpty();
+        };
+
+        modelManager.updateFilteredPersonList(new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(malePredicate))));
+        int maleCount = modelManager.getFilteredPersonList().size();
+        modelManager.updateFilteredPersonList(new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Arrays.asList(malePredicate, noTagsPredicate))));
+
+        assertEquals(maleCount, testCount[0]);
+        assertEquals(getTypicalPersons().stream().filter(malePredicate.and(noTagsPredicate))
+                .collect(Collectors.toList()), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_findAfterPersonEdited_allPersonsTested() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Predicate<Person> malePredicate = new GenderContainsKeywordsPredicate(Collections.singletonList("male"));
+        Predicate<Person> bensonPredicate = new NameContainsKeywordsPredicate(Collections.singletonList("benson"));
+
+        modelManager.updateFilteredPersonList(new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(bensonPredicate))));
+        Person editedBenson = new PersonBuilder(BENSON).withGender("Male").withPhone("12345678").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.updateFilteredPersonList(new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Arrays.asList(bensonPredicate, malePredicate))));
+
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameFindOnUnchangedBook_resultReused() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int[] lookupCount = {0};
+        GenderContainsKeywordsPredicate malePredicate =
+                new GenderContainsKeywordsPredicate(Collections.singletonList("male"));
+        Predicate<Person> countingPredicate = new GenderContainsKeywordsPredicate(Collections.singletonList("MALE")) {
+            @Override
+            public PostingList getMatchingPersons(ReadOnlyPersonIndex index) {
+                lookupCount[0]++;
+                return super.getMatchingPersons(index);
+            }
+
+            @Override
+            public String getCanonicalForm() {
+                return malePredicate.getCanonicalForm();
+            }
+        };
+        ListOfContainsKeywordsPredicates find = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(malePredicate)));
+        ListOfContainsKeywordsPredicates sameFind = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(countingPredicate)));
+
+        modelManager.updateFilteredPersonList(find);
+        List<Person> expectedPersons = new ArrayList<>(modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(sameFind);
+        assertEquals(0, lookupCount[0]);
+        assertEquals(expectedPersons, modelManager.getFilteredPersonList());
+
+        // a modified book invalidates the cached result
+        modelManager.deletePerson(expectedPersons.get(0));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(sameFind);
+        assertEquals(1, lookupCount[0]);
+        assertEquals(expectedPersons.subList(1, expectedPersons.size()), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_savedSearch_personsFoundShown() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SavedSearch search = new SavedSearch("male", "g/male", new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(new GenderContainsKeywordsPredicate(
+                        Collections.singletonList("male"))))), Arrays.asList(CARL, BENSON));
+        modelManager.updateFilteredPersonList(search);
+        // the persons found are shown in the order of the address book, without searching for other persons again
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rankFilteredPersonList_moreMatchesThanLimit_mostRelevantShownInOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ListOfContainsKeywordsPredicates predicates = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicates.addPredicate(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Kurz", "Pauline")));
+
+        // Kurz and Pauline are rarer than Meier
+        assertEquals(4, modelManager.rankFilteredPersonList(predicates, 2));
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(getTypicalPersons(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
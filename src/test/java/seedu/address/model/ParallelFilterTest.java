@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelFilterTest {
+
+    @Test
+    public void evaluate_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelFilter.evaluate(null, unused -> true));
+        assertThrows(NullPointerException.class, () -> ParallelFilter.evaluate(new ArrayList<>(), null));
+    }
+
+    @Test
+    public void evaluate_manyPersons_sameMatchesAsSequentialFilter() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            persons.add(new PersonBuilder().withGender(i % 3 == 0 ? "Male" : "Female").build());
+        }
+        Predicate<Person> predicate = new GenderContainsKeywordsPredicate(Collections.singletonList("male"));
+
+        assertEquals(filter(persons, predicate), filter(persons, ParallelFilter.evaluate(persons, predicate)));
+    }
+
+    @Test
+    public void evaluate_personAddedAfterwards_personRejected() {
+        List<Person> persons = new ArrayList<>(Collections.singletonList(ALICE));
+        Predicate<Person> matches = ParallelFilter.evaluate(persons, unused -> true);
+        assertFalse(matches.test(new PersonBuilder(ALICE).build()));
+    }
+
+    private static List<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.index.NumericField;
+import seedu.address.testutil.PersonBuilder;
+
+public class CapRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CapRange(null));
+    }
+
+    @Test
+    public void constructor_invalidCapRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CapRange(">=3.5-4"));
+    }
+
+    @Test
+    public void isValidCapRange() {
+        // invalid CAP ranges
+        assertFalse(CapRange.isValidCapRange("")); // empty string
+        assertFalse(CapRange.isValidCapRange(">=")); // missing value
+        assertFalse(CapRange.isValidCapRange("=>3.5")); // unknown operator
+        assertFalse(CapRange.isValidCapRange("4.0-3.5")); // reversed range
+        assertFalse(CapRange.isValidCapRange("3.5-80%")); // ends of different kinds
+        assertFalse(CapRange.isValidCapRange(">=1234")); // too many digits
+        assertFalse(CapRange.isValidCapRange("three")); // not a number
+
+        // valid CAP ranges
+        assertTrue(CapRange.isValidCapRange("3.5"));
+        assertTrue(CapRange.isValidCapRange(">=3.5"));
+        assertTrue(CapRange.isValidCapRange("< .5"));
+        assertTrue(CapRange.isValidCapRange("3.5-4.0"));
+        assertTrue(CapRange.isValidCapRange("3.5 - 3.5"));
+        assertTrue(CapRange.isValidCapRange(">80%"));
+        assertTrue(CapRange.isValidCapRange("70%-90%"));
+    }
+
+    @Test
+    public void constructor_validCapRange_fixedPointBounds() {
+        CapRange atLeast = new CapRange(">=3.5");
+        assertEquals(NumericField.CAP_VALUE, atLeast.getField());
+        assertEquals(350, atLeast.getMin());
+        assertEquals(Integer.MAX_VALUE, atLeast.getMax());
+
+        // exclusive bounds are one hundredth inside the value
+        CapRange below = new CapRange("<80%");
+        assertEquals(NumericField.CAP_FRACTION, below.getField());
+        assertEquals(Integer.MIN_VALUE, below.getMin());
+        assertEquals(7999, below.getMax());
+
+        CapRange between = new CapRange("3.456-4");
+        assertEquals(346, between.getMin());
+        assertEquals(400, between.getMax());
+    }
+
+    @Test
+    public void constructor_boundsBetweenHundredths_roundedInsideBound() {
+        assertEquals(356, new CapRange(">3.555").getMin());
+        assertEquals(356, new CapRange(">3.55").getMin());
+        assertEquals(356, new CapRange(">=3.551").getMin());
+        assertEquals(355, new CapRange(">=3.55").getMin());
+        assertEquals(355, new CapRange("<3.555").getMax());
+        assertEquals(354, new CapRange("<3.55").getMax());
+        assertEquals(355, new CapRange("<=3.559").getMax());
+        assertEquals(355, new CapRange("<=3.55").getMax());
+
+        Person threeFiftySix = new PersonBuilder().withCap(3.56, 5.0).build();
+        Person threeFiftyFive = new PersonBuilder().withCap(3.55, 5.0).build();
+        assertTrue(new CapRange(">3.555").contains(threeFiftySix));
+        assertFalse(new CapRange(">3.555").contains(threeFiftyFive));
+        assertTrue(new CapRange("<3.555").contains(threeFiftyFive));
+        assertFalse(new CapRange("<3.555").contains(threeFiftySix));
+        assertFalse(new CapRange(">=3.554").contains(threeFiftyFive));
+        assertFalse(new CapRange("<=3.559").contains(threeFiftySix));
+    }
+
+    @Test
+    public void contains() {
+        Person fourOutOfFive = new PersonBuilder().withCap(4.0, 5.0).build();
+        Person threeNineOutOfFour = new PersonBuilder().withCap(3.9, 4.0).build();
+
+        assertTrue(new CapRange(">=3.9").contains(fourOutOfFive));
+        assertTrue(new CapRange("3.5-3.9").contains(threeNineOutOfFour));
+        assertFalse(new CapRange(">3.9").contains(threeNineOutOfFour));
+
+        // percentages compare CAPs out of different maximums
+        assertFalse(new CapRange(">=90%").contains(fourOutOfFive));
+        assertTrue(new CapRange(">=90%").contains(threeNineOutOfFour));
+        assertTrue(new CapRange("80%").contains(fourOutOfFive));
+    }
+
+    @Test
+    public void toString_canonicalForm() {
+        assertEquals(">=3.50", new CapRange(">= 3.5").toString());
+        assertEquals("<=3.49", new CapRange("<3.5").toString());
+        assertEquals("70.00%-90.00%", new CapRange("70%-90 %").toString());
+        assertEquals("4.00", new CapRange("4").toString());
+        assertEquals("<=-0.01", new CapRange("<0").toString());
+    }
+
+    @Test
+    public void equals() {
+        CapRange range = new CapRange("3.5-4.0");
+
+        assertTrue(range.equals(new CapRange("3.50 - 4")));
+        assertTrue(range.equals(range));
+        assertFalse(range.equals(null));
+        assertFalse(range.equals(5.0f));
+        assertFalse(range.equals(new CapRange("3.5%-4.0%")));
+        assertFalse(range.equals(new CapRange(">=3.5")));
+    }
+}
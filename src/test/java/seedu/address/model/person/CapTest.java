@@ -1,7 +1,13 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
+
+import java.util.Locale;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,26 +33,6 @@ class CapTest {
         assertTrue(Cap.isValidCapValues(90, 100));
     }
 
-    @Test
-    void isValidCapInput() {
-        String[] validCapInputs = {"2.0", "3.0"}; // 2 numeric values
-        String[] secondValidCapInputs = {"3", "5"}; // 2 integers
-        String[] invalidCapInputs = {"1.0", "2.0", "3.0"}; // more than 2 values provided
-        String[] secondInvalidCapInputs = {"1.0", "2.0", "3.0"}; // more than 2 values provided
-        String[] thirdInvalidCapInputs = {"1.#", "2.0"}; // contains symbol
-        String[] fourthInvalidCapInputs = {"2.0"}; // only one value provided
-
-        // invalid cap inputs
-        assertFalse(Cap.isValidCapInput(invalidCapInputs));
-        assertFalse(Cap.isValidCapInput(secondInvalidCapInputs));
-        assertFalse(Cap.isValidCapInput(thirdInvalidCapInputs));
-        assertFalse(Cap.isValidCapInput(fourthInvalidCapInputs));
-
-        // valid cap inputs
-        assertTrue(Cap.isValidCapInput(validCapInputs));
-        assertTrue(Cap.isValidCapInput(secondValidCapInputs));
-    }
-
     @Test
     void isValidCapFormat() {
         // invalid cap format
@@ -60,4 +46,68 @@ class CapTest {
         assertTrue(Cap.isValidCapFormat(" 2.0")); // with leading space
         assertTrue(Cap.isValidCapFormat("2.0 ")); // with trailing space
     }
+
+    @Test
+    void getNormalizedValue() {
+        assertEquals(0.8, new Cap(4.0, 5.0).getNormalizedValue());
+        assertEquals(0.875, new Cap(3.5, 4.0).getNormalizedValue());
+        assertEquals(1, new Cap(4.999, 5.0).getNormalizedValue()); // rounded before normalizing
+    }
+
+    @Test
+    void isValidCapFormat_sameAsValidationRegex() {
+        assertSameAsRegex(Cap.VALIDATION_REGEX, Cap::isValidCapFormat, "40. \ta", 6);
+    }
+
+    @Test
+    void parse_validCap_roundedToHundredths() {
+        Cap cap = Cap.parse("3.456/5").get();
+        assertEquals(346, cap.getHundredths());
+        assertEquals(500, cap.getMaximumHundredths());
+        assertEquals(3.46, cap.getValue());
+        assertEquals(5.0, cap.getMaximum());
+
+        assertEquals(new Cap(4.0, 5.0), Cap.parse(" 4 . 0 / 5 ").get()); // whitespace allowed by the format
+        assertEquals(new Cap(5.0, 5.0), Cap.parse("4.995/5").get()); // rounded half up
+        assertEquals(new Cap(90, 100), Cap.parse("90/100").get());
+    }
+
+    @Test
+    void parse_invalidCap_empty() {
+        assertEquals(Optional.empty(), Cap.parse(""));
+        assertEquals(Optional.empty(), Cap.parse("4.0")); // without any maximum value
+        assertEquals(Optional.empty(), Cap.parse("4.0/")); // empty maximum value
+        assertEquals(Optional.empty(), Cap.parse("2.0/3.0/4.0")); // more than 2 values
+        assertEquals(Optional.empty(), Cap.parse("a/5")); // not a number
+        assertEquals(Optional.empty(), Cap.parse("0/5")); // not positive
+        assertEquals(Optional.empty(), Cap.parse("0.004/5")); // not positive once rounded
+        assertEquals(Optional.empty(), Cap.parse("5.01/5")); // greater than its maximum
+        assertEquals(Optional.empty(), Cap.parse("90/101")); // maximum greater than 100
+        assertEquals(Optional.empty(), Cap.parse("9999999999999/9999999999999")); // too large to fit
+    }
+
+    @Test
+    void parse_sameAsParsedDoubles() {
+        // the format allows a single digit before the decimal point
+        for (int hundredths = 1; hundredths < 1000; hundredths++) {
+            String value = String.format(Locale.ROOT, "%.2f", hundredths / 100.0);
+            Cap expectedCap = new Cap(Double.parseDouble(value), 10.0);
+            assertEquals(expectedCap, Cap.parse(value + Cap.CAP_SEPARATOR + "10").get());
+            assertEquals(value + Cap.CAP_SEPARATOR + "10.00", expectedCap.toString());
+        }
+    }
+
+    @Test
+    void toString_formattedToTwoDecimalPlaces() {
+        assertEquals("4.05/5.00", new Cap(4.05, 5).toString());
+        assertEquals("0.10/4.30", Cap.parse("0.1/4.3").get().toString());
+        assertEquals("90.00/100.00", new Cap(90, 100).toString());
+    }
+
+    @Test
+    void hashCode_differentMaximum_differentHashCode() {
+        assertNotEquals(new Cap(4.0, 5.0), new Cap(4.0, 4.0));
+        assertNotEquals(new Cap(4.0, 5.0).hashCode(), new Cap(4.0, 4.0).hashCode());
+        assertEquals(new Cap(4.0, 5.0).hashCode(), Cap.parse("4/5").get().hashCode());
+    }
 }
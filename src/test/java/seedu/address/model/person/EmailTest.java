@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -92,4 +94,17 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(aliceSecond.equals(alice));
     }
+
+    @Test
+    public void hashCode_differentCaseSameValue_sameHashCode() {
+        assertEquals(new Email("alice@example.com").hashCode(), new Email("ALICE@Example.com").hashCode());
+    }
+
+    @Test
+    public void isValidEmail_sameAsValidationRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail, "a1-.+_@", 6);
+        assertTrue(Email.isValidEmail("a@ab-c")); // last domain label of two domain parts
+        assertFalse(Email.isValidEmail("a@a-b")); // last domain label without two alphanumeric characters together
+        assertFalse(Email.isValidEmail("é@example.com")); // non-ASCII letter
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class GraduationDateRangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new GraduationDateRange(null));
+    }
+
+    @Test
+    public void constructor_invalidGraduationDateRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GraduationDateRange("2024..2025"));
+    }
+
+    @Test
+    public void isValidGraduationDateRange() {
+        // invalid graduation date ranges
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("")); // empty string
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("..")); // both ends open
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("13-2024..")); // invalid month
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("12-2025..05-2024")); // reversed range
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("05-2024-12-2025")); // missing separator
+        assertFalse(GraduationDateRange.isValidGraduationDateRange("=>05-2024")); // unknown operator
+
+        // valid graduation date ranges
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("05-2024"));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange(">=05-2024"));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("< 05-2024"));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("05-2024..12-2025"));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("05-2024 .. 05-2024"));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("05-2024.."));
+        assertTrue(GraduationDateRange.isValidGraduationDateRange("..12-2025"));
+    }
+
+    @Test
+    public void constructor_validGraduationDateRange_packedBounds() {
+        GraduationDateRange between = new GraduationDateRange("05-2024..12-2025");
+        assertEquals(2024 * 12 + 4, between.getMin());
+        assertEquals(2025 * 12 + 11, between.getMax());
+
+        // exclusive bounds are one month inside the date
+        GraduationDateRange after = new GraduationDateRange(">12-2024");
+        assertEquals(2025 * 12, after.getMin());
+        assertEquals(Integer.MAX_VALUE, after.getMax());
+
+        GraduationDateRange until = new GraduationDateRange("..05-2024");
+        assertEquals(Integer.MIN_VALUE, until.getMin());
+        assertEquals(2024 * 12 + 4, until.getMax());
+    }
+
+    @Test
+    public void contains() {
+        Person person = new PersonBuilder().withGraduationDate("05-2024").build();
+
+        assertTrue(new GraduationDateRange("05-2024").contains(person));
+        assertTrue(new GraduationDateRange("01-2024..05-2024").contains(person));
+        assertTrue(new GraduationDateRange(">=05-2024").contains(person));
+        assertFalse(new GraduationDateRange(">05-2024").contains(person));
+        assertFalse(new GraduationDateRange("..04-2024").contains(person));
+    }
+
+    @Test
+    public void toString_canonicalForm() {
+        assertEquals("05-2024..", new GraduationDateRange(">=05-2024").toString());
+        assertEquals("..04-2024", new GraduationDateRange("<05-2024").toString());
+        assertEquals("01-2025..", new GraduationDateRange(">12-2024").toString());
+        assertEquals("01-2025..12-2025", new GraduationDateRange(" 01-2025 .. 12-2025").toString());
+        assertEquals("05-2024", new GraduationDateRange("05-2024..05-2024").toString());
+    }
+
+    @Test
+    public void equals() {
+        GraduationDateRange range = new GraduationDateRange("05-2024..12-2025");
+
+        assertTrue(range.equals(new GraduationDateRange(" 05-2024 .. 12-2025 ")));
+        assertTrue(range.equals(range));
+        assertFalse(range.equals(null));
+        assertFalse(range.equals(5.0f));
+        assertFalse(range.equals(new GraduationDateRange("05-2024..")));
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -70,4 +72,24 @@ class GraduationDateTest {
         assertTrue(GraduationDate.isValidGraduationDate("01-0000")); // 0th year
         assertTrue(GraduationDate.isValidGraduationDate("01-3000")); // next century
     }
+
+    @Test
+    public void getPackedYearMonth_datesInOrder_increasingValues() {
+        assertEquals(2024 * 12, new GraduationDate("01-2024").getPackedYearMonth());
+        assertEquals(2024 * 12 + 11, new GraduationDate("12-2024").getPackedYearMonth());
+        assertTrue(new GraduationDate("12-2024").getPackedYearMonth()
+                < new GraduationDate("01-2025").getPackedYearMonth());
+    }
+
+    @Test
+    public void fromPackedYearMonth_packedDate_sameDate() {
+        assertEquals("05-2024", GraduationDate.fromPackedYearMonth(GraduationDate.toPackedYearMonth("05-2024")));
+        assertEquals("12-1999", GraduationDate.fromPackedYearMonth(1999 * 12 + 11));
+    }
+
+    @Test
+    public void isValidGraduationDate_sameAsValidationRegex() {
+        assertSameAsRegex(GraduationDate.VALIDATION_REGEX_MONTH_YEAR, GraduationDate::isValidGraduationDate,
+                "0129-", 7);
+    }
 }
@@ -64,4 +64,11 @@ public class NameTest {
         // different values -> returns false
         assertFalse(aliceWithoutSpace.equals(alice));
     }
+
+    @Test
+    public void getCollationKey() {
+        assertTrue(new Name("alice chan").getCollationKey().compareTo(new Name("Bob").getCollationKey()) < 0);
+        assertTrue(new Name("Alice Chan").getCollationKey().compareTo(new Name("alice chan").getCollationKey()) == 0);
+        assertTrue(new Name("Zed").getCollationKey().compareTo(new Name("alice").getCollationKey()) > 0);
+    }
 }
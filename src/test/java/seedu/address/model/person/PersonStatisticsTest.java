@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonStatisticsTest {
+
+    private final PersonStatistics statistics = new PersonStatistics();
+
+    @Test
+    public void of_persons_aggregatesAllPersons() {
+        PersonStatistics statistics = PersonStatistics.of(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        PersonAggregate overall = statistics.getOverall();
+        assertEquals(4, overall.getCount());
+        // 78.00%, 80.00%, 99.75% and 62.50% of the maximum CAPs
+        assertEquals(80.0625, overall.getAverageCapPercentage(), 1e-9);
+        assertEquals(62.5, overall.getMinimumCapPercentage(), 1e-9);
+        assertEquals(99.75, overall.getMaximumCapPercentage(), 1e-9);
+
+        Map<String, PersonAggregate> years = statistics.getGroups(StatisticsField.GRADUATION_YEAR);
+        assertEquals(4, years.size());
+        assertEquals(1, years.get("2024").getCount());
+        assertEquals(78.0, years.get("2024").getAverageCapPercentage(), 1e-9);
+        assertEquals(3, statistics.getGroups(StatisticsField.JOB).get(ALICE.getJob().value).getCount());
+        assertEquals(1, statistics.getGroups(StatisticsField.JOB).get(BENSON.getJob().value).getCount());
+    }
+
+    @Test
+    public void of_noPersons_emptyAggregates() {
+        PersonStatistics statistics = PersonStatistics.of(Collections.emptyList());
+        assertTrue(statistics.getOverall().isEmpty());
+        assertEquals(0, statistics.getOverall().getAverageCapPercentage());
+        assertTrue(statistics.getGroups(StatisticsField.UNIVERSITY).isEmpty());
+    }
+
+    @Test
+    public void remove_extremePerson_minimumAndMaximumUpdated() {
+        statistics.add(ALICE);
+        statistics.add(CARL);
+        statistics.add(DANIEL);
+        statistics.remove(CARL);
+        statistics.remove(DANIEL);
+
+        PersonAggregate overall = statistics.getOverall();
+        assertEquals(1, overall.getCount());
+        assertEquals(78.0, overall.getMinimumCapPercentage(), 1e-9);
+        assertEquals(78.0, overall.getMaximumCapPercentage(), 1e-9);
+        assertEquals(78.0, overall.getAverageCapPercentage(), 1e-9);
+    }
+
+    @Test
+    public void remove_lastPersonOfGroup_groupRemoved() {
+        statistics.add(ALICE);
+        statistics.add(BENSON);
+        statistics.remove(BENSON);
+
+        Map<String, PersonAggregate> universities = statistics.getGroups(StatisticsField.UNIVERSITY);
+        assertEquals(Collections.singleton(ALICE.getUniversity().value), universities.keySet());
+        assertFalse(statistics.getGroups(StatisticsField.GRADUATION_YEAR).containsKey("2025"));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        statistics.add(ALICE);
+        statistics.add(BENSON);
+        statistics.clear();
+        assertTrue(statistics.getOverall().isEmpty());
+        assertEquals(0, statistics.getOverall().getMaximumCapPercentage());
+        assertTrue(statistics.getGroups(StatisticsField.MAJOR).isEmpty());
+    }
+
+    @Test
+    public void getGroups_modifyGroups_throwsUnsupportedOperationException() {
+        statistics.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                statistics.getGroups(StatisticsField.MAJOR).clear());
+    }
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(StatisticsField.GRADUATION_YEAR, StatisticsField.fromKeyword("Graduation").get());
+        assertFalse(StatisticsField.fromKeyword("cap").isPresent());
+    }
+}
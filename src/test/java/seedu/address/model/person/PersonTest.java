@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CAP_VALUE_BOB;
@@ -21,6 +23,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.index.IndexedField;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -128,4 +131,18 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_KIV).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void getFoldedWords() {
+        // words of the field, case-folded
+        assertArrayEquals(new String[] {"alice", "pauline"}, ALICE.getFoldedWords(IndexedField.NAME));
+        assertArrayEquals(new String[] {"kiv"}, new PersonBuilder(ALICE).withTags(VALID_TAG_KIV).build()
+                .getFoldedWords(IndexedField.TAG));
+
+        // substring fields are kept whole
+        assertArrayEquals(new String[] {"alice@example.com"}, ALICE.getFoldedWords(IndexedField.EMAIL));
+
+        // cached after the first call
+        assertSame(ALICE.getFoldedWords(IndexedField.ADDRESS), ALICE.getFoldedWords(IndexedField.ADDRESS));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -44,4 +45,10 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone, "09a ", 6);
+        assertFalse(Phone.isValidPhone("\u0661\u0662\u0663")); // non-ASCII digits
+    }
 }
@@ -20,16 +20,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_UNIVERSITY_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -104,6 +110,14 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithUpperCaseEmail = new PersonBuilder(ALICE)
+                .withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceWithUpperCaseEmail));
+    }
+
     @Test
     public void containsSome_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.containsSome(null));
@@ -281,6 +295,27 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOtherPersons_remainingPersonsStillEditable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, ALICE);
+        uniquePersonList.remove(BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -363,6 +398,68 @@ public class UniquePersonListTest {
         assertDoesNotThrow(() -> uniquePersonList.appendList(toAdd));
     }
 
+    @Test
+    public void appendList_listWithSomeSamePersons_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<Person> toAdd = Arrays.asList(BOB, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.appendList(toAdd));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void appendList_listWithDifferentPersons_singleChangeNotified() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.incrementAndGet());
+        uniquePersonList.appendList(Arrays.asList(BOB, CARL));
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void getPersonIndex_afterSetPersonAndRemove_indexUpToDate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_KIV).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(CARL);
+
+        ReadOnlyPersonIndex personIndex = uniquePersonList.getPersonIndex();
+        assertTrue(personIndex.getPersonsWithAnyWord(IndexedField.TAG, Collections.singletonList("rejected"))
+                .isEmpty());
+        PostingList kivPersons = personIndex.getPersonsWithAnyWord(IndexedField.TAG,
+                Collections.singletonList(VALID_TAG_KIV));
+        assertEquals(1, kivPersons.size());
+        assertEquals(editedAlice, personIndex.getPerson(kivPersons.get(0)));
+        assertTrue(personIndex.getPersonsWithAnyWord(IndexedField.UNIVERSITY, Collections.singletonList("SUTD"))
+                .isEmpty());
+    }
+
+    @Test
+    public void getStatistics_afterEveryChange_statisticsUpToDate() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withUniversity(VALID_UNIVERSITY_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.appendList(Collections.singletonList(BOB));
+
+        PersonStatistics statistics = uniquePersonList.getStatistics();
+        assertEquals(2, statistics.getOverall().getCount());
+        assertEquals(Collections.singleton(VALID_UNIVERSITY_BOB),
+                statistics.getGroups(StatisticsField.UNIVERSITY).keySet());
+        assertEquals(2, statistics.getGroups(StatisticsField.UNIVERSITY).get(VALID_UNIVERSITY_BOB).getCount());
+
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+        assertEquals(1, statistics.getOverall().getCount());
+        assertEquals(99.75, statistics.getOverall().getMaximumCapPercentage(), 1e-9);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,57 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private static final List<String> WORDS = Arrays.asList("alice", "alicia", "alex", "bob", "rob", "robert",
+            "roberta", "carl", "karl", "carla", "daniel", "danielle");
+
+    private final BkTree bkTree = new BkTree();
+
+    @Test
+    public void search_emptyTree_noWords() {
+        assertTrue(bkTree.search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        bkTree.add("alice");
+        bkTree.add("alice");
+        assertEquals(1, bkTree.size());
+    }
+
+    @Test
+    public void search_anyMaxDistance_sameWordsAsLinearScan() {
+        WORDS.forEach(bkTree::add);
+        for (String word : Arrays.asList("alice", "rbert", "karla", "danial", "zzz")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Set<String> expectedWords = new HashSet<>();
+                for (String candidate : WORDS) {
+                    if (StringUtil.editDistance(word, candidate, maxDistance) <= maxDistance) {
+                        expectedWords.add(candidate);
+                    }
+                }
+                assertEquals(expectedWords, new HashSet<>(bkTree.search(word, maxDistance)));
+            }
+        }
+    }
+
+    @Test
+    public void clear_nonEmptyTree_noWords() {
+        WORDS.forEach(bkTree::add);
+        bkTree.clear();
+        assertEquals(0, bkTree.size());
+        assertTrue(bkTree.search("alice", 5).isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldValueCompleterTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    @Test
+    public void constructor_existingPersons_valuesCompleted() {
+        persons.add(ALICE);
+        FieldValueCompleter completer = new FieldValueCompleter(persons.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList("Computer Science"),
+                completer.getCompletions(IndexedField.MAJOR, "comp", 10));
+        assertEquals(Arrays.asList("interview"), completer.getCompletions(IndexedField.TAG, "i", 10));
+    }
+
+    @Test
+    public void getCompletions_personsChanged_valuesUpToDate() {
+        FieldValueCompleter completer = new FieldValueCompleter(persons.asUnmodifiableObservableList());
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Arrays.asList("Chemical Engineering", "Computer Engineering", "Computer Science"),
+                completer.getCompletions(IndexedField.MAJOR, "C", 10));
+
+        persons.remove(BENSON);
+        assertEquals(Arrays.asList("Chemical Engineering", "Computer Science"),
+                completer.getCompletions(IndexedField.MAJOR, "C", 10));
+        assertTrue(completer.getCompletions(IndexedField.UNIVERSITY, "NUS", 10).isEmpty());
+
+        Person editedCarl = new PersonBuilder(CARL).withUniversity("NTU").build();
+        persons.setPerson(CARL, editedCarl);
+        assertEquals(Collections.singletonList("NTU"), completer.getCompletions(IndexedField.UNIVERSITY, "N", 10));
+    }
+
+    @Test
+    public void getCompletions_fieldNotCompleted_throwsIllegalArgumentException() {
+        FieldValueCompleter completer = new FieldValueCompleter(persons.asUnmodifiableObservableList());
+        assertThrows(IllegalArgumentException.class, () -> completer.getCompletions(IndexedField.EMAIL, "a", 10));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class OrdinalBitmapTest {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    @Test
+    public void builder_ordinalsNotIncreasing_throwsIllegalArgumentException() {
+        OrdinalBitmap.Builder builder = new OrdinalBitmap.Builder().add(5);
+        assertThrows(IllegalArgumentException.class, () -> builder.add(5));
+        assertThrows(IllegalArgumentException.class, () -> new OrdinalBitmap.Builder().add(-1));
+    }
+
+    @Test
+    public void of_postingList_sameOrdinals() {
+        PostingList postingList = new PostingList();
+        IntStream.of(3, 1, 70_000, 65_535).forEach(postingList::add);
+        OrdinalBitmap bitmap = OrdinalBitmap.of(postingList);
+
+        assertArrayEquals(new int[] {1, 3, 65_535, 70_000}, bitmap.toArray());
+        assertEquals(postingList, bitmap.toPostingList());
+        assertTrue(bitmap.contains(65_535));
+        assertFalse(bitmap.contains(2));
+        assertTrue(OrdinalBitmap.of(PostingList.EMPTY).isEmpty());
+    }
+
+    @Test
+    public void range_acrossChunks_allOrdinalsInRange() {
+        OrdinalBitmap bitmap = OrdinalBitmap.range(100, 2 * CHUNK_SIZE + 7);
+        assertEquals(2 * CHUNK_SIZE - 93, bitmap.size());
+        assertFalse(bitmap.contains(99));
+        assertTrue(bitmap.contains(100));
+        assertTrue(bitmap.contains(CHUNK_SIZE));
+        assertTrue(bitmap.contains(2 * CHUNK_SIZE + 6));
+        assertFalse(bitmap.contains(2 * CHUNK_SIZE + 7));
+
+        assertArrayEquals(new int[] {63, 64}, OrdinalBitmap.range(63, 65).toArray());
+        assertTrue(OrdinalBitmap.range(5, 5).isEmpty());
+    }
+
+    @Test
+    public void operations_sparseAndDenseChunks_sameAsBitSet() {
+        Random random = new Random(2103);
+        // densities on both sides of the size at which a chunk switches between an array and a bitmap
+        double[] densities = {0.001, 0.05, 0.06, 0.5, 0.99};
+        for (double first : densities) {
+            for (double second : densities) {
+                BitSet firstSet = randomBitSet(random, first);
+                BitSet secondSet = randomBitSet(random, second);
+                OrdinalBitmap firstBitmap = toBitmap(firstSet);
+                OrdinalBitmap secondBitmap = toBitmap(secondSet);
+
+                BitSet intersection = (BitSet) firstSet.clone();
+                intersection.and(secondSet);
+                BitSet union = (BitSet) firstSet.clone();
+                union.or(secondSet);
+                BitSet difference = (BitSet) firstSet.clone();
+                difference.andNot(secondSet);
+
+                assertBitmapEquals(intersection, firstBitmap.and(secondBitmap));
+                assertBitmapEquals(union, firstBitmap.or(secondBitmap));
+                assertBitmapEquals(difference, firstBitmap.andNot(secondBitmap));
+            }
+        }
+    }
+
+    @Test
+    public void andNot_everyOrdinal_empty() {
+        OrdinalBitmap all = OrdinalBitmap.range(0, 3 * CHUNK_SIZE);
+        assertEquals(OrdinalBitmap.EMPTY, all.andNot(all));
+        assertEquals(all, all.or(OrdinalBitmap.EMPTY));
+        assertEquals(OrdinalBitmap.EMPTY, all.and(OrdinalBitmap.EMPTY));
+    }
+
+    /** Returns a set of ordinals over two and a half chunks, each present with probability {@code density}. */
+    private static BitSet randomBitSet(Random random, double density) {
+        BitSet set = new BitSet();
+        for (int i = 0; i < 5 * CHUNK_SIZE / 2; i++) {
+            if (random.nextDouble() < density) {
+                set.set(i);
+            }
+        }
+        return set;
+    }
+
+    private static OrdinalBitmap toBitmap(BitSet set) {
+        OrdinalBitmap.Builder builder = new OrdinalBitmap.Builder();
+        set.stream().forEach(builder::add);
+        return builder.build();
+    }
+
+    private static void assertBitmapEquals(BitSet expected, OrdinalBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals(expected.cardinality(), actual.size());
+    }
+}
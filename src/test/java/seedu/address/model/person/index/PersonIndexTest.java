@@ -0,0 +1,262 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final PersonIndex personIndex = new PersonIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> personIndex.add(null));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_emptyIndex_returnsEmptyPostingList() {
+        assertTrue(personIndex.getPersonsWithAnyWord(IndexedField.UNIVERSITY, words("NUS")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_wordsInDifferentCase_returnsMatchingPersons() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(setOf(BENSON), findWithAnyWord(IndexedField.UNIVERSITY, "nus"));
+        assertEquals(setOf(ALICE, BENSON), findWithAnyWord(IndexedField.TAG, "KIV", "Rejected"));
+        assertEquals(setOf(BENSON, CARL), findWithAnyWord(IndexedField.GENDER, "MALE"));
+        assertEquals(setOf(ALICE, BENSON), findWithAnyWord(IndexedField.NAME, "alice", "MEIER"));
+        assertEquals(setOf(CARL), findWithAnyWord(IndexedField.ADDRESS, "Wall"));
+
+        // full word match required
+        assertTrue(findWithAnyWord(IndexedField.MAJOR, "Comp").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithWordMatching_prefixOfMajor_returnsMatchingPersons() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(setOf(ALICE, BENSON), toPersons(personIndex.getPersonsWithWordMatching(IndexedField.MAJOR, word ->
+                word.startsWith("comp"))));
+    }
+
+    @Test
+    public void getPersonsWithAnyWord_fieldIndexedByTrigrams_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> findWithAnyWord(IndexedField.EMAIL, "alice"));
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPersonsWithSubstring(IndexedField.NAME,
+                "alice"));
+    }
+
+    @Test
+    public void getPersonsWithSubstring_substringsOfAnyLength_returnsMatchingPersons() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(setOf(BENSON), findWithSubstring(IndexedField.JOB_ID, "j02"));
+        assertEquals(setOf(ALICE, CARL), findWithSubstring(IndexedField.JOB_ID, "1719"));
+        assertEquals(setOf(ALICE, BENSON, CARL), findWithSubstring(IndexedField.EMAIL, "@EXAMPLE.com"));
+        assertEquals(setOf(ALICE, BENSON), findWithSubstring(IndexedField.PHONE, "4"));
+        assertEquals(setOf(BENSON), findWithSubstring(IndexedField.PHONE, "98765432"));
+        assertTrue(findWithSubstring(IndexedField.EMAIL, "nus.edu").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithSubstring_allTrigramsPresentButNotSubstring_personNotFound() {
+        Person person = new PersonBuilder().withPhone("1230234").build();
+        personIndex.add(person);
+
+        assertTrue(findWithSubstring(IndexedField.PHONE, "1234").isEmpty());
+        assertEquals(setOf(person), findWithSubstring(IndexedField.PHONE, "0234"));
+    }
+
+    @Test
+    public void getPersonsWithSubstring_valueShorterThanTrigram_returnsMatchingPersons() {
+        Person person = new PersonBuilder().withId("A1").build();
+        personIndex.add(person);
+
+        assertEquals(setOf(person), findWithSubstring(IndexedField.JOB_ID, "a"));
+        assertEquals(setOf(person), findWithSubstring(IndexedField.JOB_ID, "a1"));
+        assertTrue(findWithSubstring(IndexedField.JOB_ID, "a1b").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithSimilarWord_misspeltWords_returnsMatchingPersons() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(setOf(ALICE), toPersons(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "ALISE", 1)));
+        assertEquals(setOf(BENSON), toPersons(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "myer", 1)));
+        assertEquals(setOf(CARL), toPersons(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "Kurs", 0)));
+        assertTrue(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "zzz", 2).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPersonsWithSimilarWord(IndexedField.TAG,
+                "kiv", 1));
+    }
+
+    @Test
+    public void getPersonsWithSimilarWord_personRemoved_personNoLongerFound() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON));
+        personIndex.remove(ALICE);
+        assertTrue(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "alise", 1).isEmpty());
+        assertTrue(personIndex.getPersonsWithSimilarWord(IndexedField.NAME, "Alys", 0).isEmpty());
+    }
+
+    @Test
+    public void countPersonsWithAnyWord_wordsInDifferentCase_upperBoundOfMatches() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(2, personIndex.countPersonsWithAnyWord(IndexedField.GENDER, words("MALE")));
+        assertEquals(3, personIndex.countPersonsWithAnyWord(IndexedField.GENDER, words("male", "Female", "other")));
+        assertEquals(0, personIndex.countPersonsWithAnyWord(IndexedField.UNIVERSITY, words("NTU")));
+    }
+
+    @Test
+    public void estimatePersonsWithSubstring_substringsOfAnyLength_upperBoundOfMatches() {
+        Person person = new PersonBuilder().withPhone("1230234").build();
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, person));
+
+        // every trigram of 1234 is present, so the estimate exceeds the actual match count of 0
+        assertEquals(1, personIndex.estimatePersonsWithSubstring(IndexedField.PHONE, "1234"));
+        assertEquals(0, personIndex.estimatePersonsWithSubstring(IndexedField.PHONE, "555"));
+        assertEquals(3, personIndex.estimatePersonsWithSubstring(IndexedField.PHONE, "4"));
+        assertEquals(3, personIndex.size());
+    }
+
+    @Test
+    public void getAverageWordCount_personsAddedAndRemoved_averageOfIndexedPersons() {
+        assertEquals(0, personIndex.getAverageWordCount(IndexedField.TAG));
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(1, personIndex.getAverageWordCount(IndexedField.TAG));
+        assertEquals(2, personIndex.getAverageWordCount(IndexedField.NAME));
+
+        personIndex.remove(CARL);
+        assertEquals(1.5, personIndex.getAverageWordCount(IndexedField.TAG));
+        personIndex.clear();
+        assertEquals(0, personIndex.getAverageWordCount(IndexedField.NAME));
+    }
+
+    @Test
+    public void getPersonsInRange_capKeys_returnsPersonsInRange() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        // ALICE has 3.90/5.0, BENSON has 4.00/5.0 and CARL has 3.99/4.0
+        assertEquals(setOf(ALICE, CARL), findInRange(NumericField.CAP_VALUE, 390, 399));
+        assertEquals(setOf(BENSON), findInRange(NumericField.CAP_VALUE, 400, Integer.MAX_VALUE));
+        assertEquals(setOf(CARL), findInRange(NumericField.CAP_FRACTION, 9000, 10000));
+        assertEquals(setOf(ALICE, BENSON), findInRange(NumericField.CAP_FRACTION, Integer.MIN_VALUE, 8000));
+        assertTrue(findInRange(NumericField.CAP_VALUE, 401, 390).isEmpty());
+
+        assertEquals(2, personIndex.countPersonsInRange(NumericField.CAP_VALUE, 390, 399));
+        assertEquals(3, personIndex.countPersonsInRange(NumericField.CAP_VALUE, Integer.MIN_VALUE,
+                Integer.MAX_VALUE));
+        assertEquals(0, personIndex.countPersonsInRange(NumericField.CAP_VALUE, 391, 398));
+    }
+
+    @Test
+    public void getPersonsInRange_graduationDateKeys_returnsPersonsInRange() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+
+        // ALICE graduates in 05-2024, BENSON in 01-2025 and CARL in 09-2026
+        assertEquals(setOf(ALICE, BENSON), findInRange(NumericField.GRADUATION_DATE, 2024 * 12 + 4, 2025 * 12));
+        assertEquals(setOf(CARL), findInRange(NumericField.GRADUATION_DATE, 2025 * 12 + 1, Integer.MAX_VALUE));
+        assertEquals(1, personIndex.countPersonsInRange(NumericField.GRADUATION_DATE, Integer.MIN_VALUE,
+                2024 * 12 + 4));
+    }
+
+    @Test
+    public void getPersonsInRange_personsRemovedAndCleared_personsNoLongerFound() {
+        Person sameCapAsAlice = new PersonBuilder(ALICE).withName("Alice Clone").build();
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, sameCapAsAlice));
+        personIndex.remove(ALICE);
+        assertEquals(setOf(sameCapAsAlice), findInRange(NumericField.CAP_VALUE, 390, 390));
+
+        personIndex.clear();
+        assertEquals(0, personIndex.countPersonsInRange(NumericField.CAP_VALUE, 0, 10000));
+    }
+
+    @Test
+    public void remove_addedPerson_personNoLongerFound() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON));
+        personIndex.remove(ALICE);
+
+        assertTrue(findWithAnyWord(IndexedField.TAG, "rejected").isEmpty());
+        assertEquals(setOf(BENSON), findWithAnyWord(IndexedField.JOB_TITLE, "software"));
+    }
+
+    @Test
+    public void remove_equalPersonNotAdded_personStillFound() {
+        personIndex.add(ALICE);
+        personIndex.remove(new PersonBuilder(ALICE).build());
+        assertEquals(setOf(ALICE), findWithAnyWord(IndexedField.TAG, "rejected"));
+    }
+
+    @Test
+    public void add_afterRemove_ordinalReused() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON));
+        personIndex.remove(ALICE);
+        personIndex.add(CARL);
+
+        assertEquals(CARL, personIndex.getPerson(0));
+        assertEquals(setOf(BENSON, CARL), findWithAnyWord(IndexedField.GENDER, "male"));
+    }
+
+    @Test
+    public void getAllPersons_personsAddedAndRemoved_ordinalsInUse() {
+        assertTrue(personIndex.getAllPersons().isEmpty());
+        personIndex.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        personIndex.remove(BENSON);
+        assertEquals(setOf(ALICE, CARL), toPersons(personIndex.getAllPersons().toPostingList()));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_noPersonsFound() {
+        personIndex.addAll(Arrays.asList(ALICE, BENSON));
+        personIndex.clear();
+        assertTrue(personIndex.getPersonsWithWordMatching(IndexedField.MAJOR, word -> true).isEmpty());
+    }
+
+    @Test
+    public void getPerson_unusedOrdinal_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPerson(0));
+        personIndex.add(ALICE);
+        personIndex.remove(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPerson(0));
+    }
+
+    private Set<Person> findWithAnyWord(IndexedField field, String... words) {
+        return toPersons(personIndex.getPersonsWithAnyWord(field, words(words)));
+    }
+
+    private Set<Person> findWithSubstring(IndexedField field, String substring) {
+        return toPersons(personIndex.getPersonsWithSubstring(field, substring));
+    }
+
+    private Set<Person> findInRange(NumericField field, int min, int max) {
+        return toPersons(personIndex.getPersonsInRange(field, min, max));
+    }
+
+    private Set<Person> toPersons(PostingList postingList) {
+        Set<Person> persons = new HashSet<>();
+        for (int ordinal : postingList.toArray()) {
+            persons.add(personIndex.getPerson(ordinal));
+        }
+        return persons;
+    }
+
+    private static List<String> words(String... words) {
+        return Arrays.asList(words);
+    }
+
+    private static Set<Person> setOf(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PostingListTest {
+
+    @Test
+    public void add_ordinalsInAnyOrder_keptSortedWithoutDuplicates() {
+        PostingList postingList = postingListOf(5, 1, 9, 3, 5, 1);
+        assertArrayEquals(new int[] {1, 3, 5, 9}, postingList.toArray());
+        assertEquals(4, postingList.size());
+        assertEquals(3, postingList.get(1));
+    }
+
+    @Test
+    public void remove_presentAndAbsentOrdinals_onlyPresentRemoved() {
+        PostingList postingList = postingListOf(1, 3, 5);
+        postingList.remove(3);
+        postingList.remove(4);
+        assertArrayEquals(new int[] {1, 5}, postingList.toArray());
+        assertFalse(postingList.contains(3));
+        assertTrue(postingList.contains(5));
+    }
+
+    @Test
+    public void get_positionOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> postingListOf(1).get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PostingList.EMPTY.get(0));
+    }
+
+    @Test
+    public void intersect_overlappingPostingLists_commonOrdinals() {
+        PostingList first = postingListOf(1, 2, 4, 8, 16);
+        PostingList second = postingListOf(2, 3, 4, 16, 17, 18);
+        assertArrayEquals(new int[] {2, 4, 16}, first.intersect(second).toArray());
+        assertArrayEquals(new int[] {2, 4, 16}, second.intersect(first).toArray());
+        assertTrue(first.intersect(PostingList.EMPTY).isEmpty());
+    }
+
+    @Test
+    public void union_anyNumberOfPostingLists_allOrdinalsOnce() {
+        PostingList first = postingListOf(1, 4);
+        PostingList second = postingListOf(2, 4);
+        PostingList third = postingListOf(0, 9);
+
+        assertTrue(PostingList.union(Collections.emptyList()).isEmpty());
+        assertEquals(first, PostingList.union(Collections.singletonList(first)));
+        assertArrayEquals(new int[] {1, 2, 4}, PostingList.union(Arrays.asList(first, second)).toArray());
+        assertArrayEquals(new int[] {0, 1, 2, 4, 9}, PostingList.union(Arrays.asList(first, second, third)).toArray());
+    }
+
+    @Test
+    public void equals() {
+        PostingList postingList = postingListOf(1, 2);
+
+        // same values -> returns true
+        assertTrue(postingList.equals(postingListOf(2, 1)));
+
+        // same object -> returns true
+        assertTrue(postingList.equals(postingList));
+
+        // null -> returns false
+        assertFalse(postingList.equals(null));
+
+        // different values -> returns false
+        assertFalse(postingList.equals(postingListOf(1)));
+    }
+
+    private static PostingList postingListOf(int... ordinals) {
+        PostingList postingList = new PostingList();
+        for (int ordinal : ordinals) {
+            postingList.add(ordinal);
+        }
+        return postingList;
+    }
+}
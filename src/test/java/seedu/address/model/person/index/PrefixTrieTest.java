@@ -0,0 +1,57 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+
+    @Test
+    public void getCompletions_prefixInDifferentCase_valuesInOrder() {
+        prefixTrie.add("NUS High");
+        prefixTrie.add("NTU");
+        prefixTrie.add("NUS");
+        prefixTrie.add("Nanyang Polytechnic");
+
+        assertEquals(Arrays.asList("Nanyang Polytechnic", "NTU", "NUS", "NUS High"),
+                prefixTrie.getCompletions("n", 10));
+        assertEquals(Arrays.asList("NUS", "NUS High"), prefixTrie.getCompletions("nu", 10));
+        assertEquals(Collections.singletonList("Nanyang Polytechnic"), prefixTrie.getCompletions("", 1));
+        assertTrue(prefixTrie.getCompletions("SMU", 10).isEmpty());
+    }
+
+    @Test
+    public void add_valueInDifferentCase_completedWithFirstCase() {
+        prefixTrie.add("Computer Science");
+        prefixTrie.add("computer science");
+        assertEquals(Collections.singletonList("Computer Science"), prefixTrie.getCompletions("COMP", 10));
+    }
+
+    @Test
+    public void remove_valueAddedTwice_removedOnlyAfterSecondRemoval() {
+        prefixTrie.add("KIV");
+        prefixTrie.add("KIV");
+        prefixTrie.add("KIV later");
+
+        prefixTrie.remove("kiv");
+        assertEquals(Arrays.asList("KIV", "KIV later"), prefixTrie.getCompletions("K", 10));
+        prefixTrie.remove("KIV");
+        assertEquals(Collections.singletonList("KIV later"), prefixTrie.getCompletions("K", 10));
+        prefixTrie.remove("KIV later");
+        assertTrue(prefixTrie.getCompletions("", 10).isEmpty());
+    }
+
+    @Test
+    public void remove_valueNotAdded_nothingRemoved() {
+        prefixTrie.add("offered");
+        prefixTrie.remove("offer");
+        prefixTrie.remove("offered later");
+        assertEquals(Collections.singletonList("offered"), prefixTrie.getCompletions("off", 10));
+    }
+}
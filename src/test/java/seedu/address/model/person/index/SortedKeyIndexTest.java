@@ -0,0 +1,71 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SortedKeyIndexTest {
+
+    @Test
+    public void addAll_manyOrdinals_sameAsAddingOneAtATime() {
+        Random random = new Random(0);
+        int count = 1000;
+        int[] keys = new int[count];
+        int[] ordinals = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextInt(200) - 100;
+            ordinals[i] = count - 1 - i;
+        }
+
+        SortedKeyIndex incremental = new SortedKeyIndex();
+        for (int i = 0; i < count; i++) {
+            incremental.add(keys[i], ordinals[i]);
+        }
+        SortedKeyIndex bulk = new SortedKeyIndex();
+        bulk.addAll(keys, ordinals, count);
+
+        assertSameOrdinals(incremental, bulk);
+        for (int min = -101; min <= 101; min += 7) {
+            for (int max = min; max <= 101; max += 13) {
+                assertEquals(incremental.countOrdinalsBetween(min, max), bulk.countOrdinalsBetween(min, max));
+                assertEquals(incremental.getOrdinalsBetween(min, max), bulk.getOrdinalsBetween(min, max));
+            }
+        }
+    }
+
+    @Test
+    public void addAll_duplicatesAndEntriesAlreadyAdded_eachEntryKeptOnce() {
+        SortedKeyIndex index = new SortedKeyIndex();
+        index.add(5, 1);
+        index.add(3, 2);
+        index.addAll(new int[] {5, 4, 4, 3, 9}, new int[] {1, 3, 3, 0, 9}, 4);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, index.getOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE)
+                .toArray());
+        assertEquals(4, index.countOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertArrayEquals(new int[] {0, 2}, index.getOrdinalsBetween(3, 3).toArray());
+
+        // single adds and removes still work on entries added in bulk
+        index.remove(4, 3);
+        index.add(6, 7);
+        assertArrayEquals(new int[] {1, 7}, index.getOrdinalsBetween(4, 6).toArray());
+    }
+
+    @Test
+    public void addAll_noOrdinals_indexUnchanged() {
+        SortedKeyIndex index = new SortedKeyIndex();
+        index.add(1, 1);
+        index.addAll(new int[0], new int[0], 0);
+        assertEquals(1, index.countOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    private static void assertSameOrdinals(SortedKeyIndex expected, SortedKeyIndex actual) {
+        assertEquals(expected.countOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE),
+                actual.countOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(expected.getOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE),
+                actual.getOrdinalsBetween(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.index.PostingList;
+
+public class BooleanQueryPredicateTest {
+
+    private static final CanonicalPredicate MALE = new GenderContainsKeywordsPredicate(Arrays.asList("Male"));
+    private static final CanonicalPredicate SUTD_OR_NUS = new UniversityContainsKeywordsPredicate(
+            Arrays.asList("SUTD", "NUS"));
+    private static final CanonicalPredicate KIV = new TagContainsKeywordsPredicate(Arrays.asList("KIV"));
+    /** Not an {@code IndexedPredicate}, so its matches are found by testing every person. */
+    private static final CanonicalPredicate CAP_FOUR = new CapContainsKeywordsPredicate(Arrays.asList("4.00"));
+
+    private final PersonIndex index = new PersonIndex();
+
+    @Test
+    public void factories_noOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> BooleanQueryPredicate.and(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> BooleanQueryPredicate.or(Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> BooleanQueryPredicate.not(null));
+    }
+
+    @Test
+    public void test_booleanCombinations() {
+        BooleanQueryPredicate maleAndNotKiv = BooleanQueryPredicate.and(Arrays.asList(MALE,
+                BooleanQueryPredicate.not(KIV)));
+        assertTrue(maleAndNotKiv.test(CARL));
+        assertFalse(maleAndNotKiv.test(BENSON));
+        assertFalse(maleAndNotKiv.test(ALICE));
+
+        BooleanQueryPredicate kivOrCapFour = BooleanQueryPredicate.or(Arrays.asList(KIV, CAP_FOUR));
+        assertTrue(kivOrCapFour.test(BENSON));
+        assertFalse(kivOrCapFour.test(CARL));
+    }
+
+    @Test
+    public void getMatchingPersons_nestedQueries_sameAsTest() {
+        index.addAll(getTypicalPersons());
+        List<BooleanQueryPredicate> queries = Arrays.asList(
+                BooleanQueryPredicate.and(Arrays.asList(SUTD_OR_NUS, BooleanQueryPredicate.not(KIV))),
+                BooleanQueryPredicate.or(Arrays.asList(KIV, CAP_FOUR, BooleanQueryPredicate.not(MALE))),
+                BooleanQueryPredicate.not(BooleanQueryPredicate.or(Arrays.asList(MALE, KIV))),
+                BooleanQueryPredicate.and(Arrays.asList(BooleanQueryPredicate.not(MALE),
+                        BooleanQueryPredicate.not(CAP_FOUR))),
+                BooleanQueryPredicate.and(Arrays.asList(MALE, SUTD_OR_NUS, CAP_FOUR)));
+        for (BooleanQueryPredicate query : queries) {
+            assertEquals(filter(query), toPersons(query.getMatchingPersons(index)), query.toString());
+            assertTrue(query.estimateMatchingPersons(index) >= filter(query).size(), query.toString());
+        }
+    }
+
+    @Test
+    public void getMatchingPersons_personRemoved_notMatchedByNegation() {
+        index.addAll(Arrays.asList(ALICE, BENSON, CARL));
+        index.remove(ALICE);
+        assertEquals(new HashSet<>(Arrays.asList(CARL)),
+                toPersons(BooleanQueryPredicate.not(KIV).getMatchingPersons(index)));
+    }
+
+    @Test
+    public void getRelevanceScorer_negatedOperand_notScored() {
+        index.addAll(getTypicalPersons());
+        BooleanQueryPredicate query = BooleanQueryPredicate.or(Arrays.asList(SUTD_OR_NUS,
+                BooleanQueryPredicate.not(MALE)));
+        assertTrue(query.getRelevanceScorer(index).applyAsDouble(CARL) > 0);
+        assertEquals(0, query.getRelevanceScorer(index).applyAsDouble(ALICE));
+    }
+
+    @Test
+    public void getCanonicalForm_operandsInDifferentOrder_equal() {
+        assertEquals(BooleanQueryPredicate.and(Arrays.asList(MALE, KIV)).getCanonicalForm(),
+                BooleanQueryPredicate.and(Arrays.asList(KIV, MALE, KIV)).getCanonicalForm());
+        assertNotEquals(BooleanQueryPredicate.and(Arrays.asList(MALE, KIV)).getCanonicalForm(),
+                BooleanQueryPredicate.or(Arrays.asList(MALE, KIV)).getCanonicalForm());
+        assertNotEquals(BooleanQueryPredicate.not(MALE).getCanonicalForm(),
+                BooleanQueryPredicate.and(Collections.singletonList(MALE)).getCanonicalForm());
+    }
+
+    @Test
+    public void equals() {
+        BooleanQueryPredicate query = BooleanQueryPredicate.and(Arrays.asList(MALE, KIV));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(BooleanQueryPredicate.and(Arrays.asList(MALE, KIV))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(MALE));
+        assertFalse(query.equals(BooleanQueryPredicate.or(Arrays.asList(MALE, KIV))));
+        assertFalse(query.equals(BooleanQueryPredicate.and(Arrays.asList(KIV, MALE))));
+    }
+
+    private static Set<Person> filter(BooleanQueryPredicate query) {
+        Set<Person> matches = new HashSet<>();
+        for (Person person : getTypicalPersons()) {
+            if (query.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private Set<Person> toPersons(PostingList postingList) {
+        Set<Person> persons = new HashSet<>();
+        for (int ordinal : postingList.toArray()) {
+            persons.add(index.getPerson(ordinal));
+        }
+        return persons;
+    }
+}
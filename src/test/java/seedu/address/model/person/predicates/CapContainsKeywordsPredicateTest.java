@@ -36,6 +36,9 @@ public class CapContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same CAP values in hundredths -> returns true
+        assertTrue(secondPredicate.equals(new CapContainsKeywordsPredicate(Arrays.asList("2.00", "1.0", "1."))));
     }
 
     @Test
@@ -49,9 +52,14 @@ public class CapContainsKeywordsPredicateTest {
         predicate = new CapContainsKeywordsPredicate(Arrays.asList("3.5", "4"));
         assertTrue(predicate.test(new PersonBuilder().withCap(3.5, 5).build()));
 
-        // Keyword is converted to double
+        // Keyword is converted to hundredths
         predicate = new CapContainsKeywordsPredicate(Collections.singletonList("3"));
         assertTrue(predicate.test(new PersonBuilder().withCap(3.0, 5).build()));
+
+        // Keyword is rounded half up to hundredths, as the CAP is
+        predicate = new CapContainsKeywordsPredicate(Arrays.asList("3.455", ".5"));
+        assertTrue(predicate.test(new PersonBuilder().withCap(3.46, 5).build()));
+        assertTrue(predicate.test(new PersonBuilder().withCap(0.5, 5).build()));
     }
 
     @Test
@@ -68,5 +76,9 @@ public class CapContainsKeywordsPredicateTest {
         predicate = new CapContainsKeywordsPredicate(Arrays.asList("100", "12345", "3"));
         assertFalse(predicate.test(new PersonBuilder().withName("100").withPhone("12345")
                 .withCap(3.5, 5).build()));
+
+        // Keywords rounding to a different hundredth, or beyond any CAP
+        predicate = new CapContainsKeywordsPredicate(Arrays.asList("3.494", "3.506", "99999999999999999999"));
+        assertFalse(predicate.test(new PersonBuilder().withCap(3.5, 5).build()));
     }
 }
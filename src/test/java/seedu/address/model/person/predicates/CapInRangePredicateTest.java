@@ -0,0 +1,92 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.CapRange;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class CapInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        CapInRangePredicate firstPredicate = new CapInRangePredicate(ranges(">=3.5"));
+        CapInRangePredicate secondPredicate = new CapInRangePredicate(ranges(">=3.5", "<2"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new CapInRangePredicate(ranges(">= 3.50"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_capInRange_returnsTrue() {
+        // One range
+        CapInRangePredicate predicate = new CapInRangePredicate(ranges("3.5-4.0"));
+        assertTrue(predicate.test(new PersonBuilder().withCap(3.5, 5).build()));
+
+        // Only one matching range
+        predicate = new CapInRangePredicate(ranges("<3", ">=90%"));
+        assertTrue(predicate.test(new PersonBuilder().withCap(4.5, 5).build()));
+    }
+
+    @Test
+    public void test_capNotInRange_returnsFalse() {
+        // Zero ranges
+        CapInRangePredicate predicate = new CapInRangePredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withCap(3.5, 5).build()));
+
+        // Non-matching ranges
+        predicate = new CapInRangePredicate(ranges(">3.5", "<70%"));
+        assertFalse(predicate.test(new PersonBuilder().withCap(3.5, 5).build()));
+    }
+
+    @Test
+    public void getMatchingPersons_indexedPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        CapInRangePredicate predicate = new CapInRangePredicate(ranges("3.9-3.99", ">=99%"));
+
+        // ALICE has 3.90/5.0 and CARL has 3.99/4.0, which is in both ranges and so is counted twice
+        assertArrayEquals(new int[] {0, 2}, predicate.getMatchingPersons(index).toArray());
+        assertEquals(3, predicate.estimateMatchingPersons(index));
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            assertEquals(predicate.test(index.getPerson(ordinal)),
+                    predicate.getMatchingPersons(index).contains(ordinal));
+        }
+    }
+
+    @Test
+    public void getCanonicalForm_sameRangesInDifferentOrder_equal() {
+        assertEquals(new CapInRangePredicate(ranges("3.5-4", "80%")).getCanonicalForm(),
+                new CapInRangePredicate(ranges("80.00%", "3.50-4.00", "80%")).getCanonicalForm());
+    }
+
+    private static List<CapRange> ranges(String... ranges) {
+        return Arrays.stream(ranges).map(CapRange::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.RegexStepLimitExceededException;
+import seedu.address.model.person.index.IndexedField;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldMatchesRegexPredicateTest {
+
+    @Test
+    public void equals() {
+        FieldMatchesRegexPredicate firstPredicate = new FieldMatchesRegexPredicate(IndexedField.PHONE, "^9");
+        FieldMatchesRegexPredicate secondPredicate = new FieldMatchesRegexPredicate(IndexedField.EMAIL, "^9");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FieldMatchesRegexPredicate(IndexedField.PHONE, "^9")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different regex -> returns false
+        assertFalse(firstPredicate.equals(new FieldMatchesRegexPredicate(IndexedField.PHONE, "^8")));
+    }
+
+    @Test
+    public void test_fieldMatchesRegex_returnsTrue() {
+        // Anchored pattern
+        FieldMatchesRegexPredicate predicate = new FieldMatchesRegexPredicate(IndexedField.PHONE, "^9\\d{7}$");
+        assertTrue(predicate.test(new PersonBuilder().withPhone("94351253").build()));
+
+        // Mixed-case pattern
+        predicate = new FieldMatchesRegexPredicate(IndexedField.EMAIL, "@EXAMPLE\\.com$");
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
+
+        // Any one tag matches
+        predicate = new FieldMatchesRegexPredicate(IndexedField.TAG, "^off");
+        assertTrue(predicate.test(new PersonBuilder().withTags("KIV", "offered").build()));
+    }
+
+    @Test
+    public void test_fieldDoesNotMatchRegex_returnsFalse() {
+        FieldMatchesRegexPredicate predicate = new FieldMatchesRegexPredicate(IndexedField.PHONE, "^9\\d{7}$");
+        assertFalse(predicate.test(new PersonBuilder().withPhone("9482224").build()));
+
+        // Matches another field only
+        predicate = new FieldMatchesRegexPredicate(IndexedField.NAME, "example");
+        assertFalse(predicate.test(new PersonBuilder().withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void test_pathologicalRegex_throwsRegexStepLimitExceededException() {
+        FieldMatchesRegexPredicate predicate = new FieldMatchesRegexPredicate(IndexedField.ADDRESS, "(.*a){20}");
+        assertThrows(RegexStepLimitExceededException.class, () -> predicate.test(
+                new PersonBuilder().withAddress("aaaaaaaaaaaaaaaaaaaaaaaa!").build()));
+    }
+
+    @Test
+    public void getMatchingPersons_indexedPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+
+        // trigram field, narrowed down by the literal "@example.com"
+        assertMatches(index, new FieldMatchesRegexPredicate(IndexedField.EMAIL, "^[a-h]\\w*@example\\.com$"),
+                0, 2, 3);
+        // word field, narrowed down by the literal "meier"
+        assertMatches(index, new FieldMatchesRegexPredicate(IndexedField.NAME, "\\bMEIER$"), 1, 3);
+        // no literals, so every person is tested
+        assertMatches(index, new FieldMatchesRegexPredicate(IndexedField.PHONE, "^(9|8)\\d{7}$"), 0, 1, 2, 3);
+        assertMatches(index, new FieldMatchesRegexPredicate(IndexedField.PHONE, "^7"));
+    }
+
+    @Test
+    public void estimateMatchingPersons_indexedPersons_isUpperBound() {
+        PersonIndex index = new PersonIndex();
+        index.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        FieldMatchesRegexPredicate predicate = new FieldMatchesRegexPredicate(IndexedField.EMAIL, "^heinz@");
+        assertTrue(predicate.estimateMatchingPersons(index) >= predicate.getMatchingPersons(index).size());
+        assertTrue(predicate.estimateMatchingPersons(index) < index.size());
+
+        // the literals of a field indexed by words are not estimated
+        predicate = new FieldMatchesRegexPredicate(IndexedField.NAME, "Kurz");
+        assertEquals(index.size(), predicate.estimateMatchingPersons(index));
+    }
+
+    private static void assertMatches(PersonIndex index, FieldMatchesRegexPredicate predicate, int... expected) {
+        assertArrayEquals(expected, predicate.getMatchingPersons(index).toArray());
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            assertEquals(predicate.test(index.getPerson(ordinal)),
+                    predicate.getMatchingPersons(index).contains(ordinal));
+        }
+    }
+}
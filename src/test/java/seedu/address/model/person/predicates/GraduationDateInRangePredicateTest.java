@@ -0,0 +1,96 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.GraduationDateRange;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class GraduationDateInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        GraduationDateInRangePredicate firstPredicate = new GraduationDateInRangePredicate(ranges(">=05-2024"));
+        GraduationDateInRangePredicate secondPredicate = new GraduationDateInRangePredicate(
+                ranges(">=05-2024", "<01-2020"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new GraduationDateInRangePredicate(ranges("05-2024.."))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ranges -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_graduationDateInRange_returnsTrue() {
+        // One range
+        GraduationDateInRangePredicate predicate = new GraduationDateInRangePredicate(ranges("05-2024..12-2025"));
+        assertTrue(predicate.test(new PersonBuilder().withGraduationDate("05-2024").build()));
+
+        // Only one matching range
+        predicate = new GraduationDateInRangePredicate(ranges("<01-2020", ">=01-2030"));
+        assertTrue(predicate.test(new PersonBuilder().withGraduationDate("06-2031").build()));
+    }
+
+    @Test
+    public void test_graduationDateNotInRange_returnsFalse() {
+        // Zero ranges
+        GraduationDateInRangePredicate predicate = new GraduationDateInRangePredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withGraduationDate("05-2024").build()));
+
+        // Non-matching ranges
+        predicate = new GraduationDateInRangePredicate(ranges(">05-2024", "<05-2024"));
+        assertFalse(predicate.test(new PersonBuilder().withGraduationDate("05-2024").build()));
+    }
+
+    @Test
+    public void getMatchingPersons_indexedPersons_sameAsTest() {
+        PersonIndex index = new PersonIndex();
+        index.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        GraduationDateInRangePredicate predicate = new GraduationDateInRangePredicate(
+                ranges("05-2024..09-2026", ">=06-2024"));
+
+        // ALICE graduates in 05-2024, BENSON in 01-2025 and CARL in 09-2026, and the last two are in both ranges
+        // and so are counted twice
+        assertArrayEquals(new int[] {0, 1, 2}, predicate.getMatchingPersons(index).toArray());
+        assertEquals(4, predicate.estimateMatchingPersons(index));
+        for (int ordinal = 0; ordinal < index.size(); ordinal++) {
+            assertEquals(predicate.test(index.getPerson(ordinal)),
+                    predicate.getMatchingPersons(index).contains(ordinal));
+        }
+    }
+
+    @Test
+    public void getCanonicalForm_sameRangesInDifferentOrder_equal() {
+        assertEquals(new GraduationDateInRangePredicate(ranges(">=05-2024", "01-2025")).getCanonicalForm(),
+                new GraduationDateInRangePredicate(ranges("01-2025", "05-2024..", "01-2025..01-2025"))
+                        .getCanonicalForm());
+    }
+
+    private static List<GraduationDateRange> ranges(String... ranges) {
+        return Arrays.stream(ranges).map(GraduationDateRange::new).collect(Collectors.toList());
+    }
+}
@@ -1,15 +1,25 @@
 package seedu.address.model.person.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
 class ListOfContainsKeywordsPredicatesTest {
 
     @Test
@@ -56,4 +66,136 @@ class ListOfContainsKeywordsPredicatesTest {
         secondPredicateList.addPredicate(majorPredicate);
         assertTrue(firstPredicateList.equals(secondPredicateList));
     }
+
+    @Test
+    void getCanonicalForm() {
+        ListOfContainsKeywordsPredicates predicateList = new ListOfContainsKeywordsPredicates(new ArrayList<>(
+                Arrays.asList(new TagContainsKeywordsPredicate(Arrays.asList("KIV", "offered")),
+                        new CapContainsKeywordsPredicate(Arrays.asList("4.00", "3.50")))));
+
+        // keywords in different case, order and repetition -> same canonical form
+        ListOfContainsKeywordsPredicates samePredicateList = new ListOfContainsKeywordsPredicates(new ArrayList<>(
+                Arrays.asList(new CapContainsKeywordsPredicate(Arrays.asList("3.50", "4.00", "3.50")),
+                        new TagContainsKeywordsPredicate(Arrays.asList("Offered", "kiv")))));
+        assertEquals(predicateList.getCanonicalForm(), samePredicateList.getCanonicalForm());
+
+        // different keywords -> different canonical form
+        ListOfContainsKeywordsPredicates differentPredicateList = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(new TagContainsKeywordsPredicate(Arrays.asList("KIV")))));
+        assertFalse(predicateList.getCanonicalForm().equals(differentPredicateList.getCanonicalForm()));
+
+        // predicate without canonical form -> no canonical form
+        ListOfContainsKeywordsPredicates predicateListWithLambda = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(person -> true)));
+        assertFalse(predicateListWithLambda.getCanonicalForm().isPresent());
+    }
+
+    @Test
+    void refines() {
+        MajorContainsKeywordsPredicate majorPredicate = new MajorContainsKeywordsPredicate(
+                Collections.singletonList("first"));
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(
+                Collections.singletonList("second"));
+        ListOfContainsKeywordsPredicates majorList = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(majorPredicate)));
+        ListOfContainsKeywordsPredicates majorAndNameList = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Arrays.asList(namePredicate, majorPredicate)));
+
+        assertTrue(majorAndNameList.refines(majorList));
+        assertTrue(majorList.refines(majorList));
+        assertFalse(majorList.refines(majorAndNameList));
+    }
+
+    @Test
+    void getRefinedPredicate_currentMatchesOfRefinedList_sameMatchesAsWithoutRefining() {
+        AddressBook addressBook = getTypicalAddressBook();
+        GenderContainsKeywordsPredicate malePredicate = new GenderContainsKeywordsPredicate(
+                Collections.singletonList("male"));
+        EmailContainsKeywordsPredicate emailPredicate = new EmailContainsKeywordsPredicate(
+                Collections.singletonList("e"));
+        ListOfContainsKeywordsPredicates maleList = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Collections.singletonList(malePredicate)));
+        ListOfContainsKeywordsPredicates maleAndEmailList = new ListOfContainsKeywordsPredicates(
+                new ArrayList<>(Arrays.asList(malePredicate, emailPredicate)));
+
+        List<Person> maleMatches = filter(addressBook, maleList.getChainedPredicate());
+        assertEquals(filter(addressBook, maleAndEmailList.getChainedPredicate()),
+                filter(addressBook, maleAndEmailList.getRefinedPredicate(maleList, maleMatches,
+                        addressBook.getPersonIndex(), addressBook.getQueryPlanner())));
+    }
+
+    @Test
+    void lookUpMatches_indexedPredicates_sameMatchesAsWithoutIndex() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<ListOfContainsKeywordsPredicates> predicateLists = Arrays.asList(
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Arrays.asList(
+                        new GenderContainsKeywordsPredicate(Collections.singletonList("MALE")),
+                        new JobIdContainsKeywordsPredicate(Collections.singletonList("j02"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Arrays.asList(
+                        new MajorContainsKeywordsPredicate(Arrays.asList("engineering", "accounting")),
+                        new NameContainsKeywordsPredicate(Collections.singletonList("meier"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Arrays.asList(
+                        new TagContainsKeywordsPredicate(Arrays.asList("kiv", "friends")),
+                        new UniversityContainsKeywordsPredicate(Collections.singletonList("nus")),
+                        new JobTitleContainsKeywordsPredicate(Collections.singletonList("software"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Collections.singletonList(
+                        new UniversityContainsKeywordsPredicate(Collections.singletonList("unknown"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Arrays.asList(
+                        new EmailContainsKeywordsPredicate(Arrays.asList("example.COM", "nus")),
+                        new PhoneContainsKeywordsPredicate(Collections.singletonList("9"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Collections.singletonList(
+                        new NameContainsKeywordsPredicate(Collections.singletonList("alice"))))),
+                new ListOfContainsKeywordsPredicates(new ArrayList<>(Arrays.asList(
+                        new CapContainsKeywordsPredicate(Arrays.asList("4.00", "3.99")),
+                        new EmailContainsKeywordsPredicate(Collections.singletonList("example")),
+                        new GenderContainsKeywordsPredicate(Collections.singletonList("male"))))));
+
+        for (ListOfContainsKeywordsPredicates predicateList : predicateLists) {
+            // the persons are looked up in the order of their ordinals, which is the order they were added in
+            assertEquals(filter(addressBook, predicateList.getChainedPredicate()),
+                    predicateList.lookUpMatches(addressBook.getPersonIndex(), addressBook.getQueryPlanner()).get()
+                            .asList());
+            assertEquals(filter(addressBook, predicateList.getChainedPredicate()),
+                    filter(addressBook, predicateList.getChainedPredicate(addressBook.getPersonIndex(),
+                            addressBook.getQueryPlanner())));
+        }
+
+        // only persons found through the index are matched
+        ListOfContainsKeywordsPredicates predicateList = predicateLists.get(2);
+        assertEquals(Collections.singletonList(BENSON), filter(addressBook,
+                predicateList.lookUpMatches(addressBook.getPersonIndex(), addressBook.getQueryPlanner()).get()));
+    }
+
+    @Test
+    void lookUpMatches_noIndexedPredicate_empty() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ListOfContainsKeywordsPredicates capList = new ListOfContainsKeywordsPredicates(new ArrayList<>(
+                Collections.singletonList(new CapContainsKeywordsPredicate(Collections.singletonList("4")))));
+        assertFalse(capList.lookUpMatches(addressBook.getPersonIndex(), addressBook.getQueryPlanner()).isPresent());
+    }
+
+    private static List<Person> filter(AddressBook addressBook, Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    void getMostRelevantPersons_keywordsInSeveralFields_rankedByRelevance() {
+        Person commonName = new PersonBuilder().withName("Tan Wei").withEmail("a@x.com").withTags("kiv").build();
+        Person rareName = new PersonBuilder().withName("Lim Wei").withEmail("b@x.com").withTags("kiv").build();
+        Person repeatedName = new PersonBuilder().withName("Tan Tan").withEmail("c@x.com").withTags("kiv").build();
+        Person otherTag = new PersonBuilder().withName("Tan Ann").withEmail("d@x.com").withTags("offered").build();
+        List<Person> persons = Arrays.asList(commonName, rareName, repeatedName, otherTag);
+        PersonIndex index = new PersonIndex();
+        index.addAll(persons);
+
+        ListOfContainsKeywordsPredicates predicates = ListOfContainsKeywordsPredicates
+                .newListOfContainsKeywordsPredicates();
+        predicates.addPredicate(new NameContainsKeywordsPredicate(Arrays.asList("tan", "lim")));
+        predicates.addPredicate(new TagContainsKeywordsPredicate(Arrays.asList("kiv", "offered")));
+
+        // lim is rarer than tan, offered is rarer than kiv but matches in a field with a lower weight
+        assertEquals(Arrays.asList(rareName, otherTag, repeatedName, commonName),
+                predicates.getMostRelevantPersons(persons, index, 4));
+        assertEquals(Arrays.asList(rareName, otherTag), predicates.getMostRelevantPersons(persons, index, 2));
+    }
 }
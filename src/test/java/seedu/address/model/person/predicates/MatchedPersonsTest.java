@@ -0,0 +1,43 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchedPersonsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MatchedPersons(null));
+    }
+
+    @Test
+    public void test_personsFound_matchedByIdentity() {
+        MatchedPersons matches = new MatchedPersons(Arrays.asList(BENSON, ALICE));
+        assertTrue(matches.test(ALICE));
+        assertFalse(matches.test(CARL));
+
+        // an equal person that was not found is not matched
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertFalse(matches.test(aliceCopy));
+    }
+
+    @Test
+    public void asList_personsFound_inOrderFound() {
+        MatchedPersons matches = new MatchedPersons(Arrays.asList(BENSON, ALICE));
+        assertEquals(Arrays.asList(BENSON, ALICE), matches.asList());
+        assertEquals(2, matches.size());
+        assertThrows(UnsupportedOperationException.class, () -> matches.asList().add(CARL));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PostingList;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        NameSimilarToKeywordsPredicate firstPredicateCopy =
+                new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // same keywords, exact match -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different person -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameSimilarToKeywords_returnsTrue() {
+        // Exact keyword
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("Alice"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Misspelt keyword
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Alise"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two edits away from a long keyword
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Katherina"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Catherine Tan").build()));
+
+        // Different romanization that sounds alike
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Muhammad"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Mohamed Ali").build()));
+
+        // Mixed-case keywords
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("aLIse", "Carol"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToKeywords_returnsFalse() {
+        // Zero keywords
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Too many edits away
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Carol"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Short keyword only matches exactly
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Bo"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Ben").build()));
+    }
+
+    @Test
+    public void getMatchingPersons_sameMatchesAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ReadOnlyPersonIndex index = addressBook.getPersonIndex();
+        for (String keyword : Arrays.asList("Alise", "kurtz", "Meyer", "benson", "Elly", "Bst", "unknown")) {
+            NameSimilarToKeywordsPredicate predicate =
+                    new NameSimilarToKeywordsPredicate(Collections.singletonList(keyword));
+            List<Person> expectedPersons = addressBook.getPersonList().stream()
+                    .filter(predicate).collect(Collectors.toList());
+            assertEquals(expectedPersons, toPersons(index, predicate.getMatchingPersons(index)), keyword);
+        }
+    }
+
+    private static List<Person> toPersons(ReadOnlyPersonIndex index, PostingList postingList) {
+        return Arrays.stream(postingList.toArray()).mapToObj(index::getPerson).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.ReadOnlyPersonIndex;
+
+public class QueryPlannerTest {
+
+    private final QueryPlanner planner = new QueryPlanner();
+    private final ReadOnlyPersonIndex index = getTypicalAddressBook().getPersonIndex();
+
+    private final GenderContainsKeywordsPredicate malePredicate =
+            new GenderContainsKeywordsPredicate(Collections.singletonList("male"));
+    private final UniversityContainsKeywordsPredicate nusPredicate =
+            new UniversityContainsKeywordsPredicate(Collections.singletonList("NUS"));
+    private final EmailContainsKeywordsPredicate emailPredicate =
+            new EmailContainsKeywordsPredicate(Collections.singletonList("example.com"));
+
+    @Test
+    public void plan_indexedPredicates_smallestEstimateDrivesAccessPath() {
+        QueryPlanner.Plan plan = planner.plan(Arrays.asList(malePredicate, nusPredicate), index);
+        assertEquals(nusPredicate, plan.getAccessPath().get(0));
+    }
+
+    @Test
+    public void plan_postingListLargerThanExpectedCandidates_testedAsResidual() {
+        QueryPlanner.Plan plan = planner.plan(Arrays.asList(emailPredicate, malePredicate, nusPredicate), index);
+        assertEquals(Collections.singletonList(nusPredicate), plan.getAccessPath());
+
+        // the gender predicate rejects some persons, while every person has an example.com email
+        assertEquals(Arrays.asList(malePredicate, emailPredicate), plan.getResiduals());
+    }
+
+    @Test
+    public void plan_noIndexedPredicate_emptyAccessPath() {
+        CapContainsKeywordsPredicate capPredicate = new CapContainsKeywordsPredicate(Collections.singletonList("4"));
+        QueryPlanner.Plan plan = planner.plan(Collections.singletonList(capPredicate), index);
+        assertTrue(plan.getAccessPath().isEmpty());
+        assertEquals(Collections.singletonList(capPredicate), plan.getResiduals());
+    }
+
+    @Test
+    public void order_hitRatesRecorded_lowestHitRateFirst() {
+        Predicate<Person> rarelySatisfied = person -> false;
+        Predicate<Person> oftenSatisfied = person -> true;
+        List<Predicate<Person>> predicates = Arrays.asList(oftenSatisfied, rarelySatisfied);
+
+        planner.recordHits(rarelySatisfied, index, 100, 1);
+        planner.recordHits(oftenSatisfied, index, 100, 99);
+        assertEquals(Arrays.asList(rarelySatisfied, oftenSatisfied), planner.order(predicates, index));
+    }
+
+    @Test
+    public void getSelectivity_noHitsRecorded_oneHalf() {
+        CapContainsKeywordsPredicate capPredicate = new CapContainsKeywordsPredicate(Collections.singletonList("4"));
+        assertEquals(0.5, planner.getSelectivity(capPredicate, index));
+        planner.recordHits(capPredicate, index, 8, 0);
+        assertEquals(0.1, planner.getSelectivity(capPredicate, index));
+    }
+
+    @Test
+    public void getSelectivity_indexedPredicate_hitRatesKeptPerKeywordCardinality() {
+        // with no hit rate observed, the estimate from the index is used
+        assertEquals(malePredicate.estimateMatchingPersons(index) / (double) index.size(),
+                planner.getSelectivity(malePredicate, index));
+
+        GenderContainsKeywordsPredicate unknownPredicate =
+                new GenderContainsKeywordsPredicate(Collections.singletonList("unknown"));
+        planner.recordHits(unknownPredicate, index, 8, 0);
+        assertEquals(0.1, planner.getSelectivity(unknownPredicate, index));
+        // keywords of the same field matching many more persons do not share the hit rate
+        assertEquals(malePredicate.estimateMatchingPersons(index) / (double) index.size(),
+                planner.getSelectivity(malePredicate, index));
+    }
+
+    @Test
+    public void clear_hitRatesRecorded_hitRatesForgotten() {
+        CapContainsKeywordsPredicate capPredicate = new CapContainsKeywordsPredicate(Collections.singletonList("4"));
+        planner.recordHits(capPredicate, index, 8, 0);
+        planner.clear();
+        assertEquals(0.5, planner.getSelectivity(capPredicate, index));
+    }
+
+    @Test
+    public void orderByCost_predicates_cheapestFirst() {
+        NameSimilarToKeywordsPredicate similarPredicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("alice"));
+        assertEquals(Arrays.asList(malePredicate, similarPredicate),
+                QueryPlanner.orderByCost(Arrays.asList(similarPredicate, malePredicate)));
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.IndexedField;
+
+public class RelevanceRankerTest {
+
+    private static final List<Person> PERSONS = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+
+    @Test
+    public void getTopPersons_limitBelowPersonCount_mostRelevantInOrder() {
+        Map<Person, Double> scores = Map.of(ALICE, 1.0, BENSON, 4.0, CARL, 2.0, DANIEL, 3.0);
+        assertEquals(Arrays.asList(BENSON, DANIEL), RelevanceRanker.getTopPersons(PERSONS, scores::get, 2));
+        assertEquals(Arrays.asList(BENSON, DANIEL, CARL, ALICE),
+                RelevanceRanker.getTopPersons(PERSONS, scores::get, 10));
+    }
+
+    @Test
+    public void getTopPersons_equalScores_earlierPersonsFirst() {
+        Map<Person, Double> scores = Map.of(ALICE, 1.0, BENSON, 2.0, CARL, 1.0, DANIEL, 2.0);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ALICE), RelevanceRanker.getTopPersons(PERSONS, scores::get, 3));
+        assertEquals(Collections.singletonList(ALICE), RelevanceRanker.getTopPersons(PERSONS, person -> 0, 1));
+    }
+
+    @Test
+    public void getTopPersons_invalidArguments_throwsException() {
+        assertTrue(RelevanceRanker.getTopPersons(Collections.emptyList(), person -> 1, 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> RelevanceRanker.getTopPersons(PERSONS, person -> 1, 0));
+        assertThrows(NullPointerException.class, () -> RelevanceRanker.getTopPersons(null, person -> 1, 1));
+    }
+
+    @Test
+    public void getKeywordScore_rarerKeywordOrShorterField_higherScore() {
+        double rareKeyword = RelevanceRanker.getInverseDocumentFrequency(1, 100);
+        double commonKeyword = RelevanceRanker.getInverseDocumentFrequency(50, 100);
+        assertTrue(rareKeyword > commonKeyword);
+        assertTrue(commonKeyword > 0);
+
+        assertTrue(RelevanceRanker.getKeywordScore(rareKeyword, 1, 2, 2)
+                > RelevanceRanker.getKeywordScore(commonKeyword, 1, 2, 2));
+        assertTrue(RelevanceRanker.getKeywordScore(rareKeyword, 1, 2, 3)
+                > RelevanceRanker.getKeywordScore(rareKeyword, 1, 4, 3));
+        assertEquals(0, RelevanceRanker.getKeywordScore(rareKeyword, 0, 2, 3));
+
+        // repeated occurrences raise the score less and less
+        double once = RelevanceRanker.getKeywordScore(rareKeyword, 1, 3, 3);
+        double twice = RelevanceRanker.getKeywordScore(rareKeyword, 2, 3, 3);
+        double thrice = RelevanceRanker.getKeywordScore(rareKeyword, 3, 3, 3);
+        assertTrue(twice - once > thrice - twice);
+    }
+
+    @Test
+    public void getFieldWeight_nameTagAddress_decreasingWeights() {
+        assertTrue(RelevanceRanker.getFieldWeight(IndexedField.NAME)
+                > RelevanceRanker.getFieldWeight(IndexedField.TAG));
+        assertTrue(RelevanceRanker.getFieldWeight(IndexedField.TAG)
+                > RelevanceRanker.getFieldWeight(IndexedField.ADDRESS));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.GenderContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ListOfContainsKeywordsPredicates;
+import seedu.address.model.search.exceptions.DuplicateSavedSearchException;
+import seedu.address.model.search.exceptions.SavedSearchNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class SavedSearchListTest {
+
+    private final SavedSearchList savedSearchList = new SavedSearchList();
+
+    private static SavedSearch maleSearch(String name) {
+        return new SavedSearch(name, "g/male", new ListOfContainsKeywordsPredicates(
+                Collections.singletonList(new GenderContainsKeywordsPredicate(Collections.singletonList("male")))));
+    }
+
+    private void addTo(SavedSearchList list, SavedSearch search, List<Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        list.add(search, persons, addressBook.getPersonIndex(), addressBook.getQueryPlanner());
+    }
+
+    @Test
+    public void add_search_personsFound() {
+        SavedSearch search = maleSearch("male");
+        addTo(savedSearchList, search, Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(2, search.size());
+        assertTrue(search.contains(BENSON));
+        assertFalse(search.contains(ALICE));
+        assertTrue(savedSearchList.contains("MALE"));
+        assertEquals(search, savedSearchList.get("Male").get());
+    }
+
+    @Test
+    public void add_duplicateName_throwsDuplicateSavedSearchException() {
+        addTo(savedSearchList, maleSearch("male"), Collections.emptyList());
+        assertThrows(DuplicateSavedSearchException.class, () ->
+                addTo(savedSearchList, maleSearch("Male"), Collections.emptyList()));
+    }
+
+    @Test
+    public void remove_missingSearch_throwsSavedSearchNotFoundException() {
+        assertThrows(SavedSearchNotFoundException.class, () -> savedSearchList.remove("male"));
+    }
+
+    @Test
+    public void personChanges_foundPersonsUpdated() {
+        SavedSearch search = maleSearch("male");
+        addTo(savedSearchList, search, Arrays.asList(ALICE, BENSON));
+
+        savedSearchList.personAdded(CARL);
+        savedSearchList.personAdded(new PersonBuilder(DANIEL).withGender("female").build());
+        assertEquals(2, search.size());
+
+        Person femaleBenson = new PersonBuilder(BENSON).withGender("female").build();
+        savedSearchList.personSet(BENSON, femaleBenson);
+        assertFalse(search.contains(BENSON));
+        assertFalse(search.contains(femaleBenson));
+
+        Person maleAlice = new PersonBuilder(ALICE).withGender("male").build();
+        savedSearchList.personSet(ALICE, maleAlice);
+        assertTrue(search.contains(maleAlice));
+
+        savedSearchList.personRemoved(CARL);
+        assertEquals(1, search.size());
+    }
+
+    @Test
+    public void setSavedSearches_copiesKeepFoundPersons() {
+        SavedSearch search = maleSearch("male");
+        addTo(savedSearchList, search, Arrays.asList(BENSON, CARL));
+
+        SavedSearchList copy = new SavedSearchList();
+        copy.setSavedSearches(savedSearchList.asUnmodifiableList());
+        assertEquals(savedSearchList, copy);
+
+        // changes to the copy do not affect the original
+        copy.personRemoved(BENSON);
+        assertTrue(search.contains(BENSON));
+        assertFalse(copy.get("male").get().contains(BENSON));
+    }
+
+    @Test
+    public void setSavedSearches_duplicateNames_throwsDuplicateSavedSearchException() {
+        assertThrows(DuplicateSavedSearchException.class, () ->
+                savedSearchList.setSavedSearches(Arrays.asList(maleSearch("male"), maleSearch("MALE"))));
+    }
+
+    @Test
+    public void isValidName() {
+        assertTrue(SavedSearch.isValidName("offered-2024"));
+        assertFalse(SavedSearch.isValidName(""));
+        assertFalse(SavedSearch.isValidName("-offered"));
+        assertFalse(SavedSearch.isValidName("offered 2024"));
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> savedSearchList.asUnmodifiableList().clear());
+    }
+}
@@ -1,16 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
+import seedu.address.model.search.QueryParser;
+import seedu.address.model.search.SavedSearch;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,12 +30,16 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path SAVED_SEARCH_FILE = TEST_DATA_FOLDER.resolve("savedSearchAddressBook.json");
+    private static final Path INVALID_SAVED_SEARCH_FILE =
+            TEST_DATA_FOLDER.resolve("invalidSavedSearchAddressBook.json");
+    private static final QueryParser QUERY_PARSER = new FindCommandParser()::parsePredicates;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
                 JsonSerializableAddressBook.class).get();
-        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        AddressBook addressBookFromFile = dataFromFile.toModelType(QUERY_PARSER);
         AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
@@ -33,7 +48,7 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, () -> dataFromFile.toModelType(QUERY_PARSER));
     }
 
     @Test
@@ -41,7 +56,52 @@ public class JsonSerializableAddressBookTest {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+                () -> dataFromFile.toModelType(QUERY_PARSER));
+    }
+
+    @Test
+    public void toModelType_savedSearchFile_foundPersonsNotSearchedAgain() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(SAVED_SEARCH_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType(QUERY_PARSER);
+        SavedSearch search = addressBookFromFile.getSavedSearch("male").get();
+        // the persons found are those stored, even though the search would also find DANIEL
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, CARL)), new HashSet<>(search.getMembers()));
+        assertFalse(search.getMembers().contains(DANIEL));
+        // the persons found are the persons read, rather than equal copies of them
+        assertTrue(search.contains(addressBookFromFile.getPersonList().get(1)));
+    }
+
+    @Test
+    public void toModelType_invalidSavedSearchFile_savedSearchDroppedPersonsRead() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_SAVED_SEARCH_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType(QUERY_PARSER);
+        assertEquals(7, addressBookFromFile.getPersonList().size());
+        assertTrue(addressBookFromFile.getSavedSearchList().isEmpty());
+    }
+
+    @Test
+    public void toModelType_unparsableAndDuplicateSavedSearches_onlyValidSavedSearchKept() throws Exception {
+        JsonSerializableAddressBook dataFromFile = new JsonSerializableAddressBook(
+                Collections.singletonList(new JsonAdaptedPerson(BENSON)), Arrays.asList(
+                        new JsonAdaptedSavedSearch("broken", "g/", Collections.emptyList()),
+                        new JsonAdaptedSavedSearch("male", "g/male", Collections.singletonList(0)),
+                        new JsonAdaptedSavedSearch("MALE", "g/female", Collections.emptyList())));
+        AddressBook addressBookFromFile = dataFromFile.toModelType(QUERY_PARSER);
+        assertEquals(Collections.singletonList(BENSON), addressBookFromFile.getPersonList());
+        assertEquals(1, addressBookFromFile.getSavedSearchList().size());
+        assertEquals("g/male", addressBookFromFile.getSavedSearchList().get(0).getQuery());
+        assertTrue(addressBookFromFile.getSavedSearchList().get(0)
+                .contains(addressBookFromFile.getPersonList().get(0)));
+    }
+
+    @Test
+    public void toModelType_savedSearchesRoundTrip_success() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addSavedSearch(new SavedSearch("friends", "t/friends",
+                new FindCommandParser().parsePredicates(" t/friends")));
+        assertEquals(addressBook, new JsonSerializableAddressBook(addressBook).toModelType(QUERY_PARSER));
     }
 
 }
@@ -1,5 +1,8 @@
 package seedu.address.testutil;
 
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
@@ -31,4 +34,30 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that {@code regex} matches, among all the strings of
+     * at most {@code maxLength} characters from {@code alphabet}.
+     */
+    public static void assertSameAsRegex(String regex, Predicate<String> validator, String alphabet, int maxLength) {
+        Pattern pattern = Pattern.compile(regex);
+        char[] chars = new char[maxLength];
+        for (int length = 0; length <= maxLength; length++) {
+            int[] digits = new int[length];
+            while (true) {
+                for (int i = 0; i < length; i++) {
+                    chars[i] = alphabet.charAt(digits[i]);
+                }
+                String test = new String(chars, 0, length);
+                Assertions.assertEquals(pattern.matcher(test).matches(), validator.test(test), "\"" + test + "\"");
+                int i = length - 1;
+                while (i >= 0 && ++digits[i] == alphabet.length()) {
+                    digits[i--] = 0;
+                }
+                if (i < 0) {
+                    break;
+                }
+            }
+        }
+    }
 }